@@ -0,0 +1,60 @@
+package kr.kro.airbob.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kr.kro.airbob.domain.availability.AvailabilityBitmap;
+import kr.kro.airbob.domain.availability.CalendarSegment;
+
+// 예약 가능 여부 확인/반영 시 매 요청마다 실행되는 비트맵 연산 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AvailabilityBitmapBenchmark {
+
+	@Param({"2", "14", "30"})
+	private int nights;
+
+	private byte[] empty;
+	private byte[] halfBooked;
+	private LocalDate checkIn;
+	private LocalDate checkOut;
+
+	@Setup
+	public void setUp() {
+		empty = AvailabilityBitmap.empty();
+		halfBooked = AvailabilityBitmap.empty();
+		for (int day = 0; day < AvailabilityBitmap.DAYS_PER_YEAR; day += 2) {
+			halfBooked = AvailabilityBitmap.book(halfBooked, day, day + 1);
+		}
+		checkIn = LocalDate.of(2025, 12, 31).minusDays(ThreadLocalRandom.current().nextInt(10));
+		checkOut = checkIn.plusDays(nights);
+	}
+
+	@Benchmark
+	public List<CalendarSegment> splitStay() {
+		return CalendarSegment.split(checkIn, checkOut);
+	}
+
+	// 예약 가능한 기간(마지막 박까지 모두 확인해야 하는 최악의 경우)
+	@Benchmark
+	public boolean anyBookedInFreeStay() {
+		return AvailabilityBitmap.anyBooked(empty, 100, 100 + nights);
+	}
+
+	@Benchmark
+	public byte[] bookStay() {
+		return AvailabilityBitmap.book(halfBooked, 100, 100 + nights);
+	}
+}
@@ -0,0 +1,73 @@
+package kr.kro.airbob.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kr.kro.airbob.domain.discountPolicy.common.DiscountType;
+import kr.kro.airbob.domain.discountPolicy.common.PromotionType;
+import kr.kro.airbob.domain.pricePolicy.PricePolicy;
+import kr.kro.airbob.domain.pricePolicy.dto.PriceQuoteResponse;
+import kr.kro.airbob.domain.pricePolicy.quote.DiscountRule;
+import kr.kro.airbob.domain.pricePolicy.quote.RateTable;
+
+// 캐시된 요금표로 견적을 계산하는 비용 (검색 결과/결제 화면마다 호출)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateTableBenchmark {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+	@Param({"1", "7", "30"})
+	private int nights;
+
+	@Param({"4", "52"})
+	private int seasons;
+
+	private RateTable rateTable;
+	private LocalDate checkIn;
+	private LocalDate checkOut;
+
+	@Setup
+	public void setUp() {
+		LocalDate yearStart = LocalDate.of(2025, 1, 1);
+		int seasonLength = 365 / seasons;
+
+		List<PricePolicy> pricePolicies = new ArrayList<>();
+		for (int i = 0; i < seasons; i++) {
+			pricePolicies.add(PricePolicy.builder()
+				.id((long)i + 1)
+				.startDate(yearStart.plusDays((long)i * seasonLength))
+				.endDate(yearStart.plusDays((long)(i + 1) * seasonLength - 1))
+				.price(10000 + i * 1000)
+				.build());
+		}
+
+		List<DiscountRule> discountRules = List.of(
+			new DiscountRule("장기 숙박", DiscountType.PERCENTAGE, PromotionType.LONG_STAY, 0.1, null, 50000,
+				NOW.minusMonths(1), NOW.plusMonths(6)),
+			new DiscountRule("주말 특가", DiscountType.PERCENTAGE, PromotionType.WEEKEND, 0.2, 30000, null,
+				NOW.minusMonths(1), NOW.plusMonths(6)));
+
+		rateTable = RateTable.compile(1L, 9000, pricePolicies, discountRules);
+		checkIn = LocalDate.of(2025, 6, 20);
+		checkOut = checkIn.plusDays(nights);
+	}
+
+	@Benchmark
+	public PriceQuoteResponse.Quote quote() {
+		return rateTable.quote(checkIn, checkOut, NOW);
+	}
+}
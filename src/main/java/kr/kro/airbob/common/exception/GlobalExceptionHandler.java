@@ -17,7 +17,10 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import kr.kro.airbob.cursor.exception.CursorEncodingException;
 import kr.kro.airbob.cursor.exception.CursorPageSizeException;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
+import kr.kro.airbob.domain.availability.exception.InvalidCalendarBlockException;
+import kr.kro.airbob.domain.discountPolicy.exception.InvalidDiscountRateException;
 import kr.kro.airbob.domain.member.exception.MemberNotFoundException;
+import kr.kro.airbob.domain.pricePolicy.exception.InvalidStayPeriodException;
 import kr.kro.airbob.domain.review.ReviewSortType;
 import kr.kro.airbob.domain.review.exception.ReviewSummaryNotFoundException;
 import kr.kro.airbob.domain.review.ReviewSortType;
@@ -25,6 +28,7 @@ import kr.kro.airbob.domain.wishlist.exception.WishlistAccessDeniedException;
 import kr.kro.airbob.domain.wishlist.exception.WishlistAccommodationAccessDeniedException;
 import kr.kro.airbob.domain.wishlist.exception.WishlistAccommodationNotFoundException;
 import kr.kro.airbob.domain.wishlist.exception.WishlistNotFoundException;
+import kr.kro.airbob.search.exception.SearchTimeoutException;
 import lombok.extern.slf4j.Slf4j;
 
 @RestControllerAdvice
@@ -43,6 +47,24 @@ public class GlobalExceptionHandler {
 			.build();
 	}
 
+	@ExceptionHandler(InvalidStayPeriodException.class)
+	public ResponseEntity<Void> handleInvalidStayPeriodException(InvalidStayPeriodException e) {
+		log.error("InvalidStayPeriodException: {}", e.getMessage());
+		return ResponseEntity.badRequest().build();
+	}
+
+	@ExceptionHandler(InvalidCalendarBlockException.class)
+	public ResponseEntity<Void> handleInvalidCalendarBlockException(InvalidCalendarBlockException e) {
+		log.error("InvalidCalendarBlockException: {}", e.getMessage());
+		return ResponseEntity.badRequest().build();
+	}
+
+	@ExceptionHandler(InvalidDiscountRateException.class)
+	public ResponseEntity<Void> handleInvalidDiscountRateException(InvalidDiscountRateException e) {
+		log.error("InvalidDiscountRateException: {}", e.getMessage());
+		return ResponseEntity.badRequest().build();
+	}
+
 	@ExceptionHandler(ReviewSummaryNotFoundException.class)
 	public ResponseEntity<Void> handleReviewSummaryNotFoundException(ReviewSummaryNotFoundException e) {
 		log.error("ReviewSummaryNotFoundException: {}", e.getMessage());
@@ -126,6 +148,12 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 	}
 
+	@ExceptionHandler(SearchTimeoutException.class)
+	public ResponseEntity<Void> handleSearchTimeoutException(SearchTimeoutException e) {
+		log.error("SearchTimeoutException: {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<Void> handleExceptions(Exception e) {
 		log.error("Unhandled exception", e);
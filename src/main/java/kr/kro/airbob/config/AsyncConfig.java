@@ -1,25 +1,161 @@
 package kr.kro.airbob.config;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 작업 종류별로 풀을 나눠 한 작업이 밀려도 다른 작업의 스레드를 잡아먹지 않게 한다
+// 플랫폼 스레드 풀의 executor.active/queued/pool.size 지표는 Spring Boot가 빈 이름(name 태그)별로 등록한다
+@Slf4j
 @Configuration
 @EnableAsync
 @EnableRetry
+@RequiredArgsConstructor
 public class AsyncConfig {
 
+	private final MeterRegistry meterRegistry;
+
+	public enum RejectionPolicy {
+		CALLER_RUNS, DISCARD_OLDEST, ABORT
+	}
+
+	// 풀을 지정하지 않은 @Async가 스레드를 무제한으로 만들지 않도록 두는 기본 풀
+	@Bean
+	public TaskExecutor taskExecutor(
+		@Value("${async.default.core-size:1}") int coreSize,
+		@Value("${async.default.max-size:2}") int maxSize,
+		@Value("${async.default.queue-capacity:50}") int queueCapacity,
+		@Value("${async.default.virtual-threads:false}") boolean virtualThreads,
+		@Value("${async.default.rejection-policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
+
+		return boundedExecutor("taskExecutor", "async-",
+			coreSize, maxSize, queueCapacity, virtualThreads, rejectionPolicy);
+	}
+
+	// 전체 재색인 문서 생성 + bulk 쓰기. 큐가 차면 id를 읽는 스레드가 직접 처리해 읽기 속도가 자연히 늦춰진다
+	@Bean
+	public TaskExecutor indexingExecutor(
+		@Value("${async.indexing.core-size:4}") int coreSize,
+		@Value("${async.indexing.max-size:4}") int maxSize,
+		@Value("${async.indexing.queue-capacity:4}") int queueCapacity,
+		@Value("${async.indexing.virtual-threads:false}") boolean virtualThreads,
+		@Value("${async.indexing.rejection-policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
+
+		return boundedExecutor("indexingExecutor", "indexing-",
+			coreSize, maxSize, queueCapacity, virtualThreads, rejectionPolicy);
+	}
+
+	// 이벤트 응모 대기열(Redis) → DB 저장. 풀이 가득 차면 요청 스레드가 직접 비워 응모 속도를 늦춘다
+	@Bean
+	public TaskExecutor eventDrainExecutor(
+		@Value("${async.event-drain.core-size:2}") int coreSize,
+		@Value("${async.event-drain.max-size:4}") int maxSize,
+		@Value("${async.event-drain.queue-capacity:100}") int queueCapacity,
+		@Value("${async.event-drain.virtual-threads:false}") boolean virtualThreads,
+		@Value("${async.event-drain.rejection-policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
+
+		return boundedExecutor("eventDrainExecutor", "event-drain-",
+			coreSize, maxSize, queueCapacity, virtualThreads, rejectionPolicy);
+	}
+
+	// Slack 알림 발송. 알림이 폭주하면 가장 오래된 알림부터 버려 호출한 쪽을 막지 않는다
 	@Bean
-	public TaskExecutor taskExecutor() {
+	public TaskExecutor notificationExecutor(
+		@Value("${async.notification.core-size:1}") int coreSize,
+		@Value("${async.notification.max-size:2}") int maxSize,
+		@Value("${async.notification.queue-capacity:50}") int queueCapacity,
+		@Value("${async.notification.virtual-threads:false}") boolean virtualThreads,
+		@Value("${async.notification.rejection-policy:DISCARD_OLDEST}") RejectionPolicy rejectionPolicy) {
+
+		return boundedExecutor("notificationExecutor", "notification-",
+			coreSize, maxSize, queueCapacity, virtualThreads, rejectionPolicy);
+	}
+
+	// 검색 단계(지오코딩, ES 조회, 위시리스트 조회) 병렬 실행용. 대부분 I/O 대기라 가상 스레드를 쓴다
+	@Bean(destroyMethod = "close")
+	public ExecutorService searchExecutor() {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("search-", 0).factory());
+	}
+
+	private TaskExecutor boundedExecutor(String name, String threadNamePrefix, int coreSize, int maxSize,
+		int queueCapacity, boolean virtualThreads, RejectionPolicy rejectionPolicy) {
+
+		if (virtualThreads) {
+			return virtualThreadExecutor(name, threadNamePrefix, maxSize);
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(2);
-		executor.setMaxPoolSize(5);
-		executor.setQueueCapacity(100);
-		executor.setThreadNamePrefix("elasticsearch-indexing-");
-		executor.initialize();
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setRejectedExecutionHandler(countingRejectionHandler(name, rejectionPolicy));
+		// 종료 시 큐에 남은 작업(응모 저장 등)을 버리지 않고 끝낸다
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
 		return executor;
 	}
+
+	// 가상 스레드는 큐 없이 동시 실행 수(max-size)로만 제한한다. 한도에 닿으면 제출한 스레드가 자리가 날 때까지 기다린다
+	private TaskExecutor virtualThreadExecutor(String name, String threadNamePrefix, int concurrencyLimit) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setVirtualThreads(true);
+		executor.setConcurrencyLimit(concurrencyLimit);
+		executor.setTaskTerminationTimeout(30_000);
+
+		AtomicInteger active = new AtomicInteger();
+		Gauge.builder("executor.active", active, AtomicInteger::get)
+			.description("실행 중인 작업 수")
+			.tag("name", name)
+			.register(meterRegistry);
+		executor.setTaskDecorator(task -> () -> {
+			active.incrementAndGet();
+			try {
+				task.run();
+			} finally {
+				active.decrementAndGet();
+			}
+		});
+		return executor;
+	}
+
+	private RejectedExecutionHandler countingRejectionHandler(String name, RejectionPolicy rejectionPolicy) {
+		Counter rejected = Counter.builder("executor.rejected")
+			.description("풀과 큐가 가득 차 거절 정책이 적용된 작업 수")
+			.tag("name", name)
+			.tag("policy", rejectionPolicy.name())
+			.register(meterRegistry);
+
+		RejectedExecutionHandler delegate = switch (rejectionPolicy) {
+			case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+			case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+			case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+		};
+
+		return (task, executor) -> {
+			rejected.increment();
+			if (rejectionPolicy != RejectionPolicy.CALLER_RUNS) {
+				log.warn("{} 풀이 가득 차 작업 거절: policy={}, queued={}",
+					name, rejectionPolicy, executor.getQueue().size());
+			}
+			delegate.rejectedExecution(task, executor);
+		};
+	}
 }
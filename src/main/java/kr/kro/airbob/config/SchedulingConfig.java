@@ -0,0 +1,10 @@
+package kr.kro.airbob.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 모든 @Scheduled 작업을 켠다. 이전에는 꺼져 있던 DLQ 재처리 작업은 dlq.scheduling.enabled로 따로 켠다
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package kr.kro.airbob.cursor.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 
 import lombok.AccessLevel;
@@ -39,4 +40,18 @@ public class CursorResponse {
 			this.lastRating = lastRating;
 		}
 	}
+
+	// 검색 search_after용: 마지막 결과의 정렬 값과 point-in-time id
+	@Getter
+	public static class SearchCursorData extends CursorData {
+
+		private final List<Object> sortValues;
+		private final String pointInTimeId;
+
+		public SearchCursorData(Long id, LocalDateTime lastCreatedAt, List<Object> sortValues, String pointInTimeId) {
+			super(id, lastCreatedAt);
+			this.sortValues = sortValues;
+			this.pointInTimeId = pointInTimeId;
+		}
+	}
 }
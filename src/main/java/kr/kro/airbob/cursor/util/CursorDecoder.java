@@ -19,13 +19,17 @@ public class CursorDecoder {
 	private final ObjectMapper objectMapper;
 
 	public CursorResponse.CursorData decode(String cursor) {
+		return decode(cursor, CursorResponse.CursorData.class);
+	}
+
+	public <T extends CursorResponse.CursorData> T decode(String cursor, Class<T> cursorType) {
 		if (cursor == null || cursor.isBlank()) {
 			return null;
 		}
 
 		try {
 			String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
-			return objectMapper.readValue(decoded, CursorResponse.CursorData.class);
+			return objectMapper.readValue(decoded, cursorType);
 		} catch (Exception e) {
 			log.warn("커서 디코딩 실패: {}", e.getMessage());
 			return null; // 디코딩 실패 시 첫 페이지
@@ -2,40 +2,46 @@ package kr.kro.airbob.dlq.reprocessor;
 
 import static kr.kro.airbob.search.event.AccommodationIndexingEvents.*;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import kr.kro.airbob.search.document.AccommodationDocument;
-import kr.kro.airbob.search.repository.AccommodationSearchRepository;
-import kr.kro.airbob.search.service.AccommodationDocumentBuilder;
-import kr.kro.airbob.search.service.AccommodationIndexUpdater;
+import kr.kro.airbob.search.indexing.AccommodationBulkIndexer;
+import kr.kro.airbob.search.indexing.PendingIndexOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+// 재처리도 outbox 릴레이와 같은 AccommodationBulkIndexer로 쓴다 (전체 재색인 중이면 새 인덱스 따라잡기 대상에 기록되도록)
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class AccommodationEventReprocessor {
 
-	private final AccommodationSearchRepository searchRepository;
-	private final AccommodationDocumentBuilder documentBuilder;
-	private final AccommodationIndexUpdater indexUpdater;
+	private final AccommodationBulkIndexer bulkIndexer;
 	private final ObjectMapper objectMapper;
 
 	public boolean reprocess(String eventType, String eventData) {
 		try {
 			switch (eventType) {
 				case "AccommodationCreatedEvent":
-					return handleAccommodationCreated(eventData);
+					return write(objectMapper.readValue(eventData, AccommodationCreatedEvent.class).accommodationId(),
+						PendingIndexOperation.reindex());
 				case "AccommodationUpdatedEvent":
-					return handleAccommodationUpdated(eventData);
+					return write(objectMapper.readValue(eventData, AccommodationUpdatedEvent.class).accommodationId(),
+						PendingIndexOperation.reindex());
 				case "AccommodationDeletedEvent":
-					return handleAccommodationDeleted(eventData);
+					return write(objectMapper.readValue(eventData, AccommodationDeletedEvent.class).accommodationId(),
+						PendingIndexOperation.delete());
 				case "ReviewSummaryChangedEvent":
-					return handleReviewSummaryChanged(eventData);
+					return write(objectMapper.readValue(eventData, ReviewSummaryChangedEvent.class).accommodationId(),
+						PendingIndexOperation.reviewSummary());
 				case "ReservationChangedEvent":
-					return handleReservationChanged(eventData);
+					// 실패 이후 다른 변경이 먼저 반영됐을 수 있어 변경분 대신 전체를 다시 색인한다
+					return write(objectMapper.readValue(eventData, ReservationChangedEvent.class).accommodationId(),
+						PendingIndexOperation.reservedDatesRebuild());
 				default:
 					log.warn("지원하지 않는 이벤트 타입: {}", eventType);
 					return false;
@@ -46,45 +52,9 @@ public class AccommodationEventReprocessor {
 		}
 	}
 
-	private boolean handleAccommodationCreated(String eventData) throws Exception {
-		AccommodationCreatedEvent event = objectMapper.readValue(eventData, AccommodationCreatedEvent.class);
-
-		AccommodationDocument document = documentBuilder.buildAccommodationDocument(event.accommodationId());
-		searchRepository.save(document);
-
-		return true;
-	}
-
-	private boolean handleAccommodationUpdated(String eventData) throws Exception {
-		AccommodationUpdatedEvent event = objectMapper.readValue(eventData, AccommodationUpdatedEvent.class);
-
-		AccommodationDocument document = documentBuilder.buildAccommodationDocument(event.accommodationId());
-		searchRepository.save(document);
-
-		return true;
-	}
-
-	private boolean handleAccommodationDeleted(String eventData) throws Exception {
-		AccommodationDeletedEvent event = objectMapper.readValue(eventData, AccommodationDeletedEvent.class);
-
-		searchRepository.deleteById(event.accommodationId());
-
-		return true;
-	}
-
-	private boolean handleReviewSummaryChanged(String eventData) throws Exception {
-		ReviewSummaryChangedEvent event = objectMapper.readValue(eventData, ReviewSummaryChangedEvent.class);
-
-		indexUpdater.updateReviewSummaryInIndex(event.accommodationId());
-
-		return true;
-	}
-
-	private boolean handleReservationChanged(String eventData) throws Exception {
-		ReservationChangedEvent event = objectMapper.readValue(eventData, ReservationChangedEvent.class);
-
-		indexUpdater.updateReservedDatesInIndex(event.accommodationId());
-
-		return true;
+	// 반영에 성공하면 검색 결과 캐시는 bulkIndexer가 비운다
+	private boolean write(Long accommodationId, PendingIndexOperation operation) {
+		Set<Long> failedIds = bulkIndexer.write(Map.of(accommodationId, operation));
+		return !failedIds.contains(accommodationId);
 	}
 }
@@ -7,6 +7,7 @@ import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +32,10 @@ public class DeadLetterQueueService {
 
 	private static final int MAX_RETRY_COUNT = 5;
 
+	// 스케줄링(SchedulingConfig)이 켜지면서 함께 동작하게 된 재처리 작업. 설정으로 끌 수 있다
+	@Value("${dlq.scheduling.enabled:false}")
+	private boolean schedulingEnabled;
+
 	@Transactional
 	public void saveFailedEvent(String eventType, Object eventData, Exception exception) {
 		String errorMessage = extractErrorMessage(exception);
@@ -50,9 +55,13 @@ public class DeadLetterQueueService {
 		}
 	}
 
-	@Scheduled(fixedDelay = 300000) // 5분
+	@Scheduled(fixedDelayString = "${dlq.scheduling.retry-interval:300000}") // 5분
 	@Transactional
 	public void retryFailedEvents() {
+		if (!schedulingEnabled) {
+			return;
+		}
+
 		LocalDateTime now = LocalDateTime.now();
 		List<FailedIndexingEvent> eventsToRetry =
 			failedEventRepository.findEventsReadyForRetry(now, MAX_RETRY_COUNT);
@@ -82,9 +91,13 @@ public class DeadLetterQueueService {
 	}
 
 
-	@Scheduled(fixedDelay = 3600000)
+	@Scheduled(fixedDelayString = "${dlq.scheduling.dead-letter-interval:3600000}")
 	@Transactional
 	public void processDeadLetters() {
+		if (!schedulingEnabled) {
+			return;
+		}
+
 		List<FailedIndexingEvent> deadLetterCandidates =
 			failedEventRepository.findDeadLetterCandidates(MAX_RETRY_COUNT);
 
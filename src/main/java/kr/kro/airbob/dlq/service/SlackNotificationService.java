@@ -3,6 +3,7 @@ package kr.kro.airbob.dlq.service;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -23,6 +24,8 @@ public class SlackNotificationService {
 
 	private final RestTemplate restTemplate;
 
+	// 웹훅 응답이 늦어도 DLQ 처리 스레드를 막지 않도록 알림 전용 풀에서 보낸다
+	@Async("notificationExecutor")
 	public void sendAlert(String message) {
 		if (!notificationEnabled || StringUtils.isBlank(slackWebhookUrl)) {
 			log.warn("Slack 알림이 비활성화되어 있거나 웹훅 URL이 설정되지 않음");
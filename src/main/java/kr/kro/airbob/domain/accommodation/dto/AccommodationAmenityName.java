@@ -0,0 +1,10 @@
+package kr.kro.airbob.domain.accommodation.dto;
+
+import kr.kro.airbob.domain.accommodation.common.AmenityType;
+
+// 숙소별 편의시설 이름 (Amenity 지연 로딩 없이 여러 숙소를 한 번에 조회하는 projection)
+public record AccommodationAmenityName(
+	Long accommodationId,
+	AmenityType amenityType
+) {
+}
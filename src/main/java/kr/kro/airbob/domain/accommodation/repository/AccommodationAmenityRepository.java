@@ -1,11 +1,13 @@
 package kr.kro.airbob.domain.accommodation.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import kr.kro.airbob.domain.accommodation.dto.AccommodationAmenityName;
 import kr.kro.airbob.domain.accommodation.entity.AccommodationAmenity;
 
 public interface AccommodationAmenityRepository extends JpaRepository<AccommodationAmenity, Long> {
@@ -26,4 +28,14 @@ public interface AccommodationAmenityRepository extends JpaRepository<Accommodat
     """)
 	List<AccommodationAmenity> findAccommodationAmenitiesByAccommodationIds(
 		@Param("accommodationIds") List<Long> accommodationIds);
+
+	@Query("""
+		SELECT new kr.kro.airbob.domain.accommodation.dto.AccommodationAmenityName(aa.accommodation.id, am.name)
+		FROM AccommodationAmenity aa
+		JOIN aa.amenity am
+		WHERE aa.accommodation.id IN :accommodationIds
+		ORDER BY aa.accommodation.id, am.name
+		""")
+	List<AccommodationAmenityName> findAmenityNamesByAccommodationIds(
+		@Param("accommodationIds") Collection<Long> accommodationIds);
 }
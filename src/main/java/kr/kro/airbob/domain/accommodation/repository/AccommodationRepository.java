@@ -1,8 +1,10 @@
 package kr.kro.airbob.domain.accommodation.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +21,12 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, Lo
 	@Query("select a.member.id from Accommodation a where a.id = :id")
 	Optional<Long> findHostIdByAccommodationId(Long id);
 
+	@Query("select a.id from Accommodation a where a.member.id = :hostId and a.id in :ids")
+	List<Long> findIdsByHostIdAndIdIn(@Param("hostId") Long hostId, @Param("ids") Collection<Long> ids);
+
+	@Query("select a.basePrice from Accommodation a where a.id = :id")
+	Optional<Integer> findBasePriceById(@Param("id") Long id);
+
 	@Query("""
 		SELECT 
 			ai
@@ -41,6 +49,21 @@ public interface AccommodationRepository extends JpaRepository<Accommodation, Lo
 	@Query("SELECT a FROM Accommodation a WHERE a.id = :accommodationId")
 	Optional<Accommodation> findByIdAllRelations(@Param("accommodationId") Long accommodationId);
 
+	// 색인 문서 생성에 필요한 1:1 연관(주소, 수용 인원, 호스트)을 한 번에 조회
+	@Query("""
+		SELECT a
+		FROM Accommodation a
+		LEFT JOIN FETCH a.address
+		LEFT JOIN FETCH a.occupancyPolicy
+		LEFT JOIN FETCH a.member
+		WHERE a.id IN :accommodationIds
+		""")
+	List<Accommodation> findAllForIndexingByIdIn(@Param("accommodationIds") Collection<Long> accommodationIds);
+
+	// id 키셋 페이징 (전체 재색인용)
+	@Query("SELECT a.id FROM Accommodation a WHERE a.id > :lastId ORDER BY a.id")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
 	@Query("""
     SELECT ai
     FROM AccommodationImage ai
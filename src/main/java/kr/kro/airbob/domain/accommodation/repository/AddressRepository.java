@@ -1,8 +1,30 @@
 package kr.kro.airbob.domain.accommodation.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.entity.Address;
+import kr.kro.airbob.geo.gazetteer.DistrictFootprint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
+
+	// 지명 색인 생성용: 국가/도시/구별 숙소 수, 평균 좌표, 좌표 범위
+	@Query("""
+		SELECT new kr.kro.airbob.geo.gazetteer.DistrictFootprint(
+			a.country, a.city, a.district,
+			AVG(a.latitude), AVG(a.longitude),
+			MIN(a.latitude), MAX(a.latitude), MIN(a.longitude), MAX(a.longitude),
+			COUNT(a))
+		FROM Address a
+		WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND a.city IS NOT NULL
+		GROUP BY a.country, a.city, a.district
+		""")
+	List<DistrictFootprint> findDistrictFootprints();
+
+	@Query("SELECT ac.address FROM Accommodation ac WHERE ac.id = :accommodationId")
+	Optional<Address> findByAccommodationId(@Param("accommodationId") Long accommodationId);
 }
@@ -0,0 +1,61 @@
+package kr.kro.airbob.domain.availability;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 1년치 숙박 가능 여부를 1박 1bit로 표현 (Redis SETBIT/BITCOUNT와 같은 MSB 우선 비트 순서)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AvailabilityBitmap {
+
+	public static final int DAYS_PER_YEAR = 366;
+	public static final int SIZE_IN_BYTES = (DAYS_PER_YEAR + 7) / 8;
+
+	public static byte[] empty() {
+		return new byte[SIZE_IN_BYTES];
+	}
+
+	public static int dayIndex(LocalDate date) {
+		return date.getDayOfYear() - 1;
+	}
+
+	public static boolean anyBooked(byte[] bitmap, int fromDay, int toDay) {
+		for (int day = fromDay; day < toDay; day++) {
+			if (isBooked(bitmap, day)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static boolean isBooked(byte[] bitmap, int day) {
+		return (bitmap[day >> 3] & mask(day)) != 0;
+	}
+
+	public static byte[] book(byte[] bitmap, int fromDay, int toDay) {
+		byte[] updated = normalize(bitmap);
+		for (int day = fromDay; day < toDay; day++) {
+			updated[day >> 3] |= mask(day);
+		}
+		return updated;
+	}
+
+	public static byte[] release(byte[] bitmap, int fromDay, int toDay) {
+		byte[] updated = normalize(bitmap);
+		for (int day = fromDay; day < toDay; day++) {
+			updated[day >> 3] &= (byte)~mask(day);
+		}
+		return updated;
+	}
+
+	// 항상 새 배열을 반환해 JPA dirty checking이 변경을 놓치지 않도록 한다
+	public static byte[] normalize(byte[] bitmap) {
+		return bitmap == null ? empty() : Arrays.copyOf(bitmap, SIZE_IN_BYTES);
+	}
+
+	private static byte mask(int day) {
+		return (byte)(0x80 >>> (day & 7));
+	}
+}
@@ -0,0 +1,265 @@
+package kr.kro.airbob.domain.availability;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.kro.airbob.domain.availability.entity.AvailabilityCalendar;
+import kr.kro.airbob.domain.availability.repository.AvailabilityCalendarRepository;
+import kr.kro.airbob.domain.reservation.common.ReservationStatus;
+import kr.kro.airbob.domain.reservation.entity.Reservation;
+import kr.kro.airbob.domain.reservation.exception.AlreadyReservedException;
+import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 숙소별 연도 단위 예약 달력. Redis 비트맵으로 조회하고 MySQL availability_calendar를 원본으로 유지한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityCalendarService {
+
+	private static final String CALENDAR_KEY_PREFIX = "availability:accommodation:{";
+	private static final Duration CACHE_TTL = Duration.ofDays(7);
+
+	// 달력 키가 하나라도 없으면 -1, 모두 있으면 구간 내 예약된 날짜 수
+	private static final RedisScript<Long> COUNT_BOOKED_SCRIPT = new DefaultRedisScript<>("""
+		local booked = 0
+		for i, key in ipairs(KEYS) do
+			if redis.call("EXISTS", key) == 0 then
+				return -1
+			end
+			booked = booked + redis.call("BITCOUNT", key, ARGV[i * 2 - 1], ARGV[i * 2], "BIT")
+		end
+		return booked
+		""", Long.class);
+
+	private final AvailabilityCalendarRepository availabilityCalendarRepository;
+	private final ReservedDateRepository reservedDateRepository;
+	private final ReservationRepository reservationRepository;
+	private final StringRedisTemplate redisTemplate;
+
+	@Transactional(readOnly = true)
+	public boolean isAvailable(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+		List<CalendarSegment> segments = CalendarSegment.split(checkIn, checkOut);
+
+		try {
+			Long booked = countBookedInCache(accommodationId, segments);
+			if (booked != null && booked >= 0) {
+				return booked == 0;
+			}
+		} catch (DataAccessException e) {
+			log.warn("[AVAILABILITY] Redis 조회 실패, DB 달력으로 대체: accommodationId={}", accommodationId, e);
+			return segments.stream()
+				.noneMatch(segment -> AvailabilityBitmap.anyBooked(
+					loadBitmap(accommodationId, segment.year()), segment.fromDay(), segment.toDay()));
+		}
+
+		// 캐시 미스: DB 달력을 읽어 Redis에 채워 넣는다
+		boolean available = true;
+		for (CalendarSegment segment : segments) {
+			byte[] bitmap = loadBitmap(accommodationId, segment.year());
+			cacheQuietly(accommodationId, segment.year(), bitmap, true);
+			if (AvailabilityBitmap.anyBooked(bitmap, segment.fromDay(), segment.toDay())) {
+				available = false;
+			}
+		}
+		return available;
+	}
+
+	@Transactional
+	public void markBooked(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+		for (CalendarSegment segment : CalendarSegment.split(checkIn, checkOut)) {
+			AvailabilityCalendar calendar = lockCalendar(accommodationId, segment.year());
+			if (calendar.hasBookedNight(segment.fromDay(), segment.toDay())) {
+				throw new AlreadyReservedException();
+			}
+			calendar.book(segment.fromDay(), segment.toDay());
+			writeThrough(calendar);
+		}
+	}
+
+	@Transactional
+	public void markAvailable(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+		for (CalendarSegment segment : CalendarSegment.split(checkIn, checkOut)) {
+			AvailabilityCalendar calendar = lockCalendar(accommodationId, segment.year());
+			calendar.release(segment.fromDay(), segment.toDay());
+			writeThrough(calendar);
+		}
+	}
+
+	// 호스트 차단: 비어 있는 날짜만 예약 상태로 바꾸고, 새로 막은 날짜를 돌려준다 (이미 예약된 날짜는 그대로 둔다)
+	@Transactional
+	public List<LocalDate> blockFreeNights(Long accommodationId, LocalDate from, LocalDate to) {
+		List<LocalDate> blocked = new ArrayList<>();
+		for (CalendarSegment segment : CalendarSegment.split(from, to)) {
+			AvailabilityCalendar calendar = lockCalendar(accommodationId, segment.year());
+			LocalDate night = segment.firstNight();
+			for (int day = segment.fromDay(); day < segment.toDay(); day++, night = night.plusDays(1)) {
+				if (!calendar.hasBookedNight(day, day + 1)) {
+					calendar.book(day, day + 1);
+					blocked.add(night);
+				}
+			}
+			writeThrough(calendar);
+		}
+		return blocked;
+	}
+
+	// 예약 원본(ReservedDate, Reservation)으로 달력을 다시 계산해 어긋난 경우 덮어쓴다
+	@Transactional
+	public boolean reconcile(Long calendarId) {
+		AvailabilityCalendar calendar = availabilityCalendarRepository.findByIdForUpdate(calendarId)
+			.orElse(null);
+		if (calendar == null) {
+			return false;
+		}
+
+		if (!overwriteFromSource(calendar)) {
+			return false;
+		}
+
+		log.warn("[AVAILABILITY] 달력 불일치 보정: accommodationId={}, year={}",
+			calendar.getAccommodationId(), calendar.getCalendarYear());
+		return true;
+	}
+
+	// 예약 원본이 일괄 변경된 경우(만료된 임시 예약 정리 등) 해당 연도 달력을 원본 기준으로 다시 만든다
+	@Transactional
+	public void rebuild(Long accommodationId, int year) {
+		overwriteFromSource(lockCalendar(accommodationId, year));
+	}
+
+	private boolean overwriteFromSource(AvailabilityCalendar calendar) {
+		byte[] expected = buildFromSource(calendar.getAccommodationId(), calendar.getCalendarYear());
+		if (Arrays.equals(AvailabilityBitmap.normalize(calendar.getBookedDays()), expected)) {
+			return false;
+		}
+
+		calendar.overwrite(expected);
+		writeThrough(calendar);
+		return true;
+	}
+
+	private Long countBookedInCache(Long accommodationId, List<CalendarSegment> segments) {
+		List<String> keys = new ArrayList<>();
+		List<String> ranges = new ArrayList<>();
+		for (CalendarSegment segment : segments) {
+			keys.add(calendarKey(accommodationId, segment.year()));
+			ranges.add(String.valueOf(segment.fromDay()));
+			ranges.add(String.valueOf(segment.toDay() - 1));
+		}
+		return redisTemplate.execute(COUNT_BOOKED_SCRIPT, keys, ranges.toArray());
+	}
+
+	private byte[] loadBitmap(Long accommodationId, int year) {
+		return availabilityCalendarRepository.findByAccommodationIdAndCalendarYear(accommodationId, year)
+			.map(calendar -> AvailabilityBitmap.normalize(calendar.getBookedDays()))
+			.orElseGet(() -> buildFromSource(accommodationId, year));
+	}
+
+	// 행이 없으면 원본으로 만들어 넣고(동시 생성 시 한 쪽만 삽입) 행 잠금을 잡는다
+	private AvailabilityCalendar lockCalendar(Long accommodationId, int year) {
+		return availabilityCalendarRepository.findForUpdate(accommodationId, year)
+			.orElseGet(() -> {
+				availabilityCalendarRepository.insertIfAbsent(
+					accommodationId, year, buildFromSource(accommodationId, year));
+				return availabilityCalendarRepository.findForUpdate(accommodationId, year)
+					.orElseThrow(IllegalStateException::new);
+			});
+	}
+
+	private byte[] buildFromSource(Long accommodationId, int year) {
+		LocalDate yearStart = LocalDate.ofYearDay(year, 1);
+		LocalDate nextYearStart = yearStart.plusYears(1);
+		byte[] bitmap = AvailabilityBitmap.empty();
+
+		for (LocalDate night : reservedDateRepository.findReservedNights(accommodationId, yearStart, nextYearStart)) {
+			int day = AvailabilityBitmap.dayIndex(night);
+			bitmap = AvailabilityBitmap.book(bitmap, day, day + 1);
+		}
+
+		List<Reservation> reservations = reservationRepository.findOverlappingReservations(
+			accommodationId, ReservationStatus.COMPLETED, yearStart.atStartOfDay(), nextYearStart.atStartOfDay());
+
+		for (Reservation reservation : reservations) {
+			LocalDate from = max(reservation.getCheckIn().toLocalDate(), yearStart);
+			LocalDate to = min(reservation.getCheckOut().toLocalDate(), nextYearStart);
+			for (CalendarSegment segment : CalendarSegment.split(from, to)) {
+				bitmap = AvailabilityBitmap.book(bitmap, segment.fromDay(), segment.toDay());
+			}
+		}
+
+		return bitmap;
+	}
+
+	// 트랜잭션 안에서 먼저 반영하고(보수적으로 예약 상태를 먼저 보이게), 롤백되면 캐시를 비워 DB에서 다시 읽게 한다
+	private void writeThrough(AvailabilityCalendar calendar) {
+		Long accommodationId = calendar.getAccommodationId();
+		int year = calendar.getCalendarYear();
+
+		cacheQuietly(accommodationId, year, calendar.getBookedDays(), false);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						evictQuietly(accommodationId, year);
+					}
+				}
+			});
+		}
+	}
+
+	private void cacheQuietly(Long accommodationId, int year, byte[] bitmap, boolean onlyIfAbsent) {
+		byte[] key = calendarKey(accommodationId, year).getBytes(StandardCharsets.UTF_8);
+		RedisStringCommands.SetOption option = onlyIfAbsent
+			? RedisStringCommands.SetOption.ifAbsent()
+			: RedisStringCommands.SetOption.upsert();
+		try {
+			redisTemplate.execute((RedisCallback<Boolean>)connection ->
+				connection.stringCommands().set(key, bitmap, Expiration.from(CACHE_TTL), option));
+		} catch (DataAccessException e) {
+			log.warn("[AVAILABILITY] Redis 달력 저장 실패: accommodationId={}, year={}", accommodationId, year, e);
+			evictQuietly(accommodationId, year);
+		}
+	}
+
+	private void evictQuietly(Long accommodationId, int year) {
+		try {
+			redisTemplate.delete(calendarKey(accommodationId, year));
+		} catch (DataAccessException e) {
+			log.warn("[AVAILABILITY] Redis 달력 삭제 실패: accommodationId={}, year={}", accommodationId, year, e);
+		}
+	}
+
+	// 숙소 ID를 hash tag로 감싸 한 숙소의 연도별 달력이 같은 슬롯에 모이도록 한다
+	private String calendarKey(Long accommodationId, int year) {
+		return CALENDAR_KEY_PREFIX + accommodationId + "}:" + year;
+	}
+
+	private static LocalDate max(LocalDate a, LocalDate b) {
+		return a.isAfter(b) ? a : b;
+	}
+
+	private static LocalDate min(LocalDate a, LocalDate b) {
+		return a.isBefore(b) ? a : b;
+	}
+}
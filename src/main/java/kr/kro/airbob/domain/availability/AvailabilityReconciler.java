@@ -0,0 +1,57 @@
+package kr.kro.airbob.domain.availability;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.availability.repository.AvailabilityCalendarRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 올해/내년 달력을 예약 원본과 비교해 어긋난 달력을 보정한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityReconciler {
+
+	private static final int PAGE_SIZE = 500;
+
+	private final AvailabilityCalendarRepository availabilityCalendarRepository;
+	private final AvailabilityCalendarService availabilityCalendarService;
+
+	@Scheduled(cron = "${availability.reconcile.cron:0 30 4 * * *}")
+	public void reconcile() {
+		int thisYear = LocalDate.now().getYear();
+		List<Integer> years = List.of(thisYear, thisYear + 1);
+
+		long lastId = 0L;
+		int checked = 0;
+		int corrected = 0;
+
+		while (true) {
+			List<Long> ids = availabilityCalendarRepository.findIdsByCalendarYearsAfter(
+				years, lastId, PageRequest.of(0, PAGE_SIZE));
+			if (ids.isEmpty()) {
+				break;
+			}
+
+			for (Long id : ids) {
+				try {
+					if (availabilityCalendarService.reconcile(id)) {
+						corrected++;
+					}
+				} catch (Exception e) {
+					log.error("[AVAILABILITY] 달력 보정 실패: calendarId={}", id, e);
+				}
+			}
+
+			checked += ids.size();
+			lastId = ids.get(ids.size() - 1);
+		}
+
+		log.info("[AVAILABILITY] 달력 정합성 검사 완료: checked={}, corrected={}", checked, corrected);
+	}
+}
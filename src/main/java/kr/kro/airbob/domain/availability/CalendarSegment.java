@@ -0,0 +1,39 @@
+package kr.kro.airbob.domain.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 숙박 기간 [checkIn, checkOut)을 연도별 비트 구간 [fromDay, toDay)로 나눈 조각
+public record CalendarSegment(
+	int year,
+	int fromDay,
+	int toDay
+) {
+	public static List<CalendarSegment> split(LocalDate checkIn, LocalDate checkOut) {
+		List<CalendarSegment> segments = new ArrayList<>();
+
+		LocalDate cursor = checkIn;
+		while (cursor.isBefore(checkOut)) {
+			LocalDate nextYear = LocalDate.of(cursor.getYear() + 1, 1, 1);
+			LocalDate segmentEnd = checkOut.isBefore(nextYear) ? checkOut : nextYear;
+
+			int toDay = segmentEnd.equals(nextYear)
+				? cursor.lengthOfYear()
+				: AvailabilityBitmap.dayIndex(segmentEnd);
+
+			segments.add(new CalendarSegment(cursor.getYear(), AvailabilityBitmap.dayIndex(cursor), toDay));
+			cursor = segmentEnd;
+		}
+
+		return segments;
+	}
+
+	public LocalDate firstNight() {
+		return LocalDate.ofYearDay(year, fromDay + 1);
+	}
+
+	public LocalDate endExclusive() {
+		return LocalDate.ofYearDay(year, 1).plusDays(toDay);
+	}
+}
@@ -0,0 +1,36 @@
+package kr.kro.airbob.domain.availability;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import kr.kro.airbob.domain.availability.dto.HostCalendarRequest;
+import kr.kro.airbob.domain.availability.dto.HostCalendarResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/accommodations/calendar/blocks")
+public class HostCalendarController {
+
+	private final HostCalendarService hostCalendarService;
+
+	@PostMapping
+	public ResponseEntity<HostCalendarResponse.BlockResult> blockNights(
+		@RequestBody @Valid HostCalendarRequest.BlockNightsDto requestDto, HttpServletRequest request) {
+		Long memberId = (Long) request.getAttribute("memberId");
+		return ResponseEntity.ok(hostCalendarService.blockNights(memberId, requestDto));
+	}
+
+	// 인터셉터가 DELETE 경로의 마지막 세그먼트를 숙소 ID로 해석하므로 해제도 POST로 받는다
+	@PostMapping("/release")
+	public ResponseEntity<HostCalendarResponse.BlockResult> unblockNights(
+		@RequestBody @Valid HostCalendarRequest.BlockNightsDto requestDto, HttpServletRequest request) {
+		Long memberId = (Long) request.getAttribute("memberId");
+		return ResponseEntity.ok(hostCalendarService.unblockNights(memberId, requestDto));
+	}
+}
@@ -0,0 +1,77 @@
+package kr.kro.airbob.domain.availability;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+import org.springframework.stereotype.Service;
+
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.auth.exception.NotEqualHostException;
+import kr.kro.airbob.domain.availability.dto.HostCalendarRequest;
+import kr.kro.airbob.domain.availability.dto.HostCalendarResponse;
+import kr.kro.airbob.domain.availability.exception.InvalidCalendarBlockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 호스트 달력 일괄 차단/해제. 숙소마다 별도 트랜잭션으로 처리해 잠금을 오래 잡지 않는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HostCalendarService {
+
+	private static final int MAX_ACCOMMODATIONS = 1000;
+	private static final int MAX_RANGES = 50;
+	private static final int MAX_NIGHTS_PER_RANGE = 366;
+
+	private final AccommodationRepository accommodationRepository;
+	private final HostCalendarWriter hostCalendarWriter;
+
+	public HostCalendarResponse.BlockResult blockNights(Long hostId, HostCalendarRequest.BlockNightsDto request) {
+		return apply(hostId, request, hostCalendarWriter::block);
+	}
+
+	public HostCalendarResponse.BlockResult unblockNights(Long hostId, HostCalendarRequest.BlockNightsDto request) {
+		return apply(hostId, request, hostCalendarWriter::unblock);
+	}
+
+	private HostCalendarResponse.BlockResult apply(Long hostId, HostCalendarRequest.BlockNightsDto request,
+		BiFunction<Long, List<HostCalendarRequest.DateRange>, Integer> writer) {
+
+		validateRanges(request.getRanges());
+
+		// 숙소 ID 순으로 처리해 동시 요청끼리 달력 잠금 순서를 고정
+		TreeSet<Long> accommodationIds = new TreeSet<>(request.getAccommodationIds());
+		if (accommodationIds.size() > MAX_ACCOMMODATIONS) {
+			throw new InvalidCalendarBlockException();
+		}
+		if (accommodationRepository.findIdsByHostIdAndIdIn(hostId, accommodationIds).size() != accommodationIds.size()) {
+			throw new NotEqualHostException();
+		}
+
+		int changedNights = 0;
+		for (Long accommodationId : accommodationIds) {
+			changedNights += writer.apply(accommodationId, request.getRanges());
+		}
+
+		log.info("[HOST-CALENDAR] hostId={}, accommodations={}, changedNights={}",
+			hostId, accommodationIds.size(), changedNights);
+		return new HostCalendarResponse.BlockResult(accommodationIds.size(), changedNights);
+	}
+
+	private void validateRanges(List<HostCalendarRequest.DateRange> ranges) {
+		if (ranges.size() > MAX_RANGES) {
+			throw new InvalidCalendarBlockException();
+		}
+
+		LocalDate today = LocalDate.now();
+		for (HostCalendarRequest.DateRange range : ranges) {
+			if (range.getFrom().isBefore(today) || !range.getTo().isAfter(range.getFrom())
+				|| ChronoUnit.DAYS.between(range.getFrom(), range.getTo()) > MAX_NIGHTS_PER_RANGE) {
+				throw new InvalidCalendarBlockException();
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package kr.kro.airbob.domain.availability;
+
+import static kr.kro.airbob.search.event.AccommodationIndexingEvents.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import kr.kro.airbob.domain.accommodation.entity.Accommodation;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.availability.dto.HostCalendarRequest;
+import kr.kro.airbob.domain.reservation.common.ReservationStatus;
+import kr.kro.airbob.domain.reservation.entity.ReservedDate;
+import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import lombok.RequiredArgsConstructor;
+
+// 숙소 하나의 차단/해제를 한 트랜잭션에서 처리 (달력 갱신 → 날짜 batch 저장/삭제 → 색인 이벤트 1회)
+@Component
+@RequiredArgsConstructor
+public class HostCalendarWriter {
+
+	// saveAll 후 flush/clear 하는 단위 (JDBC batch_size의 배수)
+	private static final int CHUNK_SIZE = 500;
+
+	private final AvailabilityCalendarService availabilityCalendarService;
+	private final ReservedDateRepository reservedDateRepository;
+	private final AccommodationRepository accommodationRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final EntityManager entityManager;
+
+	// 달력 잠금 이후 원본을 다시 읽는 rebuild가 동시에 커밋된 예약을 보도록 READ COMMITTED로 실행
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public int block(Long accommodationId, List<HostCalendarRequest.DateRange> ranges) {
+		List<LocalDate> blocked = new ArrayList<>();
+		for (HostCalendarRequest.DateRange range : ranges) {
+			blocked.addAll(availabilityCalendarService.blockFreeNights(accommodationId, range.getFrom(), range.getTo()));
+		}
+
+		if (blocked.isEmpty()) {
+			return 0;
+		}
+
+		Accommodation accommodation = accommodationRepository.getReferenceById(accommodationId);
+		List<ReservedDate> chunk = new ArrayList<>(Math.min(blocked.size(), CHUNK_SIZE));
+		for (LocalDate night : blocked) {
+			chunk.add(ReservedDate.builder()
+				.accommodation(accommodation)
+				.reservedAt(night)
+				.status(ReservationStatus.BLOCKED)
+				.build());
+
+			if (chunk.size() == CHUNK_SIZE) {
+				flushChunk(chunk);
+			}
+		}
+		flushChunk(chunk);
+
+		eventPublisher.publishEvent(new ReservationChangedEvent(accommodationId, blocked, List.of()));
+		return blocked.size();
+	}
+
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public int unblock(Long accommodationId, List<HostCalendarRequest.DateRange> ranges) {
+		TreeSet<LocalDate> released = new TreeSet<>();
+		TreeSet<Integer> years = new TreeSet<>();
+		for (HostCalendarRequest.DateRange range : ranges) {
+			released.addAll(reservedDateRepository.findNightsByStatus(
+				accommodationId, ReservationStatus.BLOCKED, range.getFrom(), range.getTo()));
+			reservedDateRepository.deleteBlockedNights(accommodationId, range.getFrom(), range.getTo());
+		}
+
+		if (released.isEmpty()) {
+			return 0;
+		}
+
+		// 차단 해제된 날짜가 있는 연도만 원본 기준으로 다시 계산 (같은 구간의 게스트 예약은 유지)
+		released.forEach(night -> years.add(night.getYear()));
+		years.forEach(year -> availabilityCalendarService.rebuild(accommodationId, year));
+
+		eventPublisher.publishEvent(new ReservationChangedEvent(accommodationId, List.of(), List.copyOf(released)));
+		return released.size();
+	}
+
+	// 영속성 컨텍스트에 수천 개의 날짜가 쌓이지 않도록 묶음마다 내보내고 비운다
+	private void flushChunk(List<ReservedDate> chunk) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		reservedDateRepository.saveAll(chunk);
+		entityManager.flush();
+		entityManager.clear();
+		chunk.clear();
+	}
+}
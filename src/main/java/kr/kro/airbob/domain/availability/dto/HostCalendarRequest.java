@@ -0,0 +1,43 @@
+package kr.kro.airbob.domain.availability.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class HostCalendarRequest {
+
+	private HostCalendarRequest() {
+	}
+
+	// 여러 숙소에 같은 기간들을 한 번에 차단/해제
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class BlockNightsDto {
+		@NotEmpty
+		private List<Long> accommodationIds;
+		@NotEmpty
+		@Valid
+		private List<DateRange> ranges;
+	}
+
+	// [from, to) 구간 (to 당일은 포함하지 않음)
+	@Getter
+	@Builder
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class DateRange {
+		@NotNull
+		private LocalDate from;
+		@NotNull
+		private LocalDate to;
+	}
+}
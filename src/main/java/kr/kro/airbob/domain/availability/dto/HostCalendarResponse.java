@@ -0,0 +1,14 @@
+package kr.kro.airbob.domain.availability.dto;
+
+public class HostCalendarResponse {
+
+	private HostCalendarResponse() {
+	}
+
+	// changedNights: 실제로 차단/해제된 날짜 수 (이미 예약된 날짜, 차단되지 않았던 날짜는 제외)
+	public record BlockResult(
+		int accommodationCount,
+		int changedNights
+	) {
+	}
+}
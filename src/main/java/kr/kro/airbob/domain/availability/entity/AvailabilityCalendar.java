@@ -0,0 +1,61 @@
+package kr.kro.airbob.domain.availability.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import kr.kro.airbob.common.domain.BaseEntity;
+import kr.kro.airbob.domain.availability.AvailabilityBitmap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Builder
+@Table(name = "availability_calendar")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AvailabilityCalendar extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long accommodationId;
+
+	@Column(nullable = false)
+	private Integer calendarYear;
+
+	// 해당 연도의 (dayOfYear - 1)번째 bit가 1이면 예약(임시 예약 포함)된 날짜
+	@Column(nullable = false, columnDefinition = "VARBINARY(46)")
+	private byte[] bookedDays;
+
+	private LocalDateTime updatedAt;
+
+	public boolean hasBookedNight(int fromDay, int toDay) {
+		return AvailabilityBitmap.anyBooked(bookedDays, fromDay, toDay);
+	}
+
+	public void book(int fromDay, int toDay) {
+		this.bookedDays = AvailabilityBitmap.book(bookedDays, fromDay, toDay);
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void release(int fromDay, int toDay) {
+		this.bookedDays = AvailabilityBitmap.release(bookedDays, fromDay, toDay);
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void overwrite(byte[] bookedDays) {
+		this.bookedDays = AvailabilityBitmap.normalize(bookedDays);
+		this.updatedAt = LocalDateTime.now();
+	}
+}
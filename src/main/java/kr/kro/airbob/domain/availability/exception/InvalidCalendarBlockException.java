@@ -0,0 +1,10 @@
+package kr.kro.airbob.domain.availability.exception;
+
+public class InvalidCalendarBlockException extends RuntimeException {
+
+	public static final String ERROR_MESSAGE = "차단할 수 없는 기간이거나 요청 범위를 초과했습니다.";
+
+	public InvalidCalendarBlockException() {
+		super(ERROR_MESSAGE);
+	}
+}
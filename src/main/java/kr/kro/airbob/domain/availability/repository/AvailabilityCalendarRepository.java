@@ -0,0 +1,55 @@
+package kr.kro.airbob.domain.availability.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import kr.kro.airbob.domain.availability.entity.AvailabilityCalendar;
+
+public interface AvailabilityCalendarRepository extends JpaRepository<AvailabilityCalendar, Long> {
+
+	Optional<AvailabilityCalendar> findByAccommodationIdAndCalendarYear(Long accommodationId, Integer calendarYear);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT c FROM AvailabilityCalendar c
+		WHERE c.accommodationId = :accommodationId
+		AND c.calendarYear = :calendarYear
+		""")
+	Optional<AvailabilityCalendar> findForUpdate(
+		@Param("accommodationId") Long accommodationId,
+		@Param("calendarYear") Integer calendarYear);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM AvailabilityCalendar c WHERE c.id = :id")
+	Optional<AvailabilityCalendar> findByIdForUpdate(@Param("id") Long id);
+
+	// 동시에 같은 달력을 처음 만드는 경우 한 쪽만 삽입된다
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO availability_calendar (accommodation_id, calendar_year, booked_days, created_at, updated_at)
+		VALUES (:accommodationId, :calendarYear, :bookedDays, NOW(6), NOW(6))
+		""", nativeQuery = true)
+	int insertIfAbsent(
+		@Param("accommodationId") Long accommodationId,
+		@Param("calendarYear") Integer calendarYear,
+		@Param("bookedDays") byte[] bookedDays);
+
+	@Query("""
+		SELECT c.id FROM AvailabilityCalendar c
+		WHERE c.calendarYear IN :calendarYears
+		AND c.id > :lastId
+		ORDER BY c.id
+		""")
+	List<Long> findIdsByCalendarYearsAfter(
+		@Param("calendarYears") List<Integer> calendarYears,
+		@Param("lastId") Long lastId,
+		Pageable pageable);
+}
@@ -3,6 +3,7 @@ package kr.kro.airbob.domain.discountPolicy;
 import kr.kro.airbob.domain.discountPolicy.dto.request.DiscountPolicyCreateDto;
 import kr.kro.airbob.domain.discountPolicy.dto.request.DiscountPolicyUpdateDto;
 import kr.kro.airbob.domain.discountPolicy.dto.response.DiscountPolicyResponseDto;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,13 +25,13 @@ public class DiscountPolicyController {
     }
 
     @PostMapping("")
-    public ResponseEntity<Void> createDiscountPolicy(@RequestBody DiscountPolicyCreateDto discountPolicyCreateDto) {
+    public ResponseEntity<Void> createDiscountPolicy(@RequestBody @Valid DiscountPolicyCreateDto discountPolicyCreateDto) {
         discountpolicyService.createDiscountPolicy(discountPolicyCreateDto);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
     @PatchMapping("/{discountPolicyId}")
-    public ResponseEntity<Void> updateDiscountPolicy(@RequestBody DiscountPolicyUpdateDto discountPolicyUpdateDto, @PathVariable Long discountPolicyId){
+    public ResponseEntity<Void> updateDiscountPolicy(@RequestBody @Valid DiscountPolicyUpdateDto discountPolicyUpdateDto, @PathVariable Long discountPolicyId){
         discountpolicyService.updateDiscountPolicy(discountPolicyUpdateDto, discountPolicyId);
         return ResponseEntity.ok().build();
     }
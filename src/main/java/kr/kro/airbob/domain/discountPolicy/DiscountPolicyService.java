@@ -4,9 +4,11 @@ import kr.kro.airbob.domain.discountPolicy.dto.request.DiscountPolicyCreateDto;
 import kr.kro.airbob.domain.discountPolicy.dto.request.DiscountPolicyUpdateDto;
 import kr.kro.airbob.domain.discountPolicy.dto.response.DiscountPolicyResponseDto;
 import kr.kro.airbob.domain.discountPolicy.entity.DiscountPolicy;
+import kr.kro.airbob.domain.discountPolicy.event.DiscountPolicyChangedEvent;
 import kr.kro.airbob.domain.discountPolicy.exception.DiscountNotFoundException;
 import kr.kro.airbob.domain.discountPolicy.repository.DiscountPolicyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.List;
 public class DiscountPolicyService {
 
     private final DiscountPolicyRepository discountPolicyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<DiscountPolicyResponseDto> findValidDiscountPolicies() {
@@ -29,6 +32,8 @@ public class DiscountPolicyService {
         DiscountPolicy discountPolicy = DiscountPolicy.of(discountPolicyCreateDto);
 
         discountPolicyRepository.save(discountPolicy);
+
+        eventPublisher.publishEvent(new DiscountPolicyChangedEvent(discountPolicy.getId()));
     }
 
     @Transactional
@@ -37,6 +42,8 @@ public class DiscountPolicyService {
                 .orElseThrow(DiscountNotFoundException::new);
 
         discountPolicy.updateWithDto(discountPolicyUpdateDto);
+
+        eventPublisher.publishEvent(new DiscountPolicyChangedEvent(discountPolicyId));
     }
 
     @Transactional
@@ -45,5 +52,7 @@ public class DiscountPolicyService {
                 .orElseThrow(DiscountNotFoundException::new);
 
         discountPolicyRepository.delete(discountPolicy);
+
+        eventPublisher.publishEvent(new DiscountPolicyChangedEvent(discountPolicyId));
     }
 }
@@ -1,5 +1,8 @@
 package kr.kro.airbob.domain.discountPolicy.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
 import kr.kro.airbob.domain.discountPolicy.common.DiscountType;
 import kr.kro.airbob.domain.discountPolicy.common.PromotionType;
 import lombok.*;
@@ -15,6 +18,7 @@ import java.time.LocalDateTime;
 public class DiscountPolicyCreateDto {
 
     private String name;
+    @DecimalMin(value = "0", message = "할인율은 0 이상이어야 합니다")
     private Double discountRate;
     private String description;
     private DiscountType discountType;
@@ -25,4 +29,10 @@ public class DiscountPolicyCreateDto {
     private LocalDateTime endDate;
     private Boolean isActive;
 
+    // 정률 할인율은 0~1 비율(0.15 = 15%)로만 받는다 (정액 할인은 discountRate에 금액을 담는다)
+    @JsonIgnore
+    @AssertTrue(message = "정률 할인율은 0~1 사이 비율이어야 합니다")
+    public boolean isRatioDiscountRate() {
+        return discountType == DiscountType.FIXED_AMOUNT || discountRate == null || discountRate <= 1;
+    }
 }
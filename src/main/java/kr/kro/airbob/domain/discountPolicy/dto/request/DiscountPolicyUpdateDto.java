@@ -1,5 +1,6 @@
 package kr.kro.airbob.domain.discountPolicy.dto.request;
 
+import jakarta.validation.constraints.DecimalMin;
 import kr.kro.airbob.domain.discountPolicy.common.DiscountType;
 import kr.kro.airbob.domain.discountPolicy.common.PromotionType;
 import lombok.*;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 public class DiscountPolicyUpdateDto {
 
     private String name;
+    @DecimalMin(value = "0", message = "할인율은 0 이상이어야 합니다")
     private Double discountRate;
     private String description;
     private DiscountType discountType;
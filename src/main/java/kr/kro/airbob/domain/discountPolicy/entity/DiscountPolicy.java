@@ -8,6 +8,7 @@ import kr.kro.airbob.domain.discountPolicy.common.DiscountType;
 import kr.kro.airbob.domain.discountPolicy.common.PromotionType;
 import kr.kro.airbob.domain.discountPolicy.dto.request.DiscountPolicyCreateDto;
 import kr.kro.airbob.domain.discountPolicy.dto.request.DiscountPolicyUpdateDto;
+import kr.kro.airbob.domain.discountPolicy.exception.InvalidDiscountRateException;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -53,7 +54,7 @@ public class DiscountPolicy extends BaseEntity {
 	private Boolean isActive;
 
 	public static DiscountPolicy of(DiscountPolicyCreateDto discountPolicyCreateDto) {
-        return DiscountPolicy.builder()
+        DiscountPolicy discountPolicy = DiscountPolicy.builder()
                 .name(discountPolicyCreateDto.getName())
                 .discountRate(discountPolicyCreateDto.getDiscountRate())
                 .description(discountPolicyCreateDto.getDescription())
@@ -64,6 +65,8 @@ public class DiscountPolicy extends BaseEntity {
                 .startDate(discountPolicyCreateDto.getStartDate())
                 .endDate(discountPolicyCreateDto.getEndDate())
                 .isActive(discountPolicyCreateDto.getIsActive()).build();
+        discountPolicy.validateDiscountRate();
+        return discountPolicy;
 	}
 
 	public void updateWithDto(DiscountPolicyUpdateDto dto) {
@@ -77,6 +80,17 @@ public class DiscountPolicy extends BaseEntity {
 		if (dto.getStartDate() != null) this.startDate = dto.getStartDate();
 		if (dto.getEndDate() != null) this.endDate = dto.getEndDate();
 		if (dto.getIsActive() != null) this.isActive = dto.getIsActive();
+		validateDiscountRate();
+	}
+
+	// 정률 할인율은 0~1 비율로만 저장한다 (정액 할인은 discountRate에 금액을 담는다)
+	private void validateDiscountRate() {
+		if (discountRate != null && discountRate < 0) {
+			throw new InvalidDiscountRateException();
+		}
+		if (discountType != DiscountType.FIXED_AMOUNT && discountRate != null && discountRate > 1) {
+			throw new InvalidDiscountRateException();
+		}
 	}
 
 }
@@ -0,0 +1,5 @@
+package kr.kro.airbob.domain.discountPolicy.event;
+
+// 할인 정책이 생성/수정/삭제되어 요금 견적 캐시를 비워야 할 때 발행
+public record DiscountPolicyChangedEvent(Long discountPolicyId) {
+}
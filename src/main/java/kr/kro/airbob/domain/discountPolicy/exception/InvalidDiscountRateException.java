@@ -0,0 +1,10 @@
+package kr.kro.airbob.domain.discountPolicy.exception;
+
+public class InvalidDiscountRateException extends RuntimeException {
+
+    private static final String ERROR_MESSAGE = "정률 할인율은 0~1 사이 비율(0.15 = 15%)이어야 합니다.";
+
+    public InvalidDiscountRateException() {
+        super(ERROR_MESSAGE);
+    }
+}
@@ -4,6 +4,7 @@ import kr.kro.airbob.domain.discountPolicy.entity.DiscountPolicy;
 import kr.kro.airbob.domain.discountPolicy.dto.response.DiscountPolicyResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +19,9 @@ public interface DiscountPolicyRepository extends JpaRepository<DiscountPolicy,
             "WHERE d.isActive = true")
     List<DiscountPolicyResponseDto> findActiveDiscountPolicies();
 
+    @Query("SELECT adp.discountPolicy FROM AccommodationDiscountPolicy adp " +
+            "WHERE adp.accommodation.id = :accommodationId " +
+            "AND adp.discountPolicy.isActive = true")
+    List<DiscountPolicy> findActiveByAccommodationId(@Param("accommodationId") Long accommodationId);
+
 }
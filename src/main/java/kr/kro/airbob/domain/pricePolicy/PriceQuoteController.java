@@ -0,0 +1,31 @@
+package kr.kro.airbob.domain.pricePolicy;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import kr.kro.airbob.domain.pricePolicy.dto.PriceQuoteResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/quote")
+public class PriceQuoteController {
+
+	private final PriceQuoteService priceQuoteService;
+
+	@GetMapping("/accommodations/{accommodationId}")
+	public ResponseEntity<PriceQuoteResponse.Quote> quote(
+		@PathVariable Long accommodationId,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+
+		return ResponseEntity.ok(priceQuoteService.quote(accommodationId, checkIn, checkOut));
+	}
+}
@@ -0,0 +1,131 @@
+package kr.kro.airbob.domain.pricePolicy;
+
+import static kr.kro.airbob.search.event.AccommodationIndexingEvents.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.discountPolicy.event.DiscountPolicyChangedEvent;
+import kr.kro.airbob.domain.discountPolicy.repository.DiscountPolicyRepository;
+import kr.kro.airbob.domain.pricePolicy.dto.PriceQuoteResponse;
+import kr.kro.airbob.domain.pricePolicy.exception.InvalidStayPeriodException;
+import kr.kro.airbob.domain.pricePolicy.quote.DiscountRule;
+import kr.kro.airbob.domain.pricePolicy.quote.RateTable;
+import kr.kro.airbob.domain.pricePolicy.repository.PricePolicyRepository;
+
+// 숙소별 요금표(시즌 요금 + 할인)를 메모리에 컴파일해 두고 숙박 기간 견적을 계산한다
+// 캐시는 노드마다 따로라 다른 노드의 변경은 TTL 뒤에 반영되므로, 결제 금액은 항상 DB에서 새로 계산한다
+@Service
+public class PriceQuoteService {
+
+	private static final int MAX_NIGHTS = 365;
+
+	private final AccommodationRepository accommodationRepository;
+	private final PricePolicyRepository pricePolicyRepository;
+	private final DiscountPolicyRepository discountPolicyRepository;
+
+	private final Cache<Long, RateTable> rateTables;
+
+	// 무효화 도중 로딩된 옛 요금표가 캐시에 다시 들어가지 않도록 세대 번호로 구분
+	private final AtomicLong generation = new AtomicLong();
+
+	public PriceQuoteService(AccommodationRepository accommodationRepository,
+		PricePolicyRepository pricePolicyRepository,
+		DiscountPolicyRepository discountPolicyRepository,
+		@Value("${price-quote.cache.max-size:10000}") long maxSize,
+		@Value("${price-quote.cache.ttl:PT10M}") Duration ttl) {
+
+		this.accommodationRepository = accommodationRepository;
+		this.pricePolicyRepository = pricePolicyRepository;
+		this.discountPolicyRepository = discountPolicyRepository;
+		this.rateTables = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.build();
+	}
+
+	// 화면 표시용 견적: 캐시된 요금표를 쓴다
+	public PriceQuoteResponse.Quote quote(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+		validateStayPeriod(checkIn, checkOut);
+		return rateTable(accommodationId).quote(checkIn, checkOut, LocalDateTime.now());
+	}
+
+	// 결제 금액용 견적: 캐시를 거치지 않고 DB의 현재 요금으로 계산하고, 이 노드의 캐시도 새 요금표로 바꾼다
+	public PriceQuoteResponse.Quote quoteForPayment(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+		validateStayPeriod(checkIn, checkOut);
+		return loadRateTable(accommodationId).quote(checkIn, checkOut, LocalDateTime.now());
+	}
+
+	public void evict(Long accommodationId) {
+		generation.incrementAndGet();
+		rateTables.invalidate(accommodationId);
+	}
+
+	public void evictAll() {
+		generation.incrementAndGet();
+		rateTables.invalidateAll();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleAccommodationUpdated(AccommodationUpdatedEvent event) {
+		evict(event.accommodationId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleAccommodationDeleted(AccommodationDeletedEvent event) {
+		evict(event.accommodationId());
+	}
+
+	// 할인 정책 하나가 여러 숙소에 연결될 수 있어 전체를 비운다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleDiscountPolicyChanged(DiscountPolicyChangedEvent event) {
+		evictAll();
+	}
+
+	private void validateStayPeriod(LocalDate checkIn, LocalDate checkOut) {
+		if (checkIn == null || checkOut == null || !checkIn.isBefore(checkOut)
+			|| checkIn.plusDays(MAX_NIGHTS).isBefore(checkOut)) {
+			throw new InvalidStayPeriodException();
+		}
+	}
+
+	private RateTable rateTable(Long accommodationId) {
+		RateTable cached = rateTables.getIfPresent(accommodationId);
+		return cached != null ? cached : loadRateTable(accommodationId);
+	}
+
+	private RateTable loadRateTable(Long accommodationId) {
+		long loadingGeneration = generation.get();
+		RateTable rateTable = compile(accommodationId);
+		if (generation.get() == loadingGeneration) {
+			rateTables.put(accommodationId, rateTable);
+		}
+		return rateTable;
+	}
+
+	private RateTable compile(Long accommodationId) {
+		int basePrice = accommodationRepository.findBasePriceById(accommodationId)
+			.orElseThrow(AccommodationNotFoundException::new);
+
+		List<DiscountRule> discountRules = discountPolicyRepository.findActiveByAccommodationId(accommodationId)
+			.stream()
+			.map(DiscountRule::from)
+			.toList();
+
+		return RateTable.compile(accommodationId, basePrice,
+			pricePolicyRepository.findAllByAccommodationId(accommodationId), discountRules);
+	}
+}
@@ -0,0 +1,32 @@
+package kr.kro.airbob.domain.pricePolicy.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Builder;
+
+public class PriceQuoteResponse {
+
+	private PriceQuoteResponse() {
+	}
+
+	@Builder
+	public record Quote(
+		Long accommodationId,
+		LocalDate checkIn,
+		LocalDate checkOut,
+		int nights,
+		List<NightlyPrice> nightlyPrices,
+		long subtotal,
+		long discountAmount,
+		String appliedDiscountName,
+		long totalPrice
+	) {
+	}
+
+	public record NightlyPrice(
+		LocalDate date,
+		int price
+	) {
+	}
+}
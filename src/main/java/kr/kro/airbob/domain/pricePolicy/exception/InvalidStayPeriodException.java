@@ -0,0 +1,10 @@
+package kr.kro.airbob.domain.pricePolicy.exception;
+
+public class InvalidStayPeriodException extends RuntimeException {
+
+	public static final String ERROR_MESSAGE = "체크아웃 날짜는 체크인 날짜 이후여야 합니다.";
+
+	public InvalidStayPeriodException() {
+		super(ERROR_MESSAGE);
+	}
+}
@@ -0,0 +1,89 @@
+package kr.kro.airbob.domain.pricePolicy.quote;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import kr.kro.airbob.domain.discountPolicy.common.DiscountType;
+import kr.kro.airbob.domain.discountPolicy.common.PromotionType;
+import kr.kro.airbob.domain.discountPolicy.entity.DiscountPolicy;
+
+// 견적 계산용으로 미리 풀어 둔 할인 정책 (엔티티/지연 로딩과 분리)
+// 정률 할인율은 0~1 비율(0.15 = 15%), 정액 할인은 discountRate가 할인 금액이다
+public record DiscountRule(
+	String name,
+	DiscountType discountType,
+	PromotionType promotionType,
+	double discountRate,
+	Integer minPaymentPrice,
+	Integer maxApplyPrice,
+	LocalDateTime startDate,
+	LocalDateTime endDate
+) {
+	private static final int LONG_STAY_MIN_NIGHTS = 7;
+	private static final int EARLY_BIRD_MIN_DAYS_AHEAD = 30;
+	private static final int LAST_MINUTE_MAX_DAYS_AHEAD = 3;
+
+	public static DiscountRule from(DiscountPolicy discountPolicy) {
+		return new DiscountRule(
+			discountPolicy.getName(),
+			discountPolicy.getDiscountType(),
+			discountPolicy.getPromotionType(),
+			discountPolicy.getDiscountRate() != null ? discountPolicy.getDiscountRate() : 0,
+			discountPolicy.getMinPaymentPrice(),
+			discountPolicy.getMaxApplyPrice(),
+			discountPolicy.getStartDate(),
+			discountPolicy.getEndDate());
+	}
+
+	// 적용 불가하면 0, 적용 가능하면 상한이 반영된 할인 금액
+	public long discountFor(StayPrice stayPrice, LocalDate checkIn, LocalDateTime now) {
+		if (now.isBefore(startDate) || now.isAfter(endDate)) {
+			return 0;
+		}
+		if (minPaymentPrice != null && stayPrice.subtotal() < minPaymentPrice) {
+			return 0;
+		}
+		if (!isEligible(stayPrice.nights(), ChronoUnit.DAYS.between(now.toLocalDate(), checkIn))) {
+			return 0;
+		}
+
+		long target = stayPrice.subtotal();
+		if (promotionType == PromotionType.WEEKDAY) {
+			target = stayPrice.weekdaySubtotal();
+		} else if (promotionType == PromotionType.WEEKEND) {
+			target = stayPrice.weekendSubtotal();
+		}
+
+		long amount = discountType == DiscountType.FIXED_AMOUNT
+			? Math.round(discountRate)
+			: (long)Math.floor(target * discountRate);
+
+		if (maxApplyPrice != null) {
+			amount = Math.min(amount, maxApplyPrice);
+		}
+		return Math.max(0, Math.min(amount, target));
+	}
+
+	private boolean isEligible(int nights, long daysAhead) {
+		if (promotionType == null) {
+			return true;
+		}
+		return switch (promotionType) {
+			case LONG_STAY -> nights >= LONG_STAY_MIN_NIGHTS;
+			case EARLY_BIRD -> daysAhead >= EARLY_BIRD_MIN_DAYS_AHEAD;
+			case LAST_MINUTE -> daysAhead >= 0 && daysAhead <= LAST_MINUTE_MAX_DAYS_AHEAD;
+			case WEEKDAY, WEEKEND -> true;
+			case COUPON -> false; // 쿠폰은 사용자가 직접 적용해야 하므로 자동 견적에서 제외
+		};
+	}
+
+	// 숙박 요금 합계 (평일/주말 박 구분 포함)
+	public record StayPrice(
+		int nights,
+		long subtotal,
+		long weekdaySubtotal,
+		long weekendSubtotal
+	) {
+	}
+}
@@ -0,0 +1,156 @@
+package kr.kro.airbob.domain.pricePolicy.quote;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import kr.kro.airbob.domain.pricePolicy.PricePolicy;
+import kr.kro.airbob.domain.pricePolicy.dto.PriceQuoteResponse;
+
+// 숙소 하나의 시즌 요금을 겹치지 않는 구간 배열로 펼쳐 둔 요금표 (불변, 캐시되어 여러 스레드에서 공유)
+public class RateTable {
+
+	private final Long accommodationId;
+	private final int basePrice;
+
+	// i번째 구간: [starts[i], ends[i]) (epochDay), 가격 prices[i]
+	private final long[] starts;
+	private final long[] ends;
+	private final int[] prices;
+
+	private final List<DiscountRule> discountRules;
+
+	private RateTable(Long accommodationId, int basePrice, long[] starts, long[] ends, int[] prices,
+		List<DiscountRule> discountRules) {
+		this.accommodationId = accommodationId;
+		this.basePrice = basePrice;
+		this.starts = starts;
+		this.ends = ends;
+		this.prices = prices;
+		this.discountRules = discountRules;
+	}
+
+	// 시즌이 겹치면 더 늦게 시작하는(같으면 나중에 등록된) 정책이 우선
+	public static RateTable compile(Long accommodationId, int basePrice, List<PricePolicy> pricePolicies,
+		List<DiscountRule> discountRules) {
+
+		List<PricePolicy> valid = pricePolicies.stream()
+			.filter(policy -> policy.getStartDate() != null && policy.getEndDate() != null && policy.getPrice() != null)
+			.filter(policy -> !policy.getEndDate().isBefore(policy.getStartDate()))
+			.sorted(Comparator.comparing(PricePolicy::getStartDate)
+				.thenComparing(PricePolicy::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+			.toList();
+
+		TreeSet<Long> boundaries = new TreeSet<>();
+		for (PricePolicy policy : valid) {
+			boundaries.add(policy.getStartDate().toEpochDay());
+			boundaries.add(policy.getEndDate().toEpochDay() + 1); // endDate는 해당 날짜까지 포함
+		}
+
+		List<long[]> intervals = new ArrayList<>();
+		List<Integer> intervalPrices = new ArrayList<>();
+		Long from = null;
+		for (Long to : boundaries) {
+			if (from != null) {
+				Integer price = winningPrice(valid, from, to);
+				if (price != null) {
+					int last = intervals.size() - 1;
+					if (last >= 0 && intervals.get(last)[1] == from && intervalPrices.get(last).equals(price)) {
+						intervals.get(last)[1] = to;
+					} else {
+						intervals.add(new long[] {from, to});
+						intervalPrices.add(price);
+					}
+				}
+			}
+			from = to;
+		}
+
+		long[] starts = new long[intervals.size()];
+		long[] ends = new long[intervals.size()];
+		int[] prices = new int[intervals.size()];
+		for (int i = 0; i < intervals.size(); i++) {
+			starts[i] = intervals.get(i)[0];
+			ends[i] = intervals.get(i)[1];
+			prices[i] = intervalPrices.get(i);
+		}
+
+		return new RateTable(accommodationId, basePrice, starts, ends, prices, List.copyOf(discountRules));
+	}
+
+	public PriceQuoteResponse.Quote quote(LocalDate checkIn, LocalDate checkOut, LocalDateTime now) {
+		long firstNight = checkIn.toEpochDay();
+		int nights = (int)(checkOut.toEpochDay() - firstNight);
+
+		List<PriceQuoteResponse.NightlyPrice> nightlyPrices = new ArrayList<>(nights);
+		long subtotal = 0;
+		long weekendSubtotal = 0;
+
+		// 첫 박만 이진 탐색하고 이후는 구간 포인터를 앞으로 옮긴다
+		int index = floorIndex(firstNight);
+		DayOfWeek dayOfWeek = checkIn.getDayOfWeek();
+		for (int i = 0; i < nights; i++) {
+			long night = firstNight + i;
+			while (index + 1 < starts.length && starts[index + 1] <= night) {
+				index++;
+			}
+
+			int price = (index >= 0 && night < ends[index]) ? prices[index] : basePrice;
+			nightlyPrices.add(new PriceQuoteResponse.NightlyPrice(checkIn.plusDays(i), price));
+
+			subtotal += price;
+			if (dayOfWeek == DayOfWeek.FRIDAY || dayOfWeek == DayOfWeek.SATURDAY) {
+				weekendSubtotal += price;
+			}
+			dayOfWeek = dayOfWeek.plus(1);
+		}
+
+		DiscountRule.StayPrice stayPrice =
+			new DiscountRule.StayPrice(nights, subtotal, subtotal - weekendSubtotal, weekendSubtotal);
+
+		// 적용 가능한 할인 중 가장 큰 하나만 적용
+		DiscountRule applied = null;
+		long discountAmount = 0;
+		for (DiscountRule rule : discountRules) {
+			long amount = rule.discountFor(stayPrice, checkIn, now);
+			if (amount > discountAmount) {
+				discountAmount = amount;
+				applied = rule;
+			}
+		}
+
+		return PriceQuoteResponse.Quote.builder()
+			.accommodationId(accommodationId)
+			.checkIn(checkIn)
+			.checkOut(checkOut)
+			.nights(nights)
+			.nightlyPrices(nightlyPrices)
+			.subtotal(subtotal)
+			.discountAmount(discountAmount)
+			.appliedDiscountName(applied != null ? applied.name() : null)
+			.totalPrice(subtotal - discountAmount)
+			.build();
+	}
+
+	private int floorIndex(long day) {
+		int found = Arrays.binarySearch(starts, day);
+		return found >= 0 ? found : -found - 2;
+	}
+
+	private static Integer winningPrice(List<PricePolicy> policies, long from, long to) {
+		PricePolicy winner = null;
+		for (PricePolicy policy : policies) {
+			long start = policy.getStartDate().toEpochDay();
+			long end = policy.getEndDate().toEpochDay() + 1;
+			if (start <= from && to <= end) {
+				winner = policy; // 시작일/ID 순으로 정렬되어 있어 마지막으로 덮는 정책이 우선
+			}
+		}
+		return winner != null ? winner.getPrice() : null;
+	}
+}
@@ -0,0 +1,19 @@
+package kr.kro.airbob.domain.pricePolicy.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.kro.airbob.domain.pricePolicy.PricePolicy;
+
+public interface PricePolicyRepository extends JpaRepository<PricePolicy, Long> {
+
+	@Query("""
+		SELECT p FROM PricePolicy p
+		WHERE p.accommodation.id = :accommodationId
+		ORDER BY p.startDate, p.id
+		""")
+	List<PricePolicy> findAllByAccommodationId(@Param("accommodationId") Long accommodationId);
+}
@@ -23,7 +23,7 @@ import kr.kro.airbob.domain.accommodation.repository.AccommodationAmenityReposit
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
 import kr.kro.airbob.domain.review.AccommodationReviewSummary;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
-import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
+import kr.kro.airbob.domain.wishlist.WishlistMembershipStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,7 +36,7 @@ public class RecentlyViewedService {
 	private final AccommodationRepository accommodationRepository;
 	private final AccommodationReviewSummaryRepository summaryRepository;
 	private final AccommodationAmenityRepository accommodationAmenityRepository;
-	private final WishlistAccommodationRepository wishlistAccommodationRepository;
+	private final WishlistMembershipStore wishlistMembershipStore;
 
 	private static final String RECENTLY_VIEWED_KEY_PREFIX = "recently_viewed:";
 	private static final int MAX_COUNT = 100;
@@ -130,8 +130,7 @@ public class RecentlyViewedService {
 	}
 
 	private Map<Long, Boolean> getWishlistMap(Long memberId, List<Long> accommodationIds) {
-		Set<Long> wishlistAccommodationIds = wishlistAccommodationRepository
-			.findAccommodationIdsByMemberIdAndAccommodationIds(memberId, accommodationIds);
+		Set<Long> wishlistAccommodationIds = wishlistMembershipStore.findWishlisted(memberId, accommodationIds);
 
 		return accommodationIds.stream()
 			.collect(Collectors.toMap(
@@ -14,22 +14,55 @@ import java.util.Map;
 @RequestMapping("/api/reservations/accommodations")
 public class ReservationController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ReservationService reservationService;
+    private final ReservationIdempotencyManager reservationIdempotencyManager;
 
     @PostMapping("/{accommodationId}")
     public ResponseEntity<Map<String,Long>> createReservation(
             @PathVariable Long accommodationId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody ReservationRequestDto.CreateReservationDto createReservationDto,
             HttpServletRequest request) {
         //todo 커스텀 에러 생성
         Long memberId = (Long) request.getAttribute("memberId");
 
-        if(!reservationService.preReserveDates(memberId, accommodationId, createReservationDto)){
+        if (idempotencyKey == null) {
+            return reserve(memberId, accommodationId, createReservationDto);
+        }
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > ReservationIdempotencyManager.MAX_KEY_LENGTH) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
 
-        Long reservationId = reservationService.createReservation(memberId, accommodationId, createReservationDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", reservationId));
+        // 같은 키의 재시도는 선점/DB 경로에 들어가지 않고 처음 결과를 그대로 돌려준다
+        String fingerprint = ReservationIdempotencyManager.fingerprint(memberId, accommodationId, createReservationDto);
+        ReservationIdempotencyManager.Claim claim =
+                reservationIdempotencyManager.claim(memberId, idempotencyKey, fingerprint);
+        if (claim.status() == ReservationIdempotencyManager.Status.MISMATCH) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build(); // 다른 요청에 같은 키를 재사용
+        }
+        if (claim.status() == ReservationIdempotencyManager.Status.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", claim.reservationId()));
+        }
+        if (claim.status() == ReservationIdempotencyManager.Status.IN_PROGRESS) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build(); // 처음 요청이 아직 처리 중
+        }
+
+        try {
+            ResponseEntity<Map<String, Long>> response = reserve(memberId, accommodationId, createReservationDto);
+            if (response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null) {
+                reservationIdempotencyManager.complete(memberId, idempotencyKey, fingerprint,
+                        response.getBody().get("id"));
+            } else {
+                reservationIdempotencyManager.release(memberId, idempotencyKey, fingerprint);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            reservationIdempotencyManager.release(memberId, idempotencyKey, fingerprint);
+            throw e;
+        }
     }
 
     @DeleteMapping("/{reservationId}")
@@ -37,4 +70,10 @@ public class ReservationController {
         reservationService.cancelReservation(reservationId);
     }
 
+    private ResponseEntity<Map<String, Long>> reserve(Long memberId, Long accommodationId,
+                                                      ReservationRequestDto.CreateReservationDto createReservationDto) {
+        return reservationService.confirmReservation(memberId, accommodationId, createReservationDto)
+                .map(reservationId -> ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", reservationId)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+    }
 }
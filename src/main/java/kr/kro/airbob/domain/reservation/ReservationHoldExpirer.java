@@ -0,0 +1,54 @@
+package kr.kro.airbob.domain.reservation;
+
+import static kr.kro.airbob.search.event.AccommodationIndexingEvents.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.kro.airbob.domain.availability.AvailabilityCalendarService;
+import kr.kro.airbob.domain.reservation.dto.ExpiredHold;
+import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import lombok.RequiredArgsConstructor;
+
+// 만료된 임시 예약 한 묶음을 한 트랜잭션에서 정리 (날짜 삭제 → 달력 재계산 → 숙소별 색인 이벤트 1회)
+@Component
+@RequiredArgsConstructor
+public class ReservationHoldExpirer {
+
+    private final ReservedDateRepository reservedDateRepository;
+    private final AvailabilityCalendarService availabilityCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 숙소마다 달력 잠금을 잡은 뒤 원본을 다시 읽으므로, 그 사이 커밋된 예약도 보이도록 READ COMMITTED로 실행
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int expire(List<ExpiredHold> holds) {
+        int deleted = reservedDateRepository.deletePendingByIds(
+                holds.stream().map(ExpiredHold::id).toList());
+
+        if (deleted == 0) {
+            return 0;
+        }
+
+        // 숙소/연도 순으로 정렬해 잠금 순서를 고정
+        Map<Long, Set<Integer>> yearsByAccommodation = new TreeMap<>();
+        for (ExpiredHold hold : holds) {
+            yearsByAccommodation.computeIfAbsent(hold.accommodationId(), id -> new TreeSet<>())
+                    .add(hold.reservedAt().getYear());
+        }
+
+        yearsByAccommodation.forEach((accommodationId, years) -> {
+            years.forEach(year -> availabilityCalendarService.rebuild(accommodationId, year));
+            eventPublisher.publishEvent(new ReservationChangedEvent(accommodationId));
+        });
+
+        return deleted;
+    }
+}
@@ -0,0 +1,80 @@
+package kr.kro.airbob.domain.reservation;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 숙박 기간의 모든 날짜를 Redis 스크립트 한 번으로 선점/해제 (전부 성공 or 전부 실패)
+@Component
+@RequiredArgsConstructor
+public class ReservationHoldManager {
+
+    public static final Duration HOLD_TTL = Duration.ofSeconds(60);
+
+    // 다른 소유자가 잡은 날짜가 하나라도 있으면 아무것도 잡지 않는다
+    private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>("""
+        for _, key in ipairs(KEYS) do
+            local owner = redis.call("GET", key)
+            if owner and owner ~= ARGV[1] then
+                return 0
+            end
+        end
+        for _, key in ipairs(KEYS) do
+            redis.call("SET", key, ARGV[1], "PX", ARGV[2])
+        end
+        return 1
+        """, Long.class);
+
+    // 본인이 잡은 날짜만 해제한다
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local released = 0
+        for _, key in ipairs(KEYS) do
+            if redis.call("GET", key) == ARGV[1] then
+                redis.call("DEL", key)
+                released = released + 1
+            end
+        end
+        return released
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public String issueHoldToken(Long memberId) {
+        return memberId + ":" + UUID.randomUUID();
+    }
+
+    public boolean hold(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String holdToken) {
+        List<String> keys = holdKeys(accommodationId, checkIn, checkOut);
+        if (keys.isEmpty()) {
+            return false;
+        }
+
+        Long result = redisTemplate.execute(HOLD_SCRIPT, keys, holdToken, String.valueOf(HOLD_TTL.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    public long release(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String holdToken) {
+        List<String> keys = holdKeys(accommodationId, checkIn, checkOut);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, keys, holdToken);
+        return released != null ? released : 0;
+    }
+
+    // 숙소 ID를 hash tag로 감싸 한 숙소의 날짜 키가 같은 슬롯에 모이도록 한다 (클러스터 환경 대비)
+    private List<String> holdKeys(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+        return checkIn.datesUntil(checkOut)
+            .map(night -> "lock:accommodation:{" + accommodationId + "}:dayToReserve:" + night)
+            .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package kr.kro.airbob.domain.reservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kro.airbob.domain.reservation.dto.ExpiredHold;
+import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import lombok.extern.slf4j.Slf4j;
+
+// 결제까지 이어지지 않고 버려진 PENDING 날짜를 id 순으로 나눠 정리한다
+// 예약 확정은 Redis 선점 후 바로 COMPLETED로 저장하므로, 지금은 PENDING을 쓰던 이전 흐름에서 남은 행을 치우는 용도다
+// (남은 행이 정리되면 reservation.hold-sweeper.enabled=false로 끈다)
+@Slf4j
+@Component
+public class ReservationHoldSweeper {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ReservedDateRepository reservedDateRepository;
+    private final ReservationHoldExpirer reservationHoldExpirer;
+    private final Counter reclaimedCounter;
+    private final Timer sweepTimer;
+    private final boolean enabled;
+
+    public ReservationHoldSweeper(ReservedDateRepository reservedDateRepository,
+                                  ReservationHoldExpirer reservationHoldExpirer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${reservation.hold-sweeper.enabled:true}") boolean enabled) {
+        this.reservedDateRepository = reservedDateRepository;
+        this.reservationHoldExpirer = reservationHoldExpirer;
+        this.reclaimedCounter = Counter.builder("reservation.hold.sweeper.reclaimed")
+                .description("만료되어 삭제된 PENDING 예약 날짜 수")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("reservation.hold.sweeper.duration")
+                .description("만료 임시 예약 정리 1회 소요 시간")
+                .register(meterRegistry);
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.hold-sweeper.fixed-delay:3600000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        sweepTimer.record(this::sweepExpiredHolds);
+    }
+
+    private void sweepExpiredHolds() {
+        // Redis 선점 TTL이 지난 임시 예약만 정리 대상
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(ReservationHoldManager.HOLD_TTL);
+
+        long lastId = 0L;
+        int reclaimed = 0;
+
+        while (true) {
+            List<ExpiredHold> holds = reservedDateRepository.findExpiredHolds(
+                    expiredBefore, lastId, PageRequest.of(0, BATCH_SIZE));
+            if (holds.isEmpty()) {
+                break;
+            }
+
+            try {
+                int deleted = reservationHoldExpirer.expire(holds);
+                reclaimedCounter.increment(deleted);
+                reclaimed += deleted;
+            } catch (Exception e) {
+                log.error("[HOLD-SWEEPER] 임시 예약 정리 실패: fromId={}, size={}", holds.get(0).id(), holds.size(), e);
+            }
+
+            lastId = holds.get(holds.size() - 1).id();
+        }
+
+        if (reclaimed > 0) {
+            log.info("[HOLD-SWEEPER] 만료된 임시 예약 날짜 {}건 정리", reclaimed);
+        }
+    }
+}
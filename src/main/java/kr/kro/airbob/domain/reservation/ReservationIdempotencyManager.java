@@ -0,0 +1,109 @@
+package kr.kro.airbob.domain.reservation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.reservation.dto.ReservationRequestDto;
+import lombok.RequiredArgsConstructor;
+
+// Idempotency-Key 별 예약 요청 결과를 Redis에 보관해, 재시도 요청은 락/DB를 거치지 않고 처음 결과를 돌려준다
+// 값은 "{요청 지문}|{IN_PROGRESS 또는 예약 id}"로 저장해, 같은 키를 다른 요청에 다시 쓰면 결과를 돌려주지 않는다
+@Component
+@RequiredArgsConstructor
+public class ReservationIdempotencyManager {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String SEPARATOR = "|";
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+    private static final Duration COMPLETED_TTL = Duration.ofHours(24);
+
+    // 이미 기록이 있으면 그 값을, 없으면 처리 중 표시를 남기고 nil을 돌려준다 (왕복 1회)
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local existing = redis.call("GET", KEYS[1])
+        if existing then
+            return existing
+        end
+        redis.call("SET", KEYS[1], ARGV[1], "PX", ARGV[2])
+        return nil
+        """, String.class);
+
+    // 처리 중 표시가 이 요청의 것일 때만 지운다 (TTL이 지나 다른 요청이 선점했거나 완료된 기록은 남긴다)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call("GET", KEYS[1]) == ARGV[1] then
+            return redis.call("DEL", KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Claim claim(Long memberId, String idempotencyKey, String fingerprint) {
+        String existing = redisTemplate.execute(CLAIM_SCRIPT, List.of(key(memberId, idempotencyKey)),
+                fingerprint + SEPARATOR + IN_PROGRESS, String.valueOf(IN_PROGRESS_TTL.toMillis()));
+
+        if (existing == null) {
+            return new Claim(Status.ACQUIRED, null);
+        }
+
+        // 지문이 없거나 다른 값은 같은 요청의 재시도로 볼 수 없다
+        int separatorIndex = existing.lastIndexOf(SEPARATOR);
+        if (separatorIndex < 0 || !existing.substring(0, separatorIndex).equals(fingerprint)) {
+            return new Claim(Status.MISMATCH, null);
+        }
+        String result = existing.substring(separatorIndex + 1);
+        if (IN_PROGRESS.equals(result)) {
+            return new Claim(Status.IN_PROGRESS, null);
+        }
+        return new Claim(Status.COMPLETED, Long.valueOf(result));
+    }
+
+    public void complete(Long memberId, String idempotencyKey, String fingerprint, Long reservationId) {
+        redisTemplate.opsForValue().set(key(memberId, idempotencyKey),
+                fingerprint + SEPARATOR + reservationId, COMPLETED_TTL);
+    }
+
+    // 예약이 성립하지 않은 요청은 기록을 지워 같은 키로 다시 시도할 수 있게 한다
+    public void release(Long memberId, String idempotencyKey, String fingerprint) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key(memberId, idempotencyKey)),
+                fingerprint + SEPARATOR + IN_PROGRESS);
+    }
+
+    // 회원, 숙소, 요청 본문이 같아야 같은 요청의 재시도로 본다
+    public static String fingerprint(Long memberId, Long accommodationId,
+                                     ReservationRequestDto.CreateReservationDto request) {
+        String source = String.join("\n",
+                String.valueOf(memberId),
+                String.valueOf(accommodationId),
+                String.valueOf(request.getCheckInDate()),
+                String.valueOf(request.getCheckOutDate()),
+                String.valueOf(request.getMessage()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String key(Long memberId, String idempotencyKey) {
+        return "idempotency:reservation:" + memberId + ":" + idempotencyKey;
+    }
+
+    public enum Status {
+        ACQUIRED, IN_PROGRESS, COMPLETED, MISMATCH
+    }
+
+    public record Claim(Status status, Long reservationId) {
+    }
+}
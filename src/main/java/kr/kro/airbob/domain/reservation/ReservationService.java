@@ -6,29 +6,31 @@ import jakarta.annotation.PostConstruct;
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.availability.AvailabilityCalendarService;
 import kr.kro.airbob.domain.member.Member;
 import kr.kro.airbob.domain.member.MemberRepository;
 import kr.kro.airbob.domain.member.exception.MemberNotFoundException;
+import kr.kro.airbob.domain.pricePolicy.PriceQuoteService;
 import kr.kro.airbob.domain.reservation.common.ReservationStatus;
 import kr.kro.airbob.domain.reservation.dto.ReservationRequestDto;
 import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservedDate;
+import kr.kro.airbob.domain.reservation.exception.AlreadyReservedException;
 import kr.kro.airbob.domain.reservation.exception.ReservationNotFoundException;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
 import kr.kro.airbob.search.event.AccommodationIndexingEvents;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -42,62 +44,28 @@ public class ReservationService {
     private final ReservedDateRepository reservedDateRepository;
     private final AccommodationRepository accommodationRepository;
     private final MemberRepository memberRepository;
-    private final RedissonClient redissonClient;
+    private final ReservationHoldManager reservationHoldManager;
+    private final AvailabilityCalendarService availabilityCalendarService;
+    private final PriceQuoteService priceQuoteService;
 
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public boolean preReserveDates(Long userId, Long accommodationId, ReservationRequestDto.CreateReservationDto createReservationDto) {
-        long daysToReserve = ChronoUnit.DAYS.between(createReservationDto.getCheckInDate(), createReservationDto.getCheckOutDate());
-        Duration lockTtl = Duration.ofSeconds(60);
-
-        List<String> acquiredLockKeys = new ArrayList<>();
-
-        for (int n = 0; n < daysToReserve - 1; n++) {
-            LocalDate dayToReserve = createReservationDto.getCheckInDate().plusDays(n);
-            String lockKey = "lock:accommodation:" + accommodationId + ":dayToReserve:" + dayToReserve;
-
-            RBucket<String> lockBucket = redissonClient.getBucket(lockKey);
-            boolean acquired = lockBucket.setIfAbsent(String.valueOf(userId), lockTtl);
-
-            if (!acquired) {
-                // 락 잡기 실패 → 지금까지 잡은 락 해제
-                for (String key : acquiredLockKeys) {
-                    RBucket<String> bucket = redissonClient.getBucket(key);
-                    String lockOwner = bucket.get();
-                    if (String.valueOf(userId).equals(lockOwner)) {
-                        bucket.delete();
-                    }
-                }
-                return false;
-            }
-
-            acquiredLockKeys.add(lockKey);
-        }
+        LocalDate checkIn = createReservationDto.getCheckInDate();
+        LocalDate checkOut = createReservationDto.getCheckOutDate();
 
-        // 2. DB에 실제 예약된 날짜가 있는지 확인
-        List<ReservedDate> alreadyReservedDates = reservedDateRepository.findReservedDates(
-                accommodationId, createReservationDto.getCheckInDate(), createReservationDto.getCheckOutDate());
-
-        if (!alreadyReservedDates.isEmpty()) {
+        // 1. 숙박 기간의 모든 날짜를 선점하고 예약 가능 여부 확인
+        if (!holdAvailableNights(userId, accommodationId, checkIn, checkOut)) {
             return false; // 예약 불가
         }
 
-        // 3. checkin checkout 날짜에 대해 예약 처리 (임시 예약 상태로 처리)
-        List<ReservedDate> preReservedDates = new ArrayList<>();
-
+        // 2. checkin checkout 날짜에 대해 예약 처리 (임시 예약 상태로 처리)
         Accommodation accommodation = accommodationRepository.findById(accommodationId)
                 .orElseThrow(AccommodationNotFoundException::new);
 
-        for (int n = 0; n < daysToReserve - 1; n++) {
-            ReservedDate reservedDate = ReservedDate.builder()
-                    .reservedAt(createReservationDto.getCheckInDate().plusDays(n))
-                    .status(ReservationStatus.PENDING)
-                    .accommodation(accommodation)
-                    .build();
-            preReservedDates.add(reservedDate);
-        }
-        reservedDateRepository.saveAll(preReservedDates);
+        availabilityCalendarService.markBooked(accommodationId, checkIn, checkOut);
+        reservedDateRepository.saveAll(buildReservedDates(accommodation, checkIn, checkOut, ReservationStatus.PENDING));
 
         return true; // 임시 예약 완료
     }
@@ -110,40 +78,115 @@ public class ReservationService {
         Accommodation accommodation = accommodationRepository.findById(accommodationId)
                 .orElseThrow(AccommodationNotFoundException::new);
 
-        long totalReservationDays = ChronoUnit.DAYS.between(
-                createReservationDto.getCheckInDate(),
-                createReservationDto.getCheckOutDate()
-        );
-
-        long totalPrice = totalReservationDays * accommodation.getBasePrice();
+        LocalDate checkIn = createReservationDto.getCheckInDate();
+        LocalDate checkOut = createReservationDto.getCheckOutDate();
 
         //1. 예약 확정 저장
-        Reservation savedReservation = reservationRepository.save(Reservation.createReservation(createReservationDto, accommodation, guest, (int) totalPrice));
-
-        // 2. ReservedDate 상태 업데이트
-        List<ReservedDate> reservedDates = reservedDateRepository.findReservedDates(
-                accommodationId, createReservationDto.getCheckInDate(), createReservationDto.getCheckOutDate());
+        Reservation savedReservation = reservationRepository.save(Reservation.createReservation(
+                createReservationDto, accommodation, guest, quoteTotalPrice(accommodationId, checkIn, checkOut)));
 
-        for (ReservedDate reservedDate : reservedDates) {
-            reservedDate.completeReservation();
+        // 2. 임시 예약된 날짜를 한 번의 UPDATE로 확정 (임시 예약이 만료되어 사라졌다면 실패)
+        int completedNights = reservedDateRepository.completePendingDates(accommodationId, checkIn, checkOut);
+        if (completedNights != ChronoUnit.DAYS.between(checkIn, checkOut)) {
+            throw new AlreadyReservedException();
         }
 
-        eventPublisher.publishEvent(new ReservationChangedEvent(accommodationId));
+        eventPublisher.publishEvent(ReservationChangedEvent.booked(accommodationId, checkIn, checkOut));
 
         return savedReservation.getId();
     }
 
+    // 선점 → 예약 확정까지 한 트랜잭션에서 처리 (날짜는 COMPLETED 상태로 한 번에 batch insert)
+    @Transactional
+    public Optional<Long> confirmReservation(Long memberId, Long accommodationId, ReservationRequestDto.CreateReservationDto createReservationDto) {
+        LocalDate checkIn = createReservationDto.getCheckInDate();
+        LocalDate checkOut = createReservationDto.getCheckOutDate();
+
+        Member guest = memberRepository.findById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
+
+        Accommodation accommodation = accommodationRepository.findById(accommodationId)
+                .orElseThrow(AccommodationNotFoundException::new);
+
+        if (!holdAvailableNights(memberId, accommodationId, checkIn, checkOut)) {
+            return Optional.empty();
+        }
+
+        availabilityCalendarService.markBooked(accommodationId, checkIn, checkOut);
+
+        Reservation savedReservation = reservationRepository.save(Reservation.createReservation(
+                createReservationDto, accommodation, guest, quoteTotalPrice(accommodationId, checkIn, checkOut)));
+        reservedDateRepository.saveAll(buildReservedDates(accommodation, checkIn, checkOut, ReservationStatus.COMPLETED));
+
+        eventPublisher.publishEvent(ReservationChangedEvent.booked(accommodationId, checkIn, checkOut));
+
+        return Optional.of(savedReservation.getId());
+    }
+
     @Transactional
     public void cancelReservation(Long reservationId) {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(ReservationNotFoundException::new);
 
-        reservedDateRepository.deleteReservedDates(reservation.getAccommodation().getId(),
-                LocalDate.of(reservation.getCheckIn().getYear(), reservation.getCheckIn().getMonth(), reservation.getCheckIn().getDayOfMonth()),
-                LocalDate.of(reservation.getCheckOut().getYear(), reservation.getCheckOut().getMonth(), reservation.getCheckOut().getDayOfMonth()));
+        Long accommodationId = reservation.getAccommodation().getId();
+        LocalDate checkIn = reservation.getCheckIn().toLocalDate();
+        LocalDate checkOut = reservation.getCheckOut().toLocalDate();
+
+        reservedDateRepository.deleteReservedDates(accommodationId, checkIn, checkOut);
+        availabilityCalendarService.markAvailable(accommodationId, checkIn, checkOut);
 
         reservationRepository.delete(reservation);
 
-        eventPublisher.publishEvent(new ReservationChangedEvent(reservation.getAccommodation().getId()));
+        eventPublisher.publishEvent(ReservationChangedEvent.cancelled(accommodationId, checkIn, checkOut));
+    }
+
+    private boolean holdAvailableNights(Long memberId, Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+        if (!checkIn.isBefore(checkOut)) {
+            return false;
+        }
+
+        // 숙박 기간의 모든 날짜를 한 번에 선점 (하나라도 선점되어 있으면 실패)
+        String holdToken = reservationHoldManager.issueHoldToken(memberId);
+        if (!reservationHoldManager.hold(accommodationId, checkIn, checkOut, holdToken)) {
+            return false;
+        }
+
+        // 예약 달력 비트맵으로 이미 예약된 날짜가 있는지 확인
+        if (!availabilityCalendarService.isAvailable(accommodationId, checkIn, checkOut)) {
+            reservationHoldManager.release(accommodationId, checkIn, checkOut, holdToken);
+            return false;
+        }
+
+        releaseHoldAfterCompletion(accommodationId, checkIn, checkOut, holdToken);
+        return true;
+    }
+
+    // 트랜잭션이 끝나면 (커밋이든 롤백이든) 비트맵과 reserved_dates가 기준이 되므로 선점을 바로 푼다
+    // 풀지 않으면 실패한 요청의 재시도나 취소 직후의 재예약이 HOLD_TTL 동안 막힌다
+    private void releaseHoldAfterCompletion(Long accommodationId, LocalDate checkIn, LocalDate checkOut, String holdToken) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                reservationHoldManager.release(accommodationId, checkIn, checkOut, holdToken);
+            }
+        });
+    }
+
+    private List<ReservedDate> buildReservedDates(Accommodation accommodation, LocalDate checkIn, LocalDate checkOut, ReservationStatus status) {
+        return checkIn.datesUntil(checkOut)
+                .map(night -> ReservedDate.builder()
+                        .reservedAt(night)
+                        .status(status)
+                        .accommodation(accommodation)
+                        .build())
+                .toList();
+    }
+
+    // 시즌 요금과 할인이 반영된 견적 금액으로 결제 금액을 정한다 (캐시가 아닌 DB의 현재 요금 기준)
+    private int quoteTotalPrice(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+        return (int) priceQuoteService.quoteForPayment(accommodationId, checkIn, checkOut).totalPrice();
     }
 }
@@ -2,6 +2,7 @@ package kr.kro.airbob.domain.reservation.common;
 
 public enum ReservationStatus {
 
-    COMPLETED, PENDING
+    COMPLETED, PENDING,
+    BLOCKED // 호스트가 직접 막아 둔 날짜 (reserved_dates 전용)
 
 }
@@ -0,0 +1,10 @@
+package kr.kro.airbob.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+// 호스트가 차단한 날짜 (여러 숙소를 한 번에 조회하는 projection)
+public record BlockedNight(
+    Long accommodationId,
+    LocalDate reservedAt
+) {
+}
@@ -0,0 +1,11 @@
+package kr.kro.airbob.domain.reservation.dto;
+
+import java.time.LocalDate;
+
+// 확정되지 않고 만료된 임시 예약 날짜 (ReservedDate의 정리 대상 조회용 projection)
+public record ExpiredHold(
+    Long id,
+    Long accommodationId,
+    LocalDate reservedAt
+) {
+}
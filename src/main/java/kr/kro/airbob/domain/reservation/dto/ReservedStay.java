@@ -0,0 +1,11 @@
+package kr.kro.airbob.domain.reservation.dto;
+
+import java.time.LocalDateTime;
+
+// 색인용 확정 예약 기간 (여러 숙소를 한 번에 조회하는 projection)
+public record ReservedStay(
+    Long accommodationId,
+    LocalDateTime checkIn,
+    LocalDateTime checkOut
+) {
+}
@@ -15,8 +15,10 @@ import java.time.LocalDate;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReservedDate extends BaseEntity {
+    // IDENTITY는 JDBC batch insert가 불가능해 시퀀스(MySQL에서는 테이블)로 id를 50개씩 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reserved_dates_seq_generator")
+    @SequenceGenerator(name = "reserved_dates_seq_generator", sequenceName = "reserved_dates_seq", allocationSize = 50)
     private Long id;
 
     private LocalDate reservedAt;
@@ -1,6 +1,7 @@
 package kr.kro.airbob.domain.reservation.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import kr.kro.airbob.domain.reservation.common.ReservationStatus;
+import kr.kro.airbob.domain.reservation.dto.ReservedStay;
 import kr.kro.airbob.domain.reservation.entity.Reservation;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
@@ -27,5 +29,34 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 		@Param("today") LocalDateTime today
 	);
 
+	// 여러 숙소의 미래 확정 예약 기간을 한 번에 조회 (색인 문서 일괄 생성용)
+	@Query("""
+		SELECT new kr.kro.airbob.domain.reservation.dto.ReservedStay(r.accommodation.id, r.checkIn, r.checkOut)
+		FROM Reservation r
+		WHERE r.accommodation.id IN :accommodationIds
+		AND r.status = :status
+		AND r.checkOut >= :today
+		""")
+	List<ReservedStay> findFutureStaysByAccommodationIdInAndStatus(
+		@Param("accommodationIds") Collection<Long> accommodationIds,
+		@Param("status") ReservationStatus status,
+		@Param("today") LocalDateTime today
+	);
+
+	// 기간 [from, to)와 숙박일이 겹치는 예약 (달력 재구성/정합성 검사용)
+	@Query("""
+		SELECT r FROM Reservation r
+		WHERE r.accommodation.id = :accommodationId
+		AND r.status = :status
+		AND r.checkIn < :to
+		AND r.checkOut > :from
+		""")
+	List<Reservation> findOverlappingReservations(
+		@Param("accommodationId") Long accommodationId,
+		@Param("status") ReservationStatus status,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
     Optional<Long> findMemberIdById(Long reservationId);
 }
@@ -1,6 +1,10 @@
 package kr.kro.airbob.domain.reservation.repository;
 
+import kr.kro.airbob.domain.reservation.common.ReservationStatus;
+import kr.kro.airbob.domain.reservation.dto.BlockedNight;
+import kr.kro.airbob.domain.reservation.dto.ExpiredHold;
 import kr.kro.airbob.domain.reservation.entity.ReservedDate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +12,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +27,72 @@ public interface ReservedDateRepository extends JpaRepository<ReservedDate, Long
             @Param("checkIn") LocalDate checkIn,
             @Param("checkOut") LocalDate checkOut);
 
+    @Query("SELECT r.reservedAt FROM ReservedDate r " +
+            "WHERE r.accommodation.id = :accommodationId " +
+            "AND r.reservedAt >= :from AND r.reservedAt < :to")
+    List<LocalDate> findReservedNights(
+            @Param("accommodationId") Long accommodationId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("UPDATE ReservedDate r SET r.status = kr.kro.airbob.domain.reservation.common.ReservationStatus.COMPLETED " +
+            "WHERE r.accommodation.id = :accommodationId " +
+            "AND r.reservedAt >= :checkIn AND r.reservedAt < :checkOut " +
+            "AND r.status = kr.kro.airbob.domain.reservation.common.ReservationStatus.PENDING")
+    int completePendingDates(
+            @Param("accommodationId") Long accommodationId,
+            @Param("checkIn") LocalDate checkIn,
+            @Param("checkOut") LocalDate checkOut);
+
+    @Query("SELECT new kr.kro.airbob.domain.reservation.dto.ExpiredHold(r.id, r.accommodation.id, r.reservedAt) " +
+            "FROM ReservedDate r " +
+            "WHERE r.status = kr.kro.airbob.domain.reservation.common.ReservationStatus.PENDING " +
+            "AND r.createdAt < :expiredBefore " +
+            "AND r.id > :lastId " +
+            "ORDER BY r.id")
+    List<ExpiredHold> findExpiredHolds(
+            @Param("expiredBefore") LocalDateTime expiredBefore,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    // 조회 이후 확정된 날짜는 지우지 않도록 PENDING 상태 조건을 다시 건다
+    @Modifying
+    @Query("DELETE FROM ReservedDate r " +
+            "WHERE r.id IN :ids " +
+            "AND r.status = kr.kro.airbob.domain.reservation.common.ReservationStatus.PENDING")
+    int deletePendingByIds(@Param("ids") List<Long> ids);
+
+    @Query("SELECT r.reservedAt FROM ReservedDate r " +
+            "WHERE r.accommodation.id = :accommodationId " +
+            "AND r.status = :status " +
+            "AND r.reservedAt >= :from AND r.reservedAt < :to " +
+            "ORDER BY r.reservedAt")
+    List<LocalDate> findNightsByStatus(
+            @Param("accommodationId") Long accommodationId,
+            @Param("status") ReservationStatus status,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("SELECT new kr.kro.airbob.domain.reservation.dto.BlockedNight(r.accommodation.id, r.reservedAt) " +
+            "FROM ReservedDate r " +
+            "WHERE r.accommodation.id IN :accommodationIds " +
+            "AND r.status = kr.kro.airbob.domain.reservation.common.ReservationStatus.BLOCKED " +
+            "AND r.reservedAt >= :from")
+    List<BlockedNight> findBlockedNightsByAccommodationIdInFrom(
+            @Param("accommodationIds") Collection<Long> accommodationIds,
+            @Param("from") LocalDate from);
+
+    @Modifying
+    @Query("DELETE FROM ReservedDate r " +
+            "WHERE r.accommodation.id = :accommodationId " +
+            "AND r.status = kr.kro.airbob.domain.reservation.common.ReservationStatus.BLOCKED " +
+            "AND r.reservedAt >= :from AND r.reservedAt < :to")
+    int deleteBlockedNights(
+            @Param("accommodationId") Long accommodationId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
     @Modifying
     @Query("DELETE FROM ReservedDate r " +
             "WHERE r.accommodation.id = :accommodationId " +
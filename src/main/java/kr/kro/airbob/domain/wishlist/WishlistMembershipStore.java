@@ -0,0 +1,184 @@
+package kr.kro.airbob.domain.wishlist;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 회원의 모든 위시리스트에 담긴 숙소 id 집합 (SMISMEMBER 한 번으로 "찜 여부"를 확인한다)
+// 적재 완료 표시(LOADED)가 없으면 캐시 미스로 보고 DB에서 다시 채운다
+// 변경이 있을 때마다 세대 번호를 올려, DB를 읽은 뒤 변경이 끼어든 재적재는 버린다 (늦게 온 재적재가 evict를 덮지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishlistMembershipStore {
+
+	private static final String KEY_PREFIX = "wishlist:{";
+	private static final String LOADED = "loaded";
+	private static final Duration TTL = Duration.ofDays(1);
+
+	// 읽어 둔 세대 번호가 그대로일 때만 집합을 통째로 교체한다 (unpack 인자 수 제한 때문에 나눠서 SADD)
+	private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+		if (redis.call("GET", KEYS[2]) or "0") ~= ARGV[1] then
+			return 0
+		end
+		redis.call("DEL", KEYS[1])
+		for i = 3, #ARGV, 1000 do
+			redis.call("SADD", KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+		end
+		redis.call("EXPIRE", KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	// 세대를 올리고, 이미 적재된 집합에만 추가한다 (없으면 다음 조회 때 DB에서 채워짐)
+	private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+		redis.call("INCR", KEYS[2])
+		redis.call("EXPIRE", KEYS[2], ARGV[1])
+		if redis.call("SISMEMBER", KEYS[1], ARGV[2]) == 1 then
+			return redis.call("SADD", KEYS[1], ARGV[3])
+		end
+		return 0
+		""", Long.class);
+
+	// 세대를 올리고 집합을 비운다
+	private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+		redis.call("INCR", KEYS[2])
+		redis.call("EXPIRE", KEYS[2], ARGV[1])
+		return redis.call("DEL", KEYS[1])
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final WishlistAccommodationRepository wishlistAccommodationRepository;
+
+	public Set<Long> findWishlisted(Long memberId, Collection<Long> accommodationIds) {
+		if (memberId == null || accommodationIds.isEmpty()) {
+			return Set.of();
+		}
+
+		List<Long> candidates = List.copyOf(accommodationIds);
+		try {
+			Object[] members = new Object[candidates.size() + 1];
+			members[0] = LOADED;
+			for (int i = 0; i < candidates.size(); i++) {
+				members[i + 1] = candidates.get(i).toString();
+			}
+
+			Map<Object, Boolean> membership = redisTemplate.opsForSet().isMember(key(memberId), members);
+			if (membership != null && Boolean.TRUE.equals(membership.get(LOADED))) {
+				return candidates.stream()
+					.filter(id -> Boolean.TRUE.equals(membership.get(id.toString())))
+					.collect(Collectors.toSet());
+			}
+
+			Set<Long> wishlisted = rebuild(memberId);
+			return candidates.stream().filter(wishlisted::contains).collect(Collectors.toSet());
+		} catch (DataAccessException e) {
+			log.warn("[WISHLIST] Redis 찜 여부 조회 실패, DB로 대체: memberId={}", memberId, e);
+			return wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(memberId,
+				candidates);
+		}
+	}
+
+	// 회원의 찜 숙소 전체 (검색 결과를 기다리지 않고 먼저 읽어 둘 때 사용)
+	public Set<Long> findAll(Long memberId) {
+		if (memberId == null) {
+			return Set.of();
+		}
+
+		try {
+			Set<String> members = redisTemplate.opsForSet().members(key(memberId));
+			if (members != null && members.contains(LOADED)) {
+				return members.stream()
+					.filter(member -> !LOADED.equals(member))
+					.map(Long::valueOf)
+					.collect(Collectors.toSet());
+			}
+			return rebuild(memberId);
+		} catch (DataAccessException e) {
+			log.warn("[WISHLIST] Redis 찜 집합 조회 실패, DB로 대체: memberId={}", memberId, e);
+			return wishlistAccommodationRepository.findAccommodationIdsByMemberId(memberId);
+		}
+	}
+
+	// 이미 적재된 집합에만 추가한다 (없으면 다음 조회 때 DB에서 채워짐)
+	public void added(Long memberId, Long accommodationId) {
+		afterCommit(() -> redisTemplate.execute(ADD_SCRIPT, keys(memberId),
+			String.valueOf(TTL.toSeconds()), LOADED, accommodationId.toString()));
+	}
+
+	// 같은 숙소가 다른 위시리스트에 남아 있을 수 있어 집합을 비우고 다음 조회 때 다시 채운다
+	public void evict(Long memberId) {
+		afterCommit(() -> redisTemplate.execute(EVICT_SCRIPT, keys(memberId), String.valueOf(TTL.toSeconds())));
+	}
+
+	// 세대 번호를 DB 조회보다 먼저 읽어야 조회 이후의 변경을 놓치지 않는다
+	private Set<Long> rebuild(Long memberId) {
+		String generation = redisTemplate.opsForValue().get(generationKey(memberId));
+		Set<Long> wishlisted = new HashSet<>(wishlistAccommodationRepository.findAccommodationIdsByMemberId(memberId));
+
+		List<String> args = new ArrayList<>(wishlisted.size() + 3);
+		args.add(generation != null ? generation : "0");
+		args.add(String.valueOf(TTL.toSeconds()));
+		args.add(LOADED);
+		for (Long accommodationId : wishlisted) {
+			args.add(accommodationId.toString());
+		}
+
+		Long rebuilt = redisTemplate.execute(REBUILD_SCRIPT, keys(memberId), args.toArray());
+		if (rebuilt == null || rebuilt == 0L) {
+			log.debug("[WISHLIST] 재적재 중 찜 목록이 바뀌어 집합을 쓰지 않음: memberId={}", memberId);
+		}
+		return wishlisted;
+	}
+
+	// 커밋 전에 반영하면 동시에 일어난 재적재가 커밋 전 상태를 읽을 수 있어 커밋 후에 반영한다
+	private void afterCommit(Runnable action) {
+		Runnable quietly = () -> {
+			try {
+				action.run();
+			} catch (DataAccessException e) {
+				log.warn("[WISHLIST] Redis 찜 집합 갱신 실패", e);
+			}
+		};
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					quietly.run();
+				}
+			});
+			return;
+		}
+		quietly.run();
+	}
+
+	// 회원 id를 hash tag로 감싸 집합과 세대 키가 같은 슬롯에 모이도록 한다 (클러스터 환경 대비)
+	private String key(Long memberId) {
+		return KEY_PREFIX + memberId + "}:members";
+	}
+
+	private String generationKey(Long memberId) {
+		return KEY_PREFIX + memberId + "}:generation";
+	}
+
+	private List<String> keys(Long memberId) {
+		return List.of(key(memberId), generationKey(memberId));
+	}
+}
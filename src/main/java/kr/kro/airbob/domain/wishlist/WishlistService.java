@@ -47,6 +47,7 @@ public class WishlistService {
 	private final AccommodationAmenityRepository amenityRepository;
 	private final AccommodationReviewSummaryRepository summaryRepository;
 	private final WishlistAccommodationRepository wishlistAccommodationRepository;
+	private final WishlistMembershipStore wishlistMembershipStore;
 
 	private final CursorPageInfoCreator cursorPageInfoCreator;
 
@@ -82,6 +83,8 @@ public class WishlistService {
 		// 위시리스트에 속한 숙소 삭제
 		wishlistAccommodationRepository.deleteAllByWishlistId(wishlist.getId());
 		wishlistRepository.delete(wishlist);
+
+		wishlistMembershipStore.evict(wishlist.getMember().getId());
 	}
 
 	@Transactional(readOnly = true)
@@ -144,6 +147,8 @@ public class WishlistService {
 		WishlistAccommodation savedWishlistAccommodation
 			= wishlistAccommodationRepository.save(wishlistAccommodation);
 
+		wishlistMembershipStore.added(wishlist.getMember().getId(), accommodation.getId());
+
 		return new WishlistResponse.CreateWishlistAccommodationResponse(savedWishlistAccommodation.getId());
 	}
 
@@ -163,6 +168,8 @@ public class WishlistService {
 		WishlistAccommodation wishlistAccommodation = findWishlistAccommodation(wishlistAccommodationId);
 
 		wishlistAccommodationRepository.delete(wishlistAccommodation);
+
+		wishlistMembershipStore.evict(wishlistAccommodation.getWishlist().getMember().getId());
 	}
 
 	@Transactional(readOnly = true)
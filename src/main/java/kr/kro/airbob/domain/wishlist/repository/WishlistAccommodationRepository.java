@@ -81,5 +81,12 @@ public interface WishlistAccommodationRepository extends JpaRepository<WishlistA
 	Set<Long> findAccommodationIdsByMemberIdAndAccommodationIds(
 		@Param("memberId") Long memberId,
 		@Param("accommodationIds") List<Long> accommodationIds);
-}
 
+	@Query("""
+	SELECT DISTINCT
+		wa.accommodation.id
+	FROM WishlistAccommodation wa 
+	WHERE wa.wishlist.member.id = :memberId
+	""")
+	Set<Long> findAccommodationIdsByMemberId(@Param("memberId") Long memberId);
+}
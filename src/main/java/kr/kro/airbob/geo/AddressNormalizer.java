@@ -0,0 +1,23 @@
+package kr.kro.airbob.geo;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 유니코드 정규화(NFC), 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환으로 표기만 다른 주소 입력을 같은 키로 맞춘다
+// ex) "  Seoul ", "SEOUL" → "seoul", "서울  특별시" → "서울 특별시" (공백을 없애지는 않아 "서울특별시"와는 다른 키)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AddressNormalizer {
+
+	public static String normalize(String address) {
+		if (address == null) {
+			return "";
+		}
+		return Normalizer.normalize(address, Normalizer.Form.NFC)
+			.trim()
+			.replaceAll("\\s+", " ")
+			.toLowerCase(Locale.ROOT);
+	}
+}
@@ -8,6 +8,8 @@ import org.springframework.web.client.RestTemplate;
 
 import kr.kro.airbob.geo.dto.GeocodeResult;
 import kr.kro.airbob.geo.dto.IpInfoResponse;
+import kr.kro.airbob.geo.ipcountry.CountryViewports;
+import kr.kro.airbob.geo.ipcountry.LocalIpCountryResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,11 +19,20 @@ import lombok.extern.slf4j.Slf4j;
 public class IpCountryService {
 
 	private final RestTemplate restTemplate;
+	private final LocalIpCountryResolver localIpCountryResolver;
+	private final CountryViewports countryViewports;
 
 	@Value("${ipinfo.api.token}")
 	private String ipinfoToken;
 
 	public Optional<GeocodeResult> getCountryFromIp(String ip) {
+		// 로컬 IP 국가 표에 있고 국가 범위를 알면 외부 호출 없이 응답 (viewport 포함)
+		Optional<GeocodeResult> local = localIpCountryResolver.resolveCountryCode(ip)
+			.flatMap(countryViewports::find);
+		if (local.isPresent()) {
+			return local;
+		}
+
 		try {
 			String url = String.format("https://ipinfo.io/lite/%s?token=%s", ip, ipinfoToken);
 			IpInfoResponse response = restTemplate.getForObject(url, IpInfoResponse.class);
@@ -0,0 +1,115 @@
+package kr.kro.airbob.geo.gazetteer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.accommodation.entity.Address;
+import kr.kro.airbob.domain.accommodation.repository.AddressRepository;
+import kr.kro.airbob.geo.dto.GeocodeResult;
+import kr.kro.airbob.search.event.AccommodationIndexingEvents.AccommodationCreatedEvent;
+import kr.kro.airbob.search.event.AccommodationIndexingEvents.AccommodationUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+
+// 우리 숙소 주소로 만든 지명 색인. 알고 있는 도시/구는 외부 Geocoding API 없이 바로 좌표와 범위를 돌려준다
+@Slf4j
+@Component
+public class DestinationGazetteer {
+
+	private final AddressRepository addressRepository;
+	private final Path snapshotPath;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	private volatile GazetteerIndex index = GazetteerIndex.EMPTY;
+
+	public DestinationGazetteer(AddressRepository addressRepository,
+		MeterRegistry meterRegistry,
+		@Value("${gazetteer.snapshot.path:${java.io.tmpdir}/airbob/gazetteer.bin}") String snapshotPath) {
+		this.addressRepository = addressRepository;
+		this.snapshotPath = Path.of(snapshotPath);
+		this.hitCounter = lookupCounter(meterRegistry, "hit");
+		this.missCounter = lookupCounter(meterRegistry, "miss");
+		meterRegistry.gauge("geocoding.gazetteer.entries", this, gazetteer -> gazetteer.index.size());
+	}
+
+	public Optional<GeocodeResult> lookup(String destination) {
+		Optional<GeocodeResult> result = index.lookup(destination).map(GazetteerEntry::toGeocodeResult);
+		(result.isPresent() ? hitCounter : missCounter).increment();
+		return result;
+	}
+
+	// 스냅샷으로 먼저 띄우고(DB 집계보다 빠름) 곧바로 최신 주소로 다시 만든다
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (Files.exists(snapshotPath)) {
+			try {
+				index = GazetteerSnapshot.read(snapshotPath);
+				log.info("[GAZETTEER] 스냅샷 로드: entries={}, path={}", index.size(), snapshotPath);
+			} catch (IOException e) {
+				log.warn("[GAZETTEER] 스냅샷 로드 실패, DB에서 다시 생성: path={}", snapshotPath, e);
+			}
+		}
+		refresh();
+	}
+
+	@Scheduled(cron = "${gazetteer.refresh.cron:0 0 5 * * *}")
+	public void refresh() {
+		try {
+			GazetteerIndex rebuilt = GazetteerIndex.build(addressRepository.findDistrictFootprints());
+			synchronized (this) {
+				index = rebuilt;
+			}
+			GazetteerSnapshot.write(snapshotPath, rebuilt);
+			log.info("[GAZETTEER] 지명 색인 갱신: entries={}", rebuilt.size());
+		} catch (IOException e) {
+			log.warn("[GAZETTEER] 스냅샷 저장 실패: path={}", snapshotPath, e);
+		} catch (Exception e) {
+			log.error("[GAZETTEER] 지명 색인 갱신 실패, 기존 색인 유지: entries={}", index.size(), e);
+		}
+	}
+
+	// 다음 갱신 전까지 새 숙소가 지명 범위 밖에 있어 목적지 검색에서 빠지지 않도록 해당 항목 범위를 바로 넓힌다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleAccommodationCreated(AccommodationCreatedEvent event) {
+		include(event.accommodationId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleAccommodationUpdated(AccommodationUpdatedEvent event) {
+		include(event.accommodationId());
+	}
+
+	private void include(Long accommodationId) {
+		try {
+			addressRepository.findByAccommodationId(accommodationId)
+				.filter(address -> address.getLatitude() != null && address.getLongitude() != null)
+				.ifPresent(this::include);
+		} catch (Exception e) {
+			log.warn("[GAZETTEER] 숙소 좌표 반영 실패, 다음 갱신 때 반영: accommodationId={}", accommodationId, e);
+		}
+	}
+
+	private synchronized void include(Address address) {
+		index = index.include(address.getCountry(), address.getCity(), address.getDistrict(),
+			address.getLatitude(), address.getLongitude());
+	}
+
+	private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("geocoding.gazetteer.lookups")
+			.description("지명 색인 조회 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
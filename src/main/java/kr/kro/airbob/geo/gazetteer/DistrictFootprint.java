@@ -0,0 +1,16 @@
+package kr.kro.airbob.geo.gazetteer;
+
+// 국가/도시/구 단위로 묶은 우리 숙소 좌표 분포 (address 테이블 집계 결과)
+public record DistrictFootprint(
+	String country,
+	String city,
+	String district,
+	Double centerLatitude,
+	Double centerLongitude,
+	Double minLatitude,
+	Double maxLatitude,
+	Double minLongitude,
+	Double maxLongitude,
+	Long listingCount
+) {
+}
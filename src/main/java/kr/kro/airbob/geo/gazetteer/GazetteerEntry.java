@@ -0,0 +1,35 @@
+package kr.kro.airbob.geo.gazetteer;
+
+import static kr.kro.airbob.geo.dto.GoogleGeocodeResponse.Geometry.*;
+
+import kr.kro.airbob.geo.dto.GeocodeResult;
+import kr.kro.airbob.geo.dto.GoogleGeocodeResponse;
+
+// 정규화된 지명 하나에 대응하는 중심 좌표와 숙소 분포 범위
+public record GazetteerEntry(
+	String key,
+	String formattedAddress,
+	double latitude,
+	double longitude,
+	double north,
+	double south,
+	double east,
+	double west,
+	int listingCount
+) {
+	public boolean contains(double lat, double lng) {
+		return lat <= north && lat >= south && lng <= east && lng >= west;
+	}
+
+	public GazetteerEntry including(double lat, double lng) {
+		return new GazetteerEntry(key, formattedAddress, latitude, longitude,
+			Math.max(north, lat), Math.min(south, lat), Math.max(east, lng), Math.min(west, lng), listingCount);
+	}
+
+	public GeocodeResult toGeocodeResult() {
+		Viewport viewport = new Viewport(
+			new GoogleGeocodeResponse.Geometry.Location(north, east),
+			new GoogleGeocodeResponse.Geometry.Location(south, west));
+		return GeocodeResult.success(latitude, longitude, formattedAddress, viewport);
+	}
+}
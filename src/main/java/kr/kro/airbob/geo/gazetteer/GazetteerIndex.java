@@ -0,0 +1,219 @@
+package kr.kro.airbob.geo.gazetteer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import kr.kro.airbob.geo.AddressNormalizer;
+
+// 지명 키로 정렬된 불변 배열. 완전 일치 후 접두어 일치(숙소가 가장 많은 지명)를 이진 탐색으로 찾는다
+public class GazetteerIndex {
+
+	public static final GazetteerIndex EMPTY = new GazetteerIndex(new GazetteerEntry[0]);
+
+	private static final int MIN_PREFIX_LENGTH = 2;
+	private static final int MAX_PREFIX_CANDIDATES = 64;
+
+	// 숙소 분포만으로는 지명 범위가 좁게 잡히므로(숙소 1개면 한 점) 단위별 최소 범위(중심에서 반경 km)로 넓힌다
+	private static final double DISTRICT_MIN_RADIUS_KM = 5;
+	private static final double CITY_MIN_RADIUS_KM = 15;
+	private static final double COUNTRY_MIN_RADIUS_KM = 150;
+	private static final double ONE_DEGREE_KM = 111.0;
+
+	private final GazetteerEntry[] entries;
+	private final String[] keys;
+
+	private GazetteerIndex(GazetteerEntry[] entries) {
+		this.entries = entries;
+		this.keys = Arrays.stream(entries).map(GazetteerEntry::key).toArray(String[]::new);
+	}
+
+	// 이미 정규화·정렬된 항목(스냅샷)으로 복원
+	public static GazetteerIndex of(List<GazetteerEntry> entries) {
+		GazetteerEntry[] sorted = entries.toArray(GazetteerEntry[]::new);
+		Arrays.sort(sorted, Comparator.comparing(GazetteerEntry::key));
+		return new GazetteerIndex(sorted);
+	}
+
+	// 구 단위 집계를 구/도시/국가 단위 지명으로 펼친다. 같은 키는 숙소가 더 많은 쪽을 남긴다
+	public static GazetteerIndex build(List<DistrictFootprint> footprints) {
+		Map<String, GazetteerEntry> byKey = new HashMap<>();
+		Map<String, Accumulator> cities = new LinkedHashMap<>();
+		Map<String, Accumulator> countries = new LinkedHashMap<>();
+
+		for (DistrictFootprint footprint : footprints) {
+			if (isBlank(footprint.city()) || footprint.listingCount() == null || footprint.listingCount() == 0) {
+				continue;
+			}
+
+			if (!isBlank(footprint.district())) {
+				Accumulator district = new Accumulator(join(footprint.city(), footprint.district()));
+				district.add(footprint);
+				putAll(byKey, district.toEntries(DISTRICT_MIN_RADIUS_KM,
+					footprint.district(),
+					join(footprint.city(), footprint.district()),
+					join(footprint.country(), footprint.city(), footprint.district())));
+			}
+
+			cities.computeIfAbsent(join(footprint.country(), footprint.city()),
+				key -> new Accumulator(footprint.city())).add(footprint);
+
+			if (!isBlank(footprint.country())) {
+				countries.computeIfAbsent(footprint.country(), Accumulator::new).add(footprint);
+			}
+		}
+
+		cities.forEach((countryCity, city) ->
+			putAll(byKey, city.toEntries(CITY_MIN_RADIUS_KM, city.name, countryCity)));
+		countries.forEach((name, country) -> putAll(byKey, country.toEntries(COUNTRY_MIN_RADIUS_KM, name)));
+
+		return of(new ArrayList<>(byKey.values()));
+	}
+
+	// 새로 등록/수정된 숙소 좌표가 들어가도록 그 숙소의 구/도시/국가 항목 범위만 넓힌 색인을 만든다 (모르는 지명은 다음 갱신 때 추가)
+	public GazetteerIndex include(String country, String city, String district, double latitude, double longitude) {
+		if (isBlank(city)) {
+			return this;
+		}
+
+		Map<String, String> nameByKey = new HashMap<>();
+		if (!isBlank(district)) {
+			String districtName = join(city, district);
+			putKeys(nameByKey, districtName, district, districtName, join(country, city, district));
+		}
+		putKeys(nameByKey, city, city, join(country, city));
+		if (!isBlank(country)) {
+			putKeys(nameByKey, country, country);
+		}
+
+		GazetteerEntry[] widened = entries.clone();
+		boolean changed = false;
+		for (Map.Entry<String, String> target : nameByKey.entrySet()) {
+			int found = Arrays.binarySearch(keys, target.getKey());
+			// 다른 도시의 같은 이름 구처럼 키만 같은 항목은 넓히지 않는다
+			if (found >= 0 && widened[found].formattedAddress().equals(target.getValue())
+				&& !widened[found].contains(latitude, longitude)) {
+				widened[found] = widened[found].including(latitude, longitude);
+				changed = true;
+			}
+		}
+		return changed ? new GazetteerIndex(widened) : this;
+	}
+
+	public Optional<GazetteerEntry> lookup(String destination) {
+		String query = AddressNormalizer.normalize(destination);
+		if (query.isEmpty()) {
+			return Optional.empty();
+		}
+
+		int found = Arrays.binarySearch(keys, query);
+		if (found >= 0) {
+			return Optional.of(entries[found]);
+		}
+		if (query.length() < MIN_PREFIX_LENGTH) {
+			return Optional.empty();
+		}
+
+		// 접두어가 같은 키는 정렬 배열에서 삽입 위치부터 연속으로 모여 있다
+		GazetteerEntry best = null;
+		int end = Math.min(keys.length, -found - 1 + MAX_PREFIX_CANDIDATES);
+		for (int i = -found - 1; i < end && keys[i].startsWith(query); i++) {
+			if (best == null || entries[i].listingCount() > best.listingCount()) {
+				best = entries[i];
+			}
+		}
+		return Optional.ofNullable(best);
+	}
+
+	public List<GazetteerEntry> entries() {
+		return List.of(entries);
+	}
+
+	public int size() {
+		return entries.length;
+	}
+
+	private static void putKeys(Map<String, String> nameByKey, String name, String... aliases) {
+		for (String alias : aliases) {
+			String key = AddressNormalizer.normalize(alias);
+			if (!key.isEmpty()) {
+				nameByKey.putIfAbsent(key, name);
+			}
+		}
+	}
+
+	private static void putAll(Map<String, GazetteerEntry> byKey, List<GazetteerEntry> candidates) {
+		for (GazetteerEntry candidate : candidates) {
+			byKey.merge(candidate.key(), candidate,
+				(current, next) -> next.listingCount() > current.listingCount() ? next : current);
+		}
+	}
+
+	private static String join(String... parts) {
+		StringJoiner joiner = new StringJoiner(" ");
+		for (String part : parts) {
+			if (!isBlank(part)) {
+				joiner.add(part.trim());
+			}
+		}
+		return joiner.toString();
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	// 숙소 수로 가중한 중심 좌표와 전체 범위를 합치고, 범위는 중심에서 최소 반경만큼은 넓힌다
+	private static class Accumulator {
+		private final String name;
+		private double latitudeSum;
+		private double longitudeSum;
+		private double north = -90;
+		private double south = 90;
+		private double east = -180;
+		private double west = 180;
+		private long listingCount;
+
+		private Accumulator(String name) {
+			this.name = name;
+		}
+
+		private void add(DistrictFootprint footprint) {
+			long count = footprint.listingCount();
+			latitudeSum += footprint.centerLatitude() * count;
+			longitudeSum += footprint.centerLongitude() * count;
+			north = Math.max(north, footprint.maxLatitude());
+			south = Math.min(south, footprint.minLatitude());
+			east = Math.max(east, footprint.maxLongitude());
+			west = Math.min(west, footprint.minLongitude());
+			listingCount += count;
+		}
+
+		private List<GazetteerEntry> toEntries(double minRadiusKm, String... aliases) {
+			double latitude = latitudeSum / listingCount;
+			double longitude = longitudeSum / listingCount;
+			double latDelta = minRadiusKm / ONE_DEGREE_KM;
+			double lngDelta = minRadiusKm / (ONE_DEGREE_KM * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+
+			List<GazetteerEntry> result = new ArrayList<>();
+			for (String alias : aliases) {
+				String key = AddressNormalizer.normalize(alias);
+				if (!key.isEmpty()) {
+					result.add(new GazetteerEntry(key, name, latitude, longitude,
+						Math.min(90, Math.max(north, latitude + latDelta)),
+						Math.max(-90, Math.min(south, latitude - latDelta)),
+						Math.min(180, Math.max(east, longitude + lngDelta)),
+						Math.max(-180, Math.min(west, longitude - lngDelta)),
+						(int)Math.min(Integer.MAX_VALUE, listingCount)));
+				}
+			}
+			return result;
+		}
+	}
+}
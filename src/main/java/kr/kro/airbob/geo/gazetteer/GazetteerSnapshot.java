@@ -0,0 +1,75 @@
+package kr.kro.airbob.geo.gazetteer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 기동 시 DB 집계 없이 바로 올릴 수 있도록 지명 색인을 gzip 바이너리 파일로 저장/복원한다
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GazetteerSnapshot {
+
+	private static final int MAGIC = 0x47415A31; // "GAZ1"
+
+	public static void write(Path path, GazetteerIndex index) throws IOException {
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+		try (DataOutputStream out = new DataOutputStream(
+			new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))) {
+			out.writeInt(MAGIC);
+			out.writeInt(index.size());
+			for (GazetteerEntry entry : index.entries()) {
+				out.writeUTF(entry.key());
+				out.writeUTF(entry.formattedAddress());
+				out.writeDouble(entry.latitude());
+				out.writeDouble(entry.longitude());
+				out.writeDouble(entry.north());
+				out.writeDouble(entry.south());
+				out.writeDouble(entry.east());
+				out.writeDouble(entry.west());
+				out.writeInt(entry.listingCount());
+			}
+		}
+
+		// 읽는 쪽이 쓰다 만 파일을 보지 않도록 다 쓴 뒤 교체
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public static GazetteerIndex read(Path path) throws IOException {
+		try (DataInputStream in = new DataInputStream(
+			new GZIPInputStream(new BufferedInputStream(Files.newInputStream(path))))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("지명 색인 스냅샷 형식이 아닙니다: " + path);
+			}
+
+			int size = in.readInt();
+			List<GazetteerEntry> entries = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				entries.add(new GazetteerEntry(
+					in.readUTF(),
+					in.readUTF(),
+					in.readDouble(),
+					in.readDouble(),
+					in.readDouble(),
+					in.readDouble(),
+					in.readDouble(),
+					in.readDouble(),
+					in.readInt()));
+			}
+			return GazetteerIndex.of(entries);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package kr.kro.airbob.geo.impl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.domain.accommodation.dto.AccommodationRequest;
+import kr.kro.airbob.geo.AddressNormalizer;
+import kr.kro.airbob.geo.GeocodingService;
+import kr.kro.airbob.geo.dto.GeocodeResult;
+import lombok.extern.slf4j.Slf4j;
+
+// Google Geocoding 앞단 캐시: 로컬(Caffeine) → Redis → Google 순으로 조회하고, 실패 결과도 짧게 캐싱한다
+@Slf4j
+@Primary
+@Service
+public class CachingGeocodingService implements GeocodingService {
+
+	private static final String CACHE_KEY_PREFIX = "geocode:";
+
+	private final GoogleGeocodingService delegate;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final Cache<String, GeocodeResult> localCache;
+	private final Duration redisTtl;
+	private final Duration negativeTtl;
+
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter missCounter;
+	private final Counter negativeCounter;
+
+	public CachingGeocodingService(GoogleGeocodingService delegate,
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${geocoding.cache.local.max-size:10000}") long localMaxSize,
+		@Value("${geocoding.cache.local.ttl:PT1H}") Duration localTtl,
+		@Value("${geocoding.cache.redis.ttl:P7D}") Duration redisTtl,
+		@Value("${geocoding.cache.negative-ttl:PT5M}") Duration negativeTtl) {
+
+		this.delegate = delegate;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.redisTtl = redisTtl;
+		this.negativeTtl = negativeTtl;
+
+		// 실패 결과는 외부 API 장애가 오래 남지 않도록 짧은 TTL로 둔다
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfter(new Expiry<String, GeocodeResult>() {
+				@Override
+				public long expireAfterCreate(String key, GeocodeResult value, long currentTime) {
+					return (value.success() ? localTtl : negativeTtl).toNanos();
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, GeocodeResult value, long currentTime,
+					long currentDuration) {
+					return expireAfterCreate(key, value, currentTime);
+				}
+
+				@Override
+				public long expireAfterRead(String key, GeocodeResult value, long currentTime,
+					long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
+
+		this.localHitCounter = cacheCounter(meterRegistry, "local", "hit");
+		this.redisHitCounter = cacheCounter(meterRegistry, "redis", "hit");
+		this.missCounter = cacheCounter(meterRegistry, "origin", "miss");
+		this.negativeCounter = Counter.builder("geocoding.cache.negative")
+			.description("Google Geocoding 실패로 캐싱된 결과 수")
+			.register(meterRegistry);
+		meterRegistry.gauge("geocoding.cache.local.size", localCache, cache -> cache.estimatedSize());
+	}
+
+	@Override
+	public GeocodeResult getCoordinates(String address) {
+		String key = AddressNormalizer.normalize(address);
+		if (key.isEmpty()) {
+			return delegate.getCoordinates(address);
+		}
+
+		GeocodeResult cached = localCache.getIfPresent(key);
+		if (cached != null) {
+			localHitCounter.increment();
+			return cached;
+		}
+
+		// 같은 주소의 동시 미스는 한 요청만 Redis/Google을 조회한다
+		return localCache.get(key, k -> load(address, k));
+	}
+
+	@Override
+	public String buildAddressString(AccommodationRequest.AddressInfo addressInfo) {
+		return delegate.buildAddressString(addressInfo);
+	}
+
+	private GeocodeResult load(String address, String key) {
+		GeocodeResult shared = readShared(key);
+		if (shared != null) {
+			redisHitCounter.increment();
+			return shared;
+		}
+
+		missCounter.increment();
+		GeocodeResult result = delegate.getCoordinates(address);
+		if (!result.success()) {
+			negativeCounter.increment();
+		}
+		writeShared(key, result);
+		return result;
+	}
+
+	private GeocodeResult readShared(String key) {
+		try {
+			String json = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + key);
+			return json != null ? objectMapper.readValue(json, GeocodeResult.class) : null;
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("[GEOCODING-CACHE] Redis 조회 실패, Google API로 대체: key={}", key, e);
+			return null;
+		}
+	}
+
+	private void writeShared(String key, GeocodeResult result) {
+		Duration ttl = result.success() ? redisTtl : negativeTtl;
+		try {
+			redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + key, objectMapper.writeValueAsString(result),
+				ttl.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("[GEOCODING-CACHE] Redis 저장 실패: key={}", key, e);
+		}
+	}
+
+	private static Counter cacheCounter(MeterRegistry meterRegistry, String tier, String result) {
+		return Counter.builder("geocoding.cache.requests")
+			.description("지오코딩 캐시 조회 결과")
+			.tag("tier", tier)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
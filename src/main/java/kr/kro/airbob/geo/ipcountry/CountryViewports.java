@@ -0,0 +1,65 @@
+package kr.kro.airbob.geo.ipcountry;
+
+import static kr.kro.airbob.geo.dto.GoogleGeocodeResponse.Geometry.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.geo.dto.GeocodeResult;
+import kr.kro.airbob.geo.dto.GoogleGeocodeResponse;
+
+// ISO 국가 코드 → 국가 범위(viewport). IP 기반 기본 지도 영역을 외부 Geocoding 없이 정한다
+@Component
+public class CountryViewports {
+
+	private static final String RESOURCE = "geo/country-viewports.csv";
+
+	private final Map<String, GeocodeResult> byCountryCode;
+
+	public CountryViewports() {
+		this.byCountryCode = load();
+	}
+
+	public Optional<GeocodeResult> find(String countryCode) {
+		if (countryCode == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(byCountryCode.get(countryCode.toUpperCase()));
+	}
+
+	private static Map<String, GeocodeResult> load() {
+		Map<String, GeocodeResult> viewports = new HashMap<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+			new ClassPathResource(RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+				String[] columns = line.split(",");
+				double north = Double.parseDouble(columns[2]);
+				double south = Double.parseDouble(columns[3]);
+				double east = Double.parseDouble(columns[4]);
+				double west = Double.parseDouble(columns[5]);
+
+				Viewport viewport = new Viewport(
+					new GoogleGeocodeResponse.Geometry.Location(north, east),
+					new GoogleGeocodeResponse.Geometry.Location(south, west));
+				viewports.put(columns[0], GeocodeResult.success(
+					(north + south) / 2, (east + west) / 2, columns[1], viewport));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Map.copyOf(viewports);
+	}
+}
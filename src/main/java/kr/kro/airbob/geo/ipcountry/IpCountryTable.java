@@ -0,0 +1,177 @@
+package kr.kro.airbob.geo.ipcountry;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// IPv4 구간 → 국가 코드 표. 고정 길이 레코드 파일을 메모리 매핑해 힙을 거의 쓰지 않고 이진 탐색한다
+// 파일 형식: MAGIC, 구간 수, 국가 수, 국가 코드(2바이트)들, [시작 IP(4) 끝 IP(4) 국가 번호(2)] * 구간 수
+public class IpCountryTable {
+
+	private static final int MAGIC = 0x49504331; // "IPC1"
+	private static final int HEADER_SIZE = 12;
+	private static final int RECORD_SIZE = 10;
+
+	private final ByteBuffer buffer;
+	private final int rangeCount;
+	private final int rangesOffset;
+	private final String[] countryCodes;
+
+	private IpCountryTable(ByteBuffer buffer) throws IOException {
+		if (buffer.getInt(0) != MAGIC) {
+			throw new IOException("IP 국가 표 형식이 아닙니다.");
+		}
+		this.buffer = buffer;
+		this.rangeCount = buffer.getInt(4);
+		int countryCount = buffer.getInt(8);
+
+		this.countryCodes = new String[countryCount];
+		for (int i = 0; i < countryCount; i++) {
+			int offset = HEADER_SIZE + i * 2;
+			countryCodes[i] = new String(new byte[] {buffer.get(offset), buffer.get(offset + 1)},
+				StandardCharsets.US_ASCII);
+		}
+		this.rangesOffset = HEADER_SIZE + countryCount * 2;
+	}
+
+	public static IpCountryTable open(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new IpCountryTable(mapped); // 매핑은 채널을 닫아도 유지된다
+		}
+	}
+
+	public Optional<String> lookup(String ip) {
+		long address = parseIpv4(ip);
+		if (address < 0) {
+			return Optional.empty(); // IPv6/잘못된 형식은 외부 조회로 넘긴다
+		}
+		int target = (int)address;
+
+		// 시작 IP가 target 이하인 마지막 구간을 찾는다 (부호 없는 비교)
+		int low = 0;
+		int high = rangeCount - 1;
+		int found = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (Integer.compareUnsigned(startAt(mid), target) <= 0) {
+				found = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+
+		if (found < 0 || Integer.compareUnsigned(target, endAt(found)) > 0) {
+			return Optional.empty();
+		}
+		return Optional.of(countryCodes[buffer.getShort(rangesOffset + found * RECORD_SIZE + 8)]);
+	}
+
+	public int size() {
+		return rangeCount;
+	}
+
+	// "시작,끝,국가코드[,...]" CSV(점 표기 또는 정수 IP, 따옴표 허용)를 조회용 바이너리 파일로 변환
+	public static void compile(Path csv, Path target) throws IOException {
+		List<long[]> ranges = new ArrayList<>();
+		Map<String, Integer> countries = new LinkedHashMap<>();
+
+		try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] columns = line.replace("\"", "").split(",");
+				if (columns.length < 3) {
+					continue;
+				}
+				long start = parseAddress(columns[0].trim());
+				long end = parseAddress(columns[1].trim());
+				String country = columns[2].trim().toUpperCase();
+				if (start < 0 || end < start || country.length() != 2) {
+					continue; // 헤더, IPv6, 국가 미지정 행은 건너뜀
+				}
+				int countryIndex = countries.computeIfAbsent(country, code -> countries.size());
+				ranges.add(new long[] {start, end, countryIndex});
+			}
+		}
+		ranges.sort(Comparator.comparingLong(range -> range[0]));
+
+		Path parent = target.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(ranges.size());
+			out.writeInt(countries.size());
+			for (String code : countries.keySet()) {
+				out.write(code.getBytes(StandardCharsets.US_ASCII));
+			}
+			for (long[] range : ranges) {
+				out.writeInt((int)range[0]);
+				out.writeInt((int)range[1]);
+				out.writeShort((int)range[2]);
+			}
+		}
+		Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private int startAt(int index) {
+		return buffer.getInt(rangesOffset + index * RECORD_SIZE);
+	}
+
+	private int endAt(int index) {
+		return buffer.getInt(rangesOffset + index * RECORD_SIZE + 4);
+	}
+
+	private static long parseAddress(String value) {
+		if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+			long numeric = Long.parseLong(value);
+			return numeric <= 0xFFFFFFFFL ? numeric : -1;
+		}
+		return parseIpv4(value);
+	}
+
+	// 점 표기 IPv4를 0 ~ 2^32-1로 변환, 형식이 다르면 -1
+	static long parseIpv4(String ip) {
+		if (ip == null) {
+			return -1;
+		}
+		long address = 0;
+		int octet = -1;
+		int dots = 0;
+		for (int i = 0; i < ip.length(); i++) {
+			char c = ip.charAt(i);
+			if (c >= '0' && c <= '9') {
+				octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+				if (octet > 255) {
+					return -1;
+				}
+			} else if (c == '.' && octet >= 0 && dots < 3) {
+				address = (address << 8) | octet;
+				octet = -1;
+				dots++;
+			} else {
+				return -1;
+			}
+		}
+		if (dots != 3 || octet < 0) {
+			return -1;
+		}
+		return (address << 8) | octet;
+	}
+}
@@ -0,0 +1,71 @@
+package kr.kro.airbob.geo.ipcountry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+// 로컬 IP→국가 표를 들고 있다가 파일이 바뀌면 재시작 없이 새 표로 교체한다
+// database-path가 .csv면 같은 위치에 .bin으로 변환해 매핑한다
+@Slf4j
+@Component
+public class LocalIpCountryResolver {
+
+	private final Path databasePath;
+
+	private volatile IpCountryTable table;
+	private volatile FileTime loadedVersion;
+
+	public LocalIpCountryResolver(@Value("${geo.ip-country.database-path:}") String databasePath) {
+		this.databasePath = databasePath.isBlank() ? null : Path.of(databasePath);
+	}
+
+	public Optional<String> resolveCountryCode(String ip) {
+		IpCountryTable current = table;
+		return current != null ? current.lookup(ip) : Optional.empty();
+	}
+
+	@PostConstruct
+	public void initialize() {
+		if (databasePath == null) {
+			log.info("[IP-COUNTRY] 로컬 IP 국가 표가 설정되지 않아 외부 조회만 사용합니다.");
+			return;
+		}
+		reloadIfChanged();
+	}
+
+	@Scheduled(fixedDelayString = "${geo.ip-country.refresh-interval:300000}")
+	public void reloadIfChanged() {
+		if (databasePath == null || !Files.exists(databasePath)) {
+			return;
+		}
+
+		try {
+			FileTime version = Files.getLastModifiedTime(databasePath);
+			if (version.equals(loadedVersion)) {
+				return;
+			}
+
+			Path binary = databasePath;
+			if (databasePath.getFileName().toString().endsWith(".csv")) {
+				binary = databasePath.resolveSibling(databasePath.getFileName() + ".bin");
+				IpCountryTable.compile(databasePath, binary);
+			}
+
+			IpCountryTable reloaded = IpCountryTable.open(binary);
+			table = reloaded;
+			loadedVersion = version;
+			log.info("[IP-COUNTRY] 로컬 IP 국가 표 로드: ranges={}, path={}", reloaded.size(), databasePath);
+		} catch (IOException | RuntimeException e) {
+			log.error("[IP-COUNTRY] 로컬 IP 국가 표 로드 실패, 기존 표 유지: path={}", databasePath, e);
+		}
+	}
+}
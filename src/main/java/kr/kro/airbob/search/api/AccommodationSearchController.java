@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +27,7 @@ public class AccommodationSearchController {
 
 	private static final int DEFAULT_PAGE_SIZE = 18;
 	private static final int MAX_PAGE_NUMBER = 14;
+	private static final int DEFAULT_CLUSTER_ZOOM = 10;
 
 	@GetMapping("/accommodations")
 	public ResponseEntity<AccommodationSearchResponse.AccommodationSearchInfos> searchAccommodations(
@@ -50,4 +52,36 @@ public class AccommodationSearchController {
 
 		return ResponseEntity.ok(infos);
 	}
+
+	// 지도 축소 화면: 숙소 목록 대신 격자별 숙소 수와 최저가
+	@GetMapping("/accommodations/clusters")
+	public ResponseEntity<AccommodationSearchResponse.AccommodationClusterInfos> clusterAccommodations(
+		@ModelAttribute AccommodationSearchRequest.MapBoundsDto mapBounds,
+		@ModelAttribute AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest,
+		@RequestParam(defaultValue = "" + DEFAULT_CLUSTER_ZOOM) int zoom,
+		HttpServletRequest request) {
+
+		String clientIp = clientIpExtractor.extractClientIp(request);
+
+		return ResponseEntity.ok(
+			accommodationSearchService.clusterAccommodations(searchRequest, clientIp, mapBounds, zoom));
+	}
+
+	// 페이지 번호 제한 없이 다음 커서로 계속 조회
+	@GetMapping("/accommodations/cursor")
+	public ResponseEntity<AccommodationSearchResponse.AccommodationCursorSearchInfos> searchAccommodationsByCursor(
+		@ModelAttribute AccommodationSearchRequest.MapBoundsDto mapBounds,
+		@ModelAttribute AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest,
+		@RequestParam(required = false) String cursor,
+		HttpServletRequest request) {
+
+		Long memberId = (Long)request.getAttribute("memberId");
+		String clientIp = clientIpExtractor.extractClientIp(request);
+
+		AccommodationSearchResponse.AccommodationCursorSearchInfos infos =
+			accommodationSearchService.searchAccommodationsByCursor(
+				searchRequest, memberId, clientIp, mapBounds, cursor, DEFAULT_PAGE_SIZE);
+
+		return ResponseEntity.ok(infos);
+	}
 }
@@ -0,0 +1,60 @@
+package kr.kro.airbob.search.cache;
+
+import static kr.kro.airbob.geo.dto.GoogleGeocodeResponse.Geometry.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.DigestUtils;
+
+import kr.kro.airbob.search.dto.AccommodationSearchRequest;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 같은 검색이 같은 키가 되도록 요청을 정규화한다 (검색 영역은 격자에 맞춰 바깥쪽으로 넓힘)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SearchCacheKey {
+
+	private static final String KEY_PREFIX = "search:page:";
+	private static final double GRID_DEGREES = 0.01; // 약 1km
+
+	public static Viewport snap(Viewport viewport) {
+		double north = Math.min(90, Math.ceil(viewport.northeast().lat() / GRID_DEGREES) * GRID_DEGREES);
+		double east = Math.min(180, Math.ceil(viewport.northeast().lng() / GRID_DEGREES) * GRID_DEGREES);
+		double south = Math.max(-90, Math.floor(viewport.southwest().lat() / GRID_DEGREES) * GRID_DEGREES);
+		double west = Math.max(-180, Math.floor(viewport.southwest().lng() / GRID_DEGREES) * GRID_DEGREES);
+
+		return new Viewport(new Location(round(north), round(east)), new Location(round(south), round(west)));
+	}
+
+	public static String of(AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, Viewport viewport,
+		Pageable pageable) {
+
+		String canonical = String.join("|",
+			viewport.northeast().lat() + "," + viewport.northeast().lng(),
+			viewport.southwest().lat() + "," + viewport.southwest().lng(),
+			String.valueOf(searchRequest.getMinPrice()),
+			String.valueOf(searchRequest.getMaxPrice()),
+			sorted(searchRequest.getAccommodationTypes()),
+			sorted(searchRequest.getAmenityTypes()),
+			String.valueOf(searchRequest.getTotalGuests()),
+			String.valueOf(searchRequest.hasPet() ? searchRequest.getPetOccupancy() : 0),
+			String.valueOf(searchRequest.getCheckIn()),
+			String.valueOf(searchRequest.getCheckOut()),
+			pageable.getPageNumber() + "," + pageable.getPageSize(),
+			pageable.getSort().toString());
+
+		return KEY_PREFIX + DigestUtils.md5DigestAsHex(canonical.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String sorted(List<String> values) {
+		return values == null ? "" : String.join(",", new TreeSet<>(values));
+	}
+
+	// 부동소수점 오차로 같은 격자가 다른 문자열이 되지 않도록 정리
+	private static double round(double degrees) {
+		return Math.round(degrees * 100) / 100.0;
+	}
+}
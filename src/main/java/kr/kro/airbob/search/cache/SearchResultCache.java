@@ -0,0 +1,125 @@
+package kr.kro.airbob.search.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.search.dto.AccommodationSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// 회원과 무관한 검색 결과 페이지(숙소 목록 + 전체 건수)를 짧게 공유 캐싱한다
+// 숙소별 역색인(search:page:by-accommodation:{id})으로 해당 숙소가 포함된 페이지만 무효화한다
+@Slf4j
+@Component
+public class SearchResultCache {
+
+	private static final String ACCOMMODATION_INDEX_PREFIX = "search:page:by-accommodation:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Duration ttl;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter evictCounter;
+
+	public SearchResultCache(StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${search.cache.ttl:PT60S}") Duration ttl) {
+
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.ttl = ttl;
+
+		this.hitCounter = cacheCounter(meterRegistry, "hit");
+		this.missCounter = cacheCounter(meterRegistry, "miss");
+		this.evictCounter = Counter.builder("search.cache.evictions")
+			.description("숙소 변경으로 무효화된 검색 결과 페이지 수")
+			.register(meterRegistry);
+	}
+
+	public Optional<CachedPage> get(String key) {
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			if (json != null) {
+				hitCounter.increment();
+				return Optional.of(objectMapper.readValue(json, CachedPage.class));
+			}
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("[SEARCH-CACHE] Redis 조회 실패, Elasticsearch로 대체: key={}", key, e);
+		}
+		missCounter.increment();
+		return Optional.empty();
+	}
+
+	public void put(String key, CachedPage page) {
+		try {
+			String json = objectMapper.writeValueAsString(page);
+			long ttlMillis = ttl.toMillis();
+
+			// 페이지와 숙소별 역색인 갱신을 파이프라인 한 번으로 보낸다 (숙소마다 슬롯이 달라 스크립트 대신 파이프라인)
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				stringConnection.pSetEx(key, ttlMillis, json);
+
+				// 역색인은 페이지보다 오래 남겨도 되지만, 무한히 쌓이지 않도록 같은 TTL로 갱신한다
+				for (Long accommodationId : page.accommodationIds()) {
+					String indexKey = ACCOMMODATION_INDEX_PREFIX + accommodationId;
+					stringConnection.sAdd(indexKey, key);
+					stringConnection.pExpire(indexKey, ttlMillis);
+				}
+				return null;
+			});
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("[SEARCH-CACHE] Redis 저장 실패: key={}", key, e);
+		}
+	}
+
+	// 예약/숙소 변경이 색인에 반영된 뒤 호출한다
+	public void evictAccommodation(Long accommodationId) {
+		String indexKey = ACCOMMODATION_INDEX_PREFIX + accommodationId;
+		try {
+			Set<String> pageKeys = redisTemplate.opsForSet().members(indexKey);
+			if (pageKeys != null && !pageKeys.isEmpty()) {
+				redisTemplate.delete(pageKeys);
+				evictCounter.increment(pageKeys.size());
+			}
+			redisTemplate.delete(indexKey);
+		} catch (DataAccessException e) {
+			// 무효화에 실패해도 TTL이 지나면 사라진다
+			log.warn("[SEARCH-CACHE] 검색 결과 무효화 실패: accommodationId={}", accommodationId, e);
+		}
+	}
+
+	private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("search.cache.requests")
+			.description("검색 결과 캐시 조회 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	// 위시리스트 여부는 회원마다 달라 캐시 이후에 채운다
+	public record CachedPage(
+		List<AccommodationSearchResponse.AccommodationSearchInfo> listings,
+		long totalHits
+	) {
+		public Collection<Long> accommodationIds() {
+			return listings.stream().map(AccommodationSearchResponse.AccommodationSearchInfo::id).toList();
+		}
+	}
+}
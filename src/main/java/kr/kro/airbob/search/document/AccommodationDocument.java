@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Range;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
@@ -93,9 +95,9 @@ public record AccommodationDocument(
 	@Field(type = FieldType.Keyword)
 	List<String> imageUrls,
 
-	// 예약
-	@Field(type = FieldType.Date)
-	List<LocalDate> reservedDates,
+	// 예약 (확정 예약/호스트 차단 기간을 [gte, lt) 구간으로 저장)
+	@Field(type = FieldType.Date_Range, format = DateFormat.date)
+	List<Range<LocalDate>> reservedRanges,
 
 	// 리뷰
 	@Field(type= FieldType.Double)
@@ -0,0 +1,50 @@
+package kr.kro.airbob.search.document;
+
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+
+// 검색 결과 목록에 필요한 필드만 읽는 accommodations 색인 조회용 모델 (색인 매핑은 AccommodationDocument가 관리)
+@Document(indexName = "accommodations", createIndex = false)
+public record AccommodationSearchHit(
+
+	@Id
+	Long accommodationId,
+
+	String name,
+
+	Integer basePrice,
+
+	AccommodationDocument.Location location,
+
+	String district,
+
+	String street,
+
+	List<String> imageUrls,
+
+	Double averageRating,
+
+	Integer reviewCount,
+
+	String hostNickname
+) {
+
+	// 설명, 예약 구간처럼 크고 목록에서 쓰지 않는 필드는 _source에서 내려받지 않는다
+	public static final SourceFilter SOURCE_FILTER = new FetchSourceFilterBuilder()
+		.withIncludes(
+			"accommodationId",
+			"name",
+			"basePrice",
+			"location",
+			"district",
+			"street",
+			"imageUrls",
+			"averageRating",
+			"reviewCount",
+			"hostNickname")
+		.build();
+}
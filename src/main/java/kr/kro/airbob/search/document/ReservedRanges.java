@@ -0,0 +1,54 @@
+package kr.kro.airbob.search.document;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.data.domain.Range;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 예약된 날짜들을 연속 구간 [gte, lt)로 묶어 date_range 필드 값으로 만든다
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReservedRanges {
+
+	public static List<Range<LocalDate>> compact(Collection<LocalDate> nights) {
+		List<Range<LocalDate>> ranges = new ArrayList<>();
+
+		LocalDate start = null;
+		LocalDate end = null;
+		for (LocalDate night : new TreeSet<>(nights)) {
+			if (end != null && night.equals(end)) {
+				end = night.plusDays(1);
+				continue;
+			}
+			if (start != null) {
+				ranges.add(Range.rightOpen(start, end));
+			}
+			start = night;
+			end = night.plusDays(1);
+		}
+		if (start != null) {
+			ranges.add(Range.rightOpen(start, end));
+		}
+
+		return ranges;
+	}
+
+	// 스크립트 파라미터용 ({"gte": "2025-06-20", "lt": "2025-06-22"}), 색인된 _source 형태와 같다
+	public static List<Map<String, String>> toParams(Collection<LocalDate> nights) {
+		return compact(nights).stream()
+			.map(range -> {
+				Map<String, String> param = new LinkedHashMap<>();
+				param.put("gte", range.getLowerBound().getValue().orElseThrow().toString());
+				param.put("lt", range.getUpperBound().getValue().orElseThrow().toString());
+				return param;
+			})
+			.toList();
+	}
+}
@@ -66,6 +66,18 @@ public class AccommodationSearchRequest {
 			return true;
 		}
 
+		// 캐시 키가 잘게 갈라지지 않도록 가격 필터를 단위 금액으로 안쪽으로 맞춘다
+		// 요청한 가격대 밖의 숙소가 섞이지 않도록 넓히지 않고, 좁히다 범위가 뒤집히면 그대로 둔다
+		public void roundPriceRange(int unit) {
+			Integer roundedMin = minPrice != null ? Math.ceilDiv(minPrice, unit) * unit : null;
+			Integer roundedMax = maxPrice != null ? Math.floorDiv(maxPrice, unit) * unit : null;
+			if (roundedMin != null && roundedMax != null && roundedMin > roundedMax) {
+				return;
+			}
+			this.minPrice = roundedMin;
+			this.maxPrice = roundedMax;
+		}
+
 		public void setDefaultOccupancy() {
 			if (adultOccupancy == null || adultOccupancy < 1) {
 				this.adultOccupancy = 1;
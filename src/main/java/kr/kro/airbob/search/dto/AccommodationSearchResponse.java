@@ -6,9 +6,10 @@ import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
 
+import kr.kro.airbob.cursor.dto.CursorResponse;
 import kr.kro.airbob.domain.review.dto.ReviewResponse;
 import kr.kro.airbob.geo.dto.Coordinate;
-import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.document.AccommodationSearchHit;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -28,12 +29,7 @@ public class AccommodationSearchResponse {
 		String hostName,
 		Boolean isInWishlist
 	){
-		public static AccommodationSearchInfo from(AccommodationDocument doc, boolean isInWishlist) {
-
-			NumberFormat format = NumberFormat.getCurrencyInstance(Locale.KOREA);
-			String currencyCode = format.getCurrency().getCurrencyCode();
-			String displayName = format.getCurrency().getDisplayName();
-			String basePrice = format.format(doc.basePrice());
+		public static AccommodationSearchInfo from(AccommodationSearchHit doc, boolean isInWishlist) {
 
 			return AccommodationSearchInfo.builder()
 				.id(doc.accommodationId())
@@ -44,11 +40,7 @@ public class AccommodationSearchResponse {
 					doc.location() != null ? doc.location().lat() : null,
 					doc.location() != null ? doc.location().lon() : null
 				))
-				.pricePerNight(PriceResponse.builder()
-					.currencyCode(currencyCode)
-					.displayPrice(displayName)
-					.price(basePrice)
-					.build())
+				.pricePerNight(PriceResponse.of(doc.basePrice()))
 				.review(ReviewResponse.ReviewSummary.builder()
 					.averageRating(new BigDecimal(String.valueOf(doc.averageRating())))
 					.totalCount(doc.reviewCount())
@@ -57,6 +49,11 @@ public class AccommodationSearchResponse {
 				.isInWishlist(isInWishlist)
 				.build();
 		}
+
+		public AccommodationSearchInfo withWishlist(boolean isInWishlist) {
+			return new AccommodationSearchInfo(id, name, locationSummary, accommodationImageUrls, coordinate,
+				pricePerNight, review, hostName, isInWishlist);
+		}
 	}
 
 	@Builder
@@ -66,6 +63,30 @@ public class AccommodationSearchResponse {
 	){
 	}
 
+	@Builder
+	public record AccommodationCursorSearchInfos(
+		List<AccommodationSearchInfo> staySearchResultListing,
+		CursorResponse.PageInfo pageInfo
+	){
+	}
+
+	// 지도 축소 시 격자(geotile) 단위로 묶은 숙소 분포
+	@Builder
+	public record AccommodationClusterInfos(
+		List<AccommodationClusterInfo> clusters,
+		long totalCount
+	){
+	}
+
+	@Builder
+	public record AccommodationClusterInfo(
+		String tile, // zoom/x/y
+		Coordinate coordinate, // 격자 안 숙소들의 중심
+		long count,
+		PriceResponse minPricePerNight
+	){
+	}
+
 	@Builder
 	public record PageInfo(
 		int pageSize,
@@ -97,5 +118,14 @@ public class AccommodationSearchResponse {
 		String displayPrice,
 		String price
 	){
+		public static PriceResponse of(Number price) {
+			NumberFormat format = NumberFormat.getCurrencyInstance(Locale.KOREA);
+
+			return PriceResponse.builder()
+				.currencyCode(format.getCurrency().getCurrencyCode())
+				.displayPrice(format.getCurrency().getDisplayName())
+				.price(format.format(price))
+				.build();
+		}
 	}
 }
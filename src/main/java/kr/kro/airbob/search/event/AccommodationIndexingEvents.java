@@ -1,5 +1,10 @@
 package kr.kro.airbob.search.event;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -14,6 +19,24 @@ public class AccommodationIndexingEvents {
 	// 리뷰 이벤트
 	public record ReviewSummaryChangedEvent(Long accommodationId) {}
 
-	// 예약 이벤트
-	public record ReservationChangedEvent(Long accommodationId){}
+	// 예약 이벤트 (추가/삭제된 날짜가 없으면 예약 날짜 전체를 다시 색인)
+	public record ReservationChangedEvent(Long accommodationId, List<LocalDate> addedDates, List<LocalDate> removedDates){
+
+		public ReservationChangedEvent(Long accommodationId) {
+			this(accommodationId, null, null);
+		}
+
+		public static ReservationChangedEvent booked(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+			return new ReservationChangedEvent(accommodationId, checkIn.datesUntil(checkOut).toList(), List.of());
+		}
+
+		public static ReservationChangedEvent cancelled(Long accommodationId, LocalDate checkIn, LocalDate checkOut) {
+			return new ReservationChangedEvent(accommodationId, List.of(), checkIn.datesUntil(checkOut).toList());
+		}
+
+		@JsonIgnore
+		public boolean isFullRebuild() {
+			return addedDates == null || removedDates == null;
+		}
+	}
 }
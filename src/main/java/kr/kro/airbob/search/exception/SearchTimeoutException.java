@@ -0,0 +1,10 @@
+package kr.kro.airbob.search.exception;
+
+public class SearchTimeoutException extends RuntimeException {
+
+	public static final String ERROR_MESSAGE = "검색 응답 시간이 초과되었습니다.";
+
+	public SearchTimeoutException() {
+		super(ERROR_MESSAGE);
+	}
+}
@@ -0,0 +1,276 @@
+package kr.kro.airbob.search.indexing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kro.airbob.search.cache.SearchResultCache;
+import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.repository.AccommodationSearchRepository;
+import kr.kro.airbob.search.service.AccommodationDocumentBuilder;
+import kr.kro.airbob.search.service.AccommodationIndexUpdater;
+import lombok.extern.slf4j.Slf4j;
+
+// 숙소 id별로 합쳐진 색인 작업을 삭제/문서 재색인/부분 갱신으로 나눠 각각 한 번의 _bulk 요청으로 반영한다
+// 재시도와 DLQ 저장은 호출하는 쪽(IndexingOutboxRelay, DLQ 재처리)이 실패한 숙소 id를 보고 결정한다
+// 전체 재색인의 따라잡기가 모든 변경을 보도록, 색인 쓰기는 모두 이 클래스를 거친다
+@Slf4j
+@Component
+public class AccommodationBulkIndexer {
+
+	private static final IndexCoordinates ACCOMMODATIONS = IndexCoordinates.of("accommodations");
+
+	// 전체 재색인 중 어느 노드에서든 반영된 숙소 id를 모은다 (새 인덱스 따라잡기용)
+	private static final String REINDEX_TRACKING_KEY = "search:reindex:tracking";
+	private static final String REINDEX_CHANGED_KEY = "search:reindex:changed";
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final AccommodationSearchRepository searchRepository;
+	private final AccommodationDocumentBuilder documentBuilder;
+	private final AccommodationIndexUpdater indexUpdater;
+	private final SearchResultCache searchResultCache;
+	private final StringRedisTemplate redisTemplate;
+	private final TransactionTemplate readOnlyTransaction;
+
+	private final Counter failureCounter;
+	private final Timer flushTimer;
+	private final MeterRegistry meterRegistry;
+
+	public AccommodationBulkIndexer(ElasticsearchOperations elasticsearchOperations,
+		AccommodationSearchRepository searchRepository,
+		AccommodationDocumentBuilder documentBuilder,
+		AccommodationIndexUpdater indexUpdater,
+		SearchResultCache searchResultCache,
+		StringRedisTemplate redisTemplate,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry) {
+
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.searchRepository = searchRepository;
+		this.documentBuilder = documentBuilder;
+		this.indexUpdater = indexUpdater;
+		this.searchResultCache = searchResultCache;
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+
+		this.failureCounter = Counter.builder("search.indexing.failures")
+			.description("bulk 요청에서 실패한 숙소 수")
+			.register(meterRegistry);
+		this.flushTimer = Timer.builder("search.indexing.flush.duration")
+			.register(meterRegistry);
+	}
+
+	// 재색인이 비정상 종료돼도 ttl 뒤에는 기록을 멈춘다
+	public void startTracking(Duration ttl) {
+		redisTemplate.delete(REINDEX_CHANGED_KEY);
+		redisTemplate.opsForValue().set(REINDEX_TRACKING_KEY, "1", ttl);
+	}
+
+	public void stopTracking() {
+		redisTemplate.delete(REINDEX_TRACKING_KEY);
+	}
+
+	public List<Long> drainTracked(int count) {
+		List<String> popped = redisTemplate.opsForSet().pop(REINDEX_CHANGED_KEY, count);
+		if (popped == null) {
+			return List.of();
+		}
+		return popped.stream().map(Long::valueOf).toList();
+	}
+
+	// 반영에 실패한 숙소 id를 돌려준다. 성공한 숙소는 검색 결과 캐시를 비운다
+	public Set<Long> write(Map<Long, PendingIndexOperation> batch) {
+		if (batch.isEmpty()) {
+			return Set.of();
+		}
+		// 기록하지 못한 변경은 재색인 중인 새 인덱스에서 빠지므로, 반영하지 않고 실패로 돌려 다시 시도하게 한다
+		if (!track(batch.keySet())) {
+			failureCounter.increment(batch.size());
+			return Set.copyOf(batch.keySet());
+		}
+
+		Set<Long> failedIds = flushTimer.record(() -> flushBatch(batch));
+		failureCounter.increment(failedIds.size());
+		batch.keySet().stream()
+			.filter(accommodationId -> !failedIds.contains(accommodationId))
+			.forEach(searchResultCache::evictAccommodation);
+		return failedIds;
+	}
+
+	private boolean track(Set<Long> accommodationIds) {
+		try {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(REINDEX_TRACKING_KEY))) {
+				redisTemplate.opsForSet().add(REINDEX_CHANGED_KEY,
+					accommodationIds.stream().map(String::valueOf).toArray(String[]::new));
+			}
+			return true;
+		} catch (DataAccessException e) {
+			log.warn("재색인 변경 기록 실패, 색인하지 않고 재시도: count={}, error={}", accommodationIds.size(), e.getMessage());
+			return false;
+		}
+	}
+
+	private Set<Long> flushBatch(Map<Long, PendingIndexOperation> batch) {
+		List<Long> deleteIds = new ArrayList<>();
+		List<Long> reindexIds = new ArrayList<>();
+		Map<Long, PendingIndexOperation> partials = new HashMap<>();
+
+		batch.forEach((accommodationId, operation) -> {
+			switch (operation.kind()) {
+				case DELETE -> deleteIds.add(accommodationId);
+				case REINDEX -> reindexIds.add(accommodationId);
+				case PARTIAL -> partials.put(accommodationId, operation);
+			}
+		});
+
+		Set<Long> failedIds = new HashSet<>();
+		failedIds.addAll(bulkDelete(deleteIds));
+		failedIds.addAll(bulkIndex(reindexIds));
+		failedIds.addAll(bulkUpdate(partials));
+		return failedIds;
+	}
+
+	private Set<Long> bulkDelete(List<Long> accommodationIds) {
+		if (accommodationIds.isEmpty()) {
+			return Set.of();
+		}
+		try {
+			searchRepository.deleteAllById(accommodationIds);
+			flushedCounter("delete").increment(accommodationIds.size());
+			return Set.of();
+		} catch (Exception e) {
+			log.warn("숙소 색인 bulk 삭제 실패: count={}, error={}", accommodationIds.size(), e.getMessage());
+			return Set.copyOf(accommodationIds);
+		}
+	}
+
+	private Set<Long> bulkIndex(List<Long> accommodationIds) {
+		if (accommodationIds.isEmpty()) {
+			return Set.of();
+		}
+
+		Set<Long> failedIds = new HashSet<>();
+		Map<Long, AccommodationDocument> documents = new HashMap<>();
+		try {
+			documents.putAll(readOnlyTransaction.execute(
+				status -> documentBuilder.buildAccommodationDocuments(accommodationIds)));
+		} catch (Exception e) {
+			// 일괄 생성이 실패하면 숙소별로 나눠 실패한 숙소만 골라낸다
+			log.warn("숙소 색인 문서 일괄 생성 실패, 숙소별로 재시도: count={}, error={}",
+				accommodationIds.size(), e.getMessage());
+			for (Long accommodationId : accommodationIds) {
+				try {
+					documents.putAll(readOnlyTransaction.execute(
+						status -> documentBuilder.buildAccommodationDocuments(List.of(accommodationId))));
+				} catch (Exception single) {
+					log.warn("숙소 색인 문서 생성 실패: accommodationId={}, error={}", accommodationId, single.getMessage());
+					failedIds.add(accommodationId);
+				}
+			}
+		}
+
+		// 결과에 없는 숙소는 이미 삭제된 것이므로 뒤따르는 삭제 이벤트가 처리한다
+		List<IndexQuery> indexQueries = documents.entrySet().stream()
+			.map(entry -> new IndexQueryBuilder()
+				.withId(entry.getKey().toString())
+				.withObject(entry.getValue())
+				.build())
+			.toList();
+
+		if (!indexQueries.isEmpty()) {
+			failedIds.addAll(execute("index", indexQueries.size(),
+				() -> elasticsearchOperations.bulkIndex(indexQueries, ACCOMMODATIONS),
+				accommodationIds));
+		}
+		return failedIds;
+	}
+
+	private Set<Long> bulkUpdate(Map<Long, PendingIndexOperation> partials) {
+		if (partials.isEmpty()) {
+			return Set.of();
+		}
+
+		Set<Long> failedIds = new HashSet<>();
+		List<UpdateQuery> updateQueries = new ArrayList<>();
+		partials.forEach((accommodationId, operation) -> {
+			try {
+				// 전체 재구성에 필요한 DB 조회는 하나의 읽기 트랜잭션에서 한다
+				readOnlyTransaction.executeWithoutResult(
+					status -> updateQueries.addAll(buildUpdateQueries(accommodationId, operation)));
+			} catch (Exception e) {
+				log.warn("숙소 부분 색인 요청 생성 실패: accommodationId={}, error={}", accommodationId, e.getMessage());
+				failedIds.add(accommodationId);
+			}
+		});
+
+		if (!updateQueries.isEmpty()) {
+			failedIds.addAll(execute("update", updateQueries.size(),
+				() -> elasticsearchOperations.bulkUpdate(updateQueries, ACCOMMODATIONS),
+				partials.keySet()));
+		}
+		return failedIds;
+	}
+
+	private List<UpdateQuery> buildUpdateQueries(Long accommodationId, PendingIndexOperation operation) {
+		List<UpdateQuery> updateQueries = new ArrayList<>();
+		if (operation.reviewSummary()) {
+			updateQueries.add(indexUpdater.reviewSummaryUpdate(accommodationId));
+		}
+		if (operation.reservedDatesRebuild()) {
+			updateQueries.add(indexUpdater.reservedDatesUpdate(accommodationId));
+		} else if (operation.hasReservedDatesDelta()) {
+			updateQueries.add(indexUpdater.reservedDatesDeltaUpdate(
+				accommodationId, operation.addedDates(), operation.removedDates()));
+		}
+		return updateQueries;
+	}
+
+	// bulk 응답의 문서별 실패만 골라내고, 요청 자체가 실패하면 배치 전체를 실패로 본다
+	private Set<Long> execute(String operation, int requestCount, Runnable bulkRequest,
+		Collection<Long> accommodationIds) {
+		try {
+			bulkRequest.run();
+			flushedCounter(operation).increment(requestCount);
+			return Set.of();
+		} catch (BulkFailureException e) {
+			Set<Long> failedIds = new HashSet<>();
+			e.getFailedDocuments().keySet().forEach(id -> failedIds.add(Long.valueOf(id)));
+			log.warn("숙소 색인 bulk {} 일부 실패: failed={}, error={}", operation, failedIds, e.getMessage());
+			flushedCounter(operation).increment(Math.max(0, requestCount - failedIds.size()));
+			return failedIds;
+		} catch (Exception e) {
+			log.warn("숙소 색인 bulk {} 실패: count={}, error={}", operation, accommodationIds.size(), e.getMessage());
+			return Set.copyOf(accommodationIds);
+		}
+	}
+
+	private Counter flushedCounter(String operation) {
+		return Counter.builder("search.indexing.flushed")
+			.description("bulk 요청으로 반영된 색인 작업 수")
+			.tag("operation", operation)
+			.register(meterRegistry);
+	}
+}
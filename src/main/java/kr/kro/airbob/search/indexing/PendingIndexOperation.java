@@ -0,0 +1,74 @@
+package kr.kro.airbob.search.indexing;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 한 숙소에 대해 아직 색인에 반영하지 않은 변경을 하나로 합친 것
+// 우선순위: 삭제 > 문서 전체 재색인 > 부분 갱신(리뷰 요약, 예약 구간)
+public record PendingIndexOperation(
+	Kind kind,
+	boolean reviewSummary,
+	boolean reservedDatesRebuild,
+	List<LocalDate> addedDates,
+	List<LocalDate> removedDates
+) {
+
+	public enum Kind {
+		PARTIAL, REINDEX, DELETE
+	}
+
+	public static PendingIndexOperation delete() {
+		return new PendingIndexOperation(Kind.DELETE, false, false, List.of(), List.of());
+	}
+
+	public static PendingIndexOperation reindex() {
+		return new PendingIndexOperation(Kind.REINDEX, false, false, List.of(), List.of());
+	}
+
+	public static PendingIndexOperation reviewSummary() {
+		return new PendingIndexOperation(Kind.PARTIAL, true, false, List.of(), List.of());
+	}
+
+	public static PendingIndexOperation reservedDatesRebuild() {
+		return new PendingIndexOperation(Kind.PARTIAL, false, true, List.of(), List.of());
+	}
+
+	public static PendingIndexOperation reservedDatesDelta(List<LocalDate> addedDates, List<LocalDate> removedDates) {
+		return new PendingIndexOperation(Kind.PARTIAL, false, false, addedDates, removedDates);
+	}
+
+	public boolean hasReservedDatesDelta() {
+		return !reservedDatesRebuild && (!addedDates.isEmpty() || !removedDates.isEmpty());
+	}
+
+	// this가 먼저 들어온 변경, newer가 나중 변경
+	public PendingIndexOperation merge(PendingIndexOperation newer) {
+		if (kind == Kind.DELETE || newer.kind == Kind.DELETE) {
+			return new PendingIndexOperation(Kind.DELETE, false, false, List.of(), List.of());
+		}
+		if (kind == Kind.REINDEX || newer.kind == Kind.REINDEX) {
+			// 재색인이 DB에서 문서를 새로 만들면서 부분 갱신 내용도 함께 반영한다
+			return new PendingIndexOperation(Kind.REINDEX, false, false, List.of(), List.of());
+		}
+
+		boolean rebuild = reservedDatesRebuild || newer.reservedDatesRebuild;
+		if (rebuild) {
+			return new PendingIndexOperation(Kind.PARTIAL, reviewSummary || newer.reviewSummary, true,
+				List.of(), List.of());
+		}
+
+		// 순서대로 적용한 것과 같도록 합친다: 추가 = (A1 - R2) + A2, 삭제 = (R1 - A2) + R2
+		Set<LocalDate> added = new LinkedHashSet<>(addedDates);
+		added.removeAll(newer.removedDates);
+		added.addAll(newer.addedDates);
+
+		Set<LocalDate> removed = new LinkedHashSet<>(removedDates);
+		removed.removeAll(newer.addedDates);
+		removed.addAll(newer.removedDates);
+
+		return new PendingIndexOperation(Kind.PARTIAL, reviewSummary || newer.reviewSummary, false,
+			List.copyOf(added), List.copyOf(removed));
+	}
+}
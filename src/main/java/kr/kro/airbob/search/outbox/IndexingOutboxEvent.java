@@ -0,0 +1,66 @@
+package kr.kro.airbob.search.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import kr.kro.airbob.common.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Builder
+@Table(name = "indexing_outbox")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IndexingOutboxEvent extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long accommodationId;
+
+	@Column(nullable = false)
+	private String eventType;
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String eventData;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private int attempts = 0;
+
+	@Column(nullable = false)
+	private LocalDateTime availableAt;
+
+	public static IndexingOutboxEvent create(Long accommodationId, String eventType, String serializedEventData) {
+		return IndexingOutboxEvent.builder()
+			.accommodationId(accommodationId)
+			.eventType(eventType)
+			.eventData(serializedEventData)
+			.availableAt(LocalDateTime.now())
+			.build();
+	}
+
+	// 릴레이가 색인하는 동안 다른 노드가 다시 가져가지 않도록 잠시 미뤄 둔다. 노드가 죽으면 lease 뒤에 다시 보인다
+	public void lease(Duration leaseDuration) {
+		this.availableAt = LocalDateTime.now().plus(leaseDuration);
+	}
+
+	// 실패할 때마다 재시도 간격을 두 배로 늘린다
+	public void retryLater(Duration baseBackoff) {
+		this.attempts++;
+		this.availableAt = LocalDateTime.now().plus(baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 10)));
+	}
+}
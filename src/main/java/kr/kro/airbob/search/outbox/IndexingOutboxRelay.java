@@ -0,0 +1,192 @@
+package kr.kro.airbob.search.outbox;
+
+import static kr.kro.airbob.search.event.AccommodationIndexingEvents.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kro.airbob.dlq.service.DeadLetterQueueService;
+import kr.kro.airbob.search.indexing.AccommodationBulkIndexer;
+import kr.kro.airbob.search.indexing.PendingIndexOperation;
+import lombok.extern.slf4j.Slf4j;
+
+// outbox 행을 SKIP LOCKED로 나눠 가져와 lease를 걸고 커밋한 뒤(행 잠금 없이) 숙소별로 합쳐 bulk 색인하고,
+// 결과에 따라 반영된 행은 지우고 실패한 행은 재시도 시각을 기록한다
+// 노드가 색인 중에 죽으면 lease가 끝난 뒤 다른 노드가 다시 가져간다
+@Slf4j
+@Component
+public class IndexingOutboxRelay {
+
+	private final IndexingOutboxRepository outboxRepository;
+	private final AccommodationBulkIndexer bulkIndexer;
+	private final DeadLetterQueueService dlqService;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+	private final int maxBatchesPerRelay;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+	private final Duration lease;
+
+	private final AtomicLong pendingEvents = new AtomicLong();
+	private final Counter eventCounter;
+	private final Counter coalescedCounter;
+	private final Counter deadLetterCounter;
+
+	public IndexingOutboxRelay(IndexingOutboxRepository outboxRepository,
+		AccommodationBulkIndexer bulkIndexer,
+		DeadLetterQueueService dlqService,
+		ObjectMapper objectMapper,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${search.indexing.batch-size:200}") int batchSize,
+		@Value("${search.indexing.max-batches-per-relay:10}") int maxBatchesPerRelay,
+		@Value("${search.indexing.max-attempts:5}") int maxAttempts,
+		@Value("${search.indexing.retry-backoff:PT1S}") Duration retryBackoff,
+		@Value("${search.indexing.lease:PT30S}") Duration lease) {
+
+		this.outboxRepository = outboxRepository;
+		this.bulkIndexer = bulkIndexer;
+		this.dlqService = dlqService;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.maxBatchesPerRelay = maxBatchesPerRelay;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+		this.lease = lease;
+
+		Gauge.builder("search.indexing.outbox.pending", pendingEvents, AtomicLong::get)
+			.description("색인 대기 중인 outbox 이벤트 수")
+			.register(meterRegistry);
+		this.eventCounter = Counter.builder("search.indexing.events")
+			.description("outbox에서 가져온 색인 이벤트 수")
+			.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("search.indexing.coalesced")
+			.description("같은 숙소의 다른 이벤트와 합쳐진 색인 이벤트 수")
+			.register(meterRegistry);
+		this.deadLetterCounter = Counter.builder("search.indexing.dead-letters")
+			.description("재시도 횟수를 넘겨 DLQ로 옮긴 outbox 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${search.indexing.poll-interval:500}")
+	public void relay() {
+		// 잠근 행으로 배치가 가득 차면 밀린 이벤트가 있다고 보고 이어서 처리하되, 스케줄러 스레드를 오래 잡지 않도록 횟수를 제한한다
+		for (int batch = 0; batch < maxBatchesPerRelay; batch++) {
+			if (relayBatch() < batchSize) {
+				break;
+			}
+		}
+
+		pendingEvents.set(outboxRepository.countByAvailableAtLessThanEqual(LocalDateTime.now()));
+	}
+
+	private int relayBatch() {
+		List<IndexingOutboxEvent> claimed = transactionTemplate.execute(status -> claim());
+		if (claimed.isEmpty()) {
+			return 0;
+		}
+		eventCounter.increment(claimed.size());
+
+		// id 순으로 합쳐야 같은 숙소의 변경이 발생 순서대로 반영된다
+		Map<Long, PendingIndexOperation> operations = new LinkedHashMap<>();
+		List<IndexingOutboxEvent> deliverable = new ArrayList<>();
+		List<DeadLetter> deadLetters = new ArrayList<>();
+		for (IndexingOutboxEvent event : claimed) {
+			try {
+				PendingIndexOperation operation = toOperation(event);
+				if (operations.containsKey(event.getAccommodationId())) {
+					coalescedCounter.increment();
+				}
+				operations.merge(event.getAccommodationId(), operation, PendingIndexOperation::merge);
+				deliverable.add(event);
+			} catch (Exception e) {
+				deadLetters.add(new DeadLetter(event, e));
+			}
+		}
+
+		// ES 요청은 트랜잭션 밖에서 보낸다
+		Set<Long> failedIds = bulkIndexer.write(operations);
+
+		List<IndexingOutboxEvent> retrying = new ArrayList<>();
+		for (IndexingOutboxEvent event : deliverable) {
+			if (!failedIds.contains(event.getAccommodationId())) {
+				continue;
+			}
+			if (event.getAttempts() + 1 >= maxAttempts) {
+				deadLetters.add(new DeadLetter(event, new IllegalStateException("bulk 색인 " + maxAttempts + "회 실패")));
+			} else {
+				event.retryLater(retryBackoff);
+				retrying.add(event);
+			}
+		}
+
+		List<Long> finishedIds = claimed.stream()
+			.filter(event -> !retrying.contains(event))
+			.map(IndexingOutboxEvent::getId)
+			.toList();
+		transactionTemplate.executeWithoutResult(status -> {
+			deadLetters.forEach(deadLetter -> deadLetter(deadLetter.event(), deadLetter.cause()));
+			outboxRepository.deleteAllByIdInBatch(finishedIds);
+			outboxRepository.saveAll(retrying);
+		});
+		return claimed.size();
+	}
+
+	// 숙소별로 가장 오래된 행만 가져오므로(claimBatch) 같은 숙소의 변경은 항상 발생 순서대로 반영된다
+	private List<IndexingOutboxEvent> claim() {
+		List<IndexingOutboxEvent> claimed = outboxRepository.claimBatch(LocalDateTime.now(), batchSize);
+		claimed.forEach(event -> event.lease(lease));
+		return claimed;
+	}
+
+	private PendingIndexOperation toOperation(IndexingOutboxEvent event) throws JsonProcessingException {
+		return switch (event.getEventType()) {
+			case "AccommodationCreatedEvent", "AccommodationUpdatedEvent" -> PendingIndexOperation.reindex();
+			case "AccommodationDeletedEvent" -> PendingIndexOperation.delete();
+			case "ReviewSummaryChangedEvent" -> PendingIndexOperation.reviewSummary();
+			case "ReservationChangedEvent" -> {
+				ReservationChangedEvent changed = objectMapper.readValue(event.getEventData(),
+					ReservationChangedEvent.class);
+				yield changed.isFullRebuild()
+					? PendingIndexOperation.reservedDatesRebuild()
+					: PendingIndexOperation.reservedDatesDelta(changed.addedDates(), changed.removedDates());
+			}
+			default -> throw new IllegalArgumentException("지원하지 않는 이벤트 타입: " + event.getEventType());
+		};
+	}
+
+	private void deadLetter(IndexingOutboxEvent event, Exception e) {
+		log.error("색인 outbox 이벤트 최종 실패: id={}, eventType={}, accommodationId={}, error={}",
+			event.getId(), event.getEventType(), event.getAccommodationId(), e.getMessage());
+		deadLetterCounter.increment();
+		try {
+			dlqService.saveFailedEvent(event.getEventType(), objectMapper.readTree(event.getEventData()), e);
+		} catch (JsonProcessingException parseFailure) {
+			dlqService.saveFailedEvent(event.getEventType(), event.getEventData(), e);
+		}
+	}
+
+	private record DeadLetter(IndexingOutboxEvent event, Exception cause) {
+	}
+}
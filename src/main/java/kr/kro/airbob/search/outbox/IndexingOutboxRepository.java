@@ -0,0 +1,31 @@
+package kr.kro.airbob.search.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IndexingOutboxRepository extends JpaRepository<IndexingOutboxEvent, Long> {
+
+	// 다른 노드가 잡고 있는 행은 건너뛰어 여러 노드가 겹치지 않게 나눠 가져간다
+	// 숙소별로 가장 오래된 행만 가져가, 앞선 행이 색인 중이거나 재시도 대기 중이면 그 숙소의 뒤 행은 LIMIT을 차지하지 않는다
+	// (예약 날짜 델타는 순서가 바뀌면 결과가 달라진다. 하위 쿼리는 잠그지 않고 읽으므로 다른 노드가 잡은 앞선 행도 보인다)
+	@Query(value = """
+		SELECT o.*
+		FROM indexing_outbox o
+		WHERE o.available_at <= :now
+		  AND NOT EXISTS (
+		    SELECT 1
+		    FROM indexing_outbox older
+		    WHERE older.accommodation_id = o.accommodation_id
+		      AND older.id < o.id)
+		ORDER BY o.id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<IndexingOutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	long countByAvailableAtLessThanEqual(LocalDateTime now);
+}
@@ -0,0 +1,62 @@
+package kr.kro.airbob.search.outbox;
+
+import static kr.kro.airbob.search.event.AccommodationIndexingEvents.*;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// 색인 이벤트를 발행한 트랜잭션 안에서 outbox 테이블에 기록한다 (도메인 변경과 함께 커밋/롤백)
+@Component
+@RequiredArgsConstructor
+public class IndexingOutboxWriter {
+
+	private final IndexingOutboxRepository outboxRepository;
+	private final ObjectMapper objectMapper;
+
+	@EventListener
+	@Transactional
+	public void handleAccommodationCreated(AccommodationCreatedEvent event) {
+		append(event.accommodationId(), event);
+	}
+
+	@EventListener
+	@Transactional
+	public void handleAccommodationUpdated(AccommodationUpdatedEvent event) {
+		append(event.accommodationId(), event);
+	}
+
+	@EventListener
+	@Transactional
+	public void handleAccommodationDeleted(AccommodationDeletedEvent event) {
+		append(event.accommodationId(), event);
+	}
+
+	// 리뷰 변경 이벤트 (생성/삭제)
+	@EventListener
+	@Transactional
+	public void handleReviewChanged(ReviewSummaryChangedEvent event) {
+		append(event.accommodationId(), event);
+	}
+
+	// 예약 변경 이벤트 (생성/삭제)
+	@EventListener
+	@Transactional
+	public void handleReservationChanged(ReservationChangedEvent event) {
+		append(event.accommodationId(), event);
+	}
+
+	private void append(Long accommodationId, Object event) {
+		try {
+			outboxRepository.save(IndexingOutboxEvent.create(
+				accommodationId, event.getClass().getSimpleName(), objectMapper.writeValueAsString(event)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("이벤트 데이터 직렬화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package kr.kro.airbob.search.reindex;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 운영용 전체 재색인 명령: POST /actuator/searchreindex 로 시작, GET 으로 진행 상황(docs/s, ETA) 조회
+@Component
+@Endpoint(id = "searchreindex")
+@RequiredArgsConstructor
+public class AccommodationReindexEndpoint {
+
+	private final AccommodationReindexer reindexer;
+
+	@ReadOperation
+	public ReindexProgress progress() {
+		return reindexer.progress();
+	}
+
+	@WriteOperation
+	public ReindexProgress start() {
+		return reindexer.start();
+	}
+}
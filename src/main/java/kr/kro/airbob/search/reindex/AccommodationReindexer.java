@@ -0,0 +1,463 @@
+package kr.kro.airbob.search.reindex;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import kr.kro.airbob.dlq.service.SlackNotificationService;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.indexing.AccommodationBulkIndexer;
+import kr.kro.airbob.search.service.AccommodationDocumentBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+// MySQL에서 숙소를 id 키셋으로 읽어 버전 인덱스(accommodations_v{시각})를 새로 만들고,
+// 빌드 중 바뀐 숙소를 따라잡은 뒤 accommodations 별칭을 한 번의 _aliases 요청으로 새 인덱스로 옮긴다
+@Slf4j
+@Component
+public class AccommodationReindexer {
+
+	private static final String ALIAS = "accommodations";
+	private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	private static final int POST_SWAP_CATCH_UP_ATTEMPTS = 3;
+	// 변경 기록은 작업 제한 시간보다 조금 더 남겨, 제한 시간 안에 끝난 작업의 별칭 교체 후 따라잡기까지 기록이 끊기지 않게 한다
+	private static final Duration TRACKING_GRACE = Duration.ofMinutes(10);
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final ElasticsearchClient elasticsearchClient;
+	private final AccommodationRepository accommodationRepository;
+	private final AccommodationDocumentBuilder documentBuilder;
+	private final AccommodationBulkIndexer bulkIndexer;
+	private final TaskExecutor indexingExecutor;
+	private final SlackNotificationService slackNotificationService;
+	private final TransactionTemplate readOnlyTransaction;
+
+	private final int pageSize;
+	private final int maxInFlight;
+	private final int maxDocsPerSecond;
+	private final Duration maxDuration;
+	private final int retainedIndices;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final AtomicReference<Job> currentJob = new AtomicReference<>();
+
+	public AccommodationReindexer(ElasticsearchOperations elasticsearchOperations,
+		ElasticsearchClient elasticsearchClient,
+		AccommodationRepository accommodationRepository,
+		AccommodationDocumentBuilder documentBuilder,
+		AccommodationBulkIndexer bulkIndexer,
+		@Qualifier("indexingExecutor") TaskExecutor indexingExecutor,
+		SlackNotificationService slackNotificationService,
+		PlatformTransactionManager transactionManager,
+		@Value("${search.reindex.page-size:500}") int pageSize,
+		@Value("${search.reindex.max-docs-per-second:0}") int maxDocsPerSecond,
+		@Value("${search.reindex.max-duration:PT6H}") Duration maxDuration,
+		@Value("${search.reindex.retained-indices:1}") int retainedIndices) {
+
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.elasticsearchClient = elasticsearchClient;
+		this.accommodationRepository = accommodationRepository;
+		this.documentBuilder = documentBuilder;
+		this.bulkIndexer = bulkIndexer;
+		this.indexingExecutor = indexingExecutor;
+		this.slackNotificationService = slackNotificationService;
+		this.pageSize = pageSize;
+		this.maxInFlight = maxInFlight(indexingExecutor);
+		this.maxDocsPerSecond = maxDocsPerSecond;
+		this.maxDuration = maxDuration;
+		this.retainedIndices = retainedIndices;
+
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	public ReindexProgress progress() {
+		Job job = currentJob.get();
+		return job != null ? job.snapshot() : ReindexProgress.idle();
+	}
+
+	// 이미 실행 중이면 새로 시작하지 않고 진행 상황만 돌려준다
+	public ReindexProgress start() {
+		if (!running.compareAndSet(false, true)) {
+			return progress();
+		}
+
+		try {
+			String targetIndex = ALIAS + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+			Job job = new Job(targetIndex, accommodationRepository.count());
+			currentJob.set(job);
+
+			Thread.ofVirtual().name("search-reindex").start(() -> {
+				try {
+					run(job);
+				} finally {
+					running.set(false);
+				}
+			});
+			return job.snapshot();
+		} catch (RuntimeException e) {
+			running.set(false);
+			throw e;
+		}
+	}
+
+	private void run(Job job) {
+		IndexCoordinates target = IndexCoordinates.of(job.targetIndex);
+		bulkIndexer.startTracking(maxDuration.plus(TRACKING_GRACE));
+		try {
+			createIndex(job.targetIndex);
+			setRefreshInterval(job.targetIndex, "-1");  // 빌드 중에는 refresh를 끈다
+
+			copyAll(job, target);
+			if (job.failed.get() > 0) {
+				throw new IllegalStateException("색인 실패 문서 " + job.failed.get() + "건");
+			}
+
+			catchUp(drainChanged(), target);
+			setRefreshInterval(job.targetIndex, "1s");
+			elasticsearchOperations.indexOps(target).refresh();
+
+			job.checkDeadline(maxDuration);
+			swapAlias(job.targetIndex);
+		} catch (Exception e) {
+			bulkIndexer.stopTracking();
+			job.fail(e);
+			log.error("숙소 전체 재색인 실패, 새 인덱스 삭제: index={}, error={}", job.targetIndex, e.getMessage(), e);
+			deleteQuietly(target);
+			return;
+		}
+
+		// 여기부터는 새 인덱스가 검색에 쓰이고 있으므로 실패해도 지우지 않는다
+		finishAfterSwap(job, target);
+	}
+
+	// 별칭 교체 직전까지 반영된 변경은 이전 인덱스에만 반영됐을 수 있어 한 번 더 따라잡는다
+	private void finishAfterSwap(Job job, IndexCoordinates target) {
+		List<Long> pending = new ArrayList<>();
+		Exception lastFailure = null;
+		for (int attempt = 1; attempt <= POST_SWAP_CATCH_UP_ATTEMPTS; attempt++) {
+			try {
+				bulkIndexer.stopTracking();
+				pending.addAll(drainChanged());
+				catchUp(pending, target);
+				lastFailure = null;
+				break;
+			} catch (Exception e) {
+				lastFailure = e;
+				log.warn("별칭 교체 후 따라잡기 실패: index={}, attempt={}, pending={}, error={}",
+					job.targetIndex, attempt, pending.size(), e.getMessage());
+			}
+		}
+
+		if (lastFailure != null) {
+			job.fail(lastFailure);
+			log.error("별칭 교체 후 따라잡기 최종 실패, 새 인덱스는 유지: index={}, pending={}",
+				job.targetIndex, pending.size(), lastFailure);
+			slackNotificationService.sendAlert(String.format(
+				"숙소 재색인 후 따라잡기 실패: index=`%s`, 누락 가능 숙소 %d건 (%s)",
+				job.targetIndex, pending.size(), pending.stream().limit(50).toList()));
+			return;
+		}
+
+		deletePreviousIndices(job.targetIndex);
+		job.complete();
+		log.info("숙소 전체 재색인 완료: index={}, indexed={}, elapsed={}s",
+			job.targetIndex, job.indexed.get(), job.elapsedSeconds());
+	}
+
+	private void createIndex(String indexName) {
+		IndexOperations documentIndexOps = elasticsearchOperations.indexOps(AccommodationDocument.class);
+		elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+			.create(documentIndexOps.createSettings(), documentIndexOps.createMapping());
+	}
+
+	private void setRefreshInterval(String indexName, String interval) throws IOException {
+		elasticsearchClient.indices().putSettings(request -> request
+			.index(indexName)
+			.settings(settings -> settings.refreshInterval(time -> time.time(interval))));
+	}
+
+	// 동시에 처리할 페이지 수를 indexingExecutor 크기(async.indexing.*)에서 정한다
+	// 스레드마다 대기 페이지를 최대 하나까지만 두어, 풀과 큐를 넘겨 거절 정책이 적용되는 일이 없게 한다
+	static int maxInFlight(TaskExecutor executor) {
+		if (executor instanceof ThreadPoolTaskExecutor pool) {
+			ThreadPoolExecutor threadPool = pool.getThreadPoolExecutor();
+			BlockingQueue<Runnable> queue = threadPool.getQueue();
+			int maxPoolSize = threadPool.getMaximumPoolSize();
+			long queueCapacity = (long)queue.size() + queue.remainingCapacity();
+			return maxPoolSize + (int)Math.min(queueCapacity, maxPoolSize);
+		}
+		if (executor instanceof SimpleAsyncTaskExecutor virtual && virtual.isThrottleActive()) {
+			return virtual.getConcurrencyLimit();
+		}
+		return 1;
+	}
+
+	// id 페이지는 한 스레드가 순서대로 읽고, 문서 생성 + bulk 쓰기는 indexingExecutor에서 최대 maxInFlight 페이지까지 병렬로 처리한다
+	private void copyAll(Job job, IndexCoordinates target) throws InterruptedException {
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		long startedNanos = System.nanoTime();
+		long submitted = 0;
+
+		Long lastId = 0L;
+		List<Long> ids;
+		boolean deadlineExceeded = false;
+		while (!(ids = accommodationRepository.findIdsAfter(lastId, PageRequest.of(0, pageSize))).isEmpty()) {
+			// 제한 시간을 넘기면 변경 기록이 끊겨 따라잡기가 불완전해지므로 더 제출하지 않는다
+			if (job.pastDeadline(maxDuration)) {
+				deadlineExceeded = true;
+				break;
+			}
+			lastId = ids.getLast();
+			submitted += ids.size();
+			pace(submitted, startedNanos);
+
+			inFlight.acquire();
+			List<Long> page = ids;
+			try {
+				indexingExecutor.execute(() -> {
+					try {
+						job.indexed.addAndGet(bulkIndex(buildDocuments(page), target));
+					} catch (Exception e) {
+						log.warn("재색인 페이지 실패: fromId={}, toId={}, error={}",
+							page.getFirst(), page.getLast(), e.getMessage());
+						job.failed.addAndGet(page.size());
+					} finally {
+						inFlight.release();
+						job.logProgress();
+					}
+				});
+			} catch (TaskRejectedException e) {
+				inFlight.release();
+				throw e;
+			}
+		}
+
+		// 공유 풀이라 종료를 기다릴 수 없으므로, 허가를 모두 돌려받으면 제출한 페이지가 끝난 것으로 본다
+		inFlight.acquire(maxInFlight);
+		if (deadlineExceeded) {
+			job.checkDeadline(maxDuration);
+		}
+	}
+
+	// max-docs-per-second를 넘지 않도록 제출 속도를 맞춘다 (0이면 제한 없음)
+	private void pace(long submitted, long startedNanos) throws InterruptedException {
+		if (maxDocsPerSecond <= 0) {
+			return;
+		}
+		long expectedNanos = submitted * 1_000_000_000L / maxDocsPerSecond;
+		long aheadNanos = expectedNanos - (System.nanoTime() - startedNanos);
+		if (aheadNanos > 0) {
+			Thread.sleep(Duration.ofNanos(aheadNanos));
+		}
+	}
+
+	private Map<Long, AccommodationDocument> buildDocuments(List<Long> accommodationIds) {
+		return readOnlyTransaction.execute(status -> documentBuilder.buildAccommodationDocuments(accommodationIds));
+	}
+
+	private int bulkIndex(Map<Long, AccommodationDocument> documents, IndexCoordinates target) {
+		if (documents.isEmpty()) {
+			return 0;
+		}
+
+		List<IndexQuery> indexQueries = documents.entrySet().stream()
+			.map(entry -> new IndexQueryBuilder()
+				.withId(entry.getKey().toString())
+				.withObject(entry.getValue())
+				.build())
+			.toList();
+		elasticsearchOperations.bulkIndex(indexQueries, target);
+		return indexQueries.size();
+	}
+
+	// 빌드 중 바뀐 숙소를 DB 기준으로 다시 쓰고, 그 사이 삭제된 숙소는 새 인덱스에서도 지운다
+	private void catchUp(List<Long> changedIds, IndexCoordinates target) {
+		for (int from = 0; from < changedIds.size(); from += pageSize) {
+			List<Long> page = changedIds.subList(from, Math.min(from + pageSize, changedIds.size()));
+			Map<Long, AccommodationDocument> documents = buildDocuments(page);
+
+			bulkIndex(documents, target);
+			page.stream()
+				.filter(id -> !documents.containsKey(id))
+				.forEach(id -> elasticsearchOperations.delete(id.toString(), target));
+		}
+		log.info("재색인 중 변경된 숙소 따라잡기: count={}", changedIds.size());
+	}
+
+	private List<Long> drainChanged() {
+		List<Long> drained = new ArrayList<>();
+		List<Long> popped;
+		while (!(popped = bulkIndexer.drainTracked(pageSize)).isEmpty()) {
+			drained.addAll(popped);
+		}
+		return drained;
+	}
+
+	// 별칭이 가리키던 인덱스(또는 별칭 이름으로 만들어진 기존 인덱스)를 같은 요청 안에서 교체한다
+	private void swapAlias(String targetIndex) {
+		IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS));
+		Set<String> previousIndices = new HashSet<>(currentAliasTargets(aliasOps));
+
+		List<AliasAction> actions = new ArrayList<>();
+		if (!previousIndices.isEmpty()) {
+			actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+				.withIndices(previousIndices.toArray(String[]::new))
+				.withAliases(ALIAS)
+				.build()));
+		} else if (aliasOps.exists()) {
+			// 별칭 도입 전에는 accommodations가 실제 인덱스라 별칭 추가와 함께 지운다
+			actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+				.withIndices(ALIAS)
+				.build()));
+		}
+		actions.add(new AliasAction.Add(AliasActionParameters.builder()
+			.withIndices(targetIndex)
+			.withAliases(ALIAS)
+			.build()));
+
+		aliasOps.alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+		log.info("accommodations 별칭 교체: {} -> {} (이전 인덱스는 retained-indices개만 롤백용으로 남긴다)", previousIndices, targetIndex);
+	}
+
+	// 롤백용으로 직전 인덱스 retained-indices개만 남기고 더 오래된 버전 인덱스는 지운다
+	private void deletePreviousIndices(String targetIndex) {
+		try {
+			List<String> previousIndices = elasticsearchClient.indices()
+				.get(request -> request.index(ALIAS + "_v*"))
+				.result().keySet().stream()
+				.filter(index -> !index.equals(targetIndex))
+				.sorted(Comparator.reverseOrder())  // 이름의 시각이 최신인 순
+				.toList();
+
+			previousIndices.stream()
+				.skip(retainedIndices)
+				.forEach(index -> {
+					deleteQuietly(IndexCoordinates.of(index));
+					log.info("이전 숙소 인덱스 삭제: index={}", index);
+				});
+		} catch (Exception e) {
+			log.warn("이전 숙소 인덱스 정리 실패: error={}", e.getMessage());
+		}
+	}
+
+	private Collection<String> currentAliasTargets(IndexOperations aliasOps) {
+		try {
+			Map<String, Set<AliasData>> aliases = aliasOps.getAliases(ALIAS);
+			return aliases.keySet();
+		} catch (Exception e) {
+			// 별칭이 없으면 404
+			return List.of();
+		}
+	}
+
+	private void deleteQuietly(IndexCoordinates target) {
+		try {
+			elasticsearchOperations.indexOps(target).delete();
+		} catch (Exception e) {
+			log.warn("숙소 인덱스 삭제 실패: index={}, error={}", target.getIndexName(), e.getMessage());
+		}
+	}
+
+	private static final class Job {
+
+		private final String targetIndex;
+		private final long total;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startedNanos = System.nanoTime();
+		private final AtomicLong indexed = new AtomicLong();
+		private final AtomicLong failed = new AtomicLong();
+		private final AtomicLong lastLoggedAt = new AtomicLong();
+
+		private volatile ReindexProgress.State state = ReindexProgress.State.RUNNING;
+		private volatile LocalDateTime finishedAt;
+		private volatile String error;
+
+		private Job(String targetIndex, long total) {
+			this.targetIndex = targetIndex;
+			this.total = total;
+		}
+
+		private void complete() {
+			finishedAt = LocalDateTime.now();
+			state = ReindexProgress.State.COMPLETED;
+		}
+
+		private void fail(Exception e) {
+			finishedAt = LocalDateTime.now();
+			error = e.getMessage();
+			state = ReindexProgress.State.FAILED;
+		}
+
+		private boolean pastDeadline(Duration maxDuration) {
+			return System.nanoTime() - startedNanos > maxDuration.toNanos();
+		}
+
+		private void checkDeadline(Duration maxDuration) {
+			if (pastDeadline(maxDuration)) {
+				throw new IllegalStateException("재색인 제한 시간(" + maxDuration + ") 초과");
+			}
+		}
+
+		private double elapsedSeconds() {
+			return (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+		}
+
+		private ReindexProgress snapshot() {
+			long done = indexed.get();
+			double docsPerSecond = elapsedSeconds() > 0 ? done / elapsedSeconds() : 0;
+			Long etaSeconds = state == ReindexProgress.State.RUNNING && docsPerSecond > 0
+				? (long)(Math.max(0, total - done) / docsPerSecond)
+				: null;
+			return new ReindexProgress(state, targetIndex, total, done, failed.get(), docsPerSecond, etaSeconds,
+				startedAt, finishedAt, error);
+		}
+
+		// 10초마다 진행 상황을 남긴다
+		private void logProgress() {
+			long now = System.nanoTime();
+			long last = lastLoggedAt.get();
+			if (now - last >= 10_000_000_000L && lastLoggedAt.compareAndSet(last, now)) {
+				ReindexProgress progress = snapshot();
+				log.info("숙소 전체 재색인 진행: index={}, {}/{}, {} docs/s, eta={}s",
+					targetIndex, progress.indexed(), progress.total(),
+					String.format("%.1f", progress.docsPerSecond()), progress.etaSeconds());
+			}
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package kr.kro.airbob.search.reindex;
+
+import java.time.LocalDateTime;
+
+// 전체 재색인 진행 상황 (actuator searchreindex 엔드포인트 응답)
+public record ReindexProgress(
+	State state,
+	String targetIndex,
+	long total,
+	long indexed,
+	long failed,
+	double docsPerSecond,
+	Long etaSeconds,
+	LocalDateTime startedAt,
+	LocalDateTime finishedAt,
+	String error
+) {
+
+	public enum State {
+		IDLE, RUNNING, COMPLETED, FAILED
+	}
+
+	public static ReindexProgress idle() {
+		return new ReindexProgress(State.IDLE, null, 0, 0, 0, 0, null, null, null, null);
+	}
+}
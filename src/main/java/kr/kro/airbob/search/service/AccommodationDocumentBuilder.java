@@ -1,49 +1,82 @@
 package kr.kro.airbob.search.service;
 
+import static java.util.stream.Collectors.*;
+
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
+import org.springframework.data.domain.Range;
 import org.springframework.stereotype.Component;
 
+import kr.kro.airbob.domain.accommodation.dto.AccommodationAmenityName;
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
-import kr.kro.airbob.domain.accommodation.entity.AccommodationAmenity;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationAmenityRepository;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationImageRepository;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
 import kr.kro.airbob.domain.image.AccommodationImage;
-import kr.kro.airbob.domain.reservation.common.ReservationStatus;
-import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.review.AccommodationReviewSummary;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
 import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.document.ReservedRanges;
 import lombok.RequiredArgsConstructor;
 
+// 숙소 수와 무관하게 고정된 6번의 조회(숙소+주소+수용 인원+호스트, 편의시설, 이미지, 리뷰 요약, 예약, 차단 날짜)로 색인 문서를 만든다 (예약, 차단 날짜는 ReservedNightsReader)
 @Component
 @RequiredArgsConstructor
 public class AccommodationDocumentBuilder {
 
 	private final AccommodationRepository accommodationRepository;
 	private final AccommodationAmenityRepository amenityRepository;
-	private final ReservationRepository reservationRepository;
+	private final ReservedNightsReader reservedNightsReader;
 	private final AccommodationImageRepository imageRepository;
 	private final AccommodationReviewSummaryRepository reviewSummaryRepository;
 
 	public AccommodationDocument buildAccommodationDocument(Long accommodationId) {
-		Accommodation accommodation = accommodationRepository.findById(accommodationId)
-			.orElseThrow(AccommodationNotFoundException::new);
+		AccommodationDocument document = buildAccommodationDocuments(List.of(accommodationId)).get(accommodationId);
+		if (document == null) {
+			throw new AccommodationNotFoundException();
+		}
+		return document;
+	}
 
-		// 편의시설
-		List<String> amenityTypes = getAccommodationAmenities(accommodationId);
+	// 존재하지 않는 숙소 id는 결과에서 빠진다. IN 절 크기는 호출하는 쪽에서 나눠서 넘긴다
+	public Map<Long, AccommodationDocument> buildAccommodationDocuments(List<Long> accommodationIds) {
+		if (accommodationIds.isEmpty()) {
+			return Map.of();
+		}
 
-		// 이미지
-		List<String> imageUrls = getAccommodationImages(accommodationId, accommodation.getThumbnailUrl());
+		List<Accommodation> accommodations = accommodationRepository.findAllForIndexingByIdIn(accommodationIds);
+		if (accommodations.isEmpty()) {
+			return Map.of();
+		}
+		List<Long> foundIds = accommodations.stream().map(Accommodation::getId).toList();
 
-		// 예약 날짜
-		List<LocalDate> reservedDates = getReservedDates(accommodationId);
+		Map<Long, List<String>> amenityTypes = getAccommodationAmenities(foundIds);
+		Map<Long, List<String>> imageUrls = getAccommodationImages(foundIds);
+		Map<Long, List<LocalDate>> reservedDates = reservedNightsReader.findReservedNights(foundIds);
+		Map<Long, AccommodationReviewSummary> reviewSummaries = reviewSummaryRepository.findByAccommodationIdIn(foundIds)
+			.stream()
+			.collect(toMap(AccommodationReviewSummary::getAccommodationId, Function.identity()));
+
+		Map<Long, AccommodationDocument> documents = new LinkedHashMap<>();
+		for (Accommodation accommodation : accommodations) {
+			Long id = accommodation.getId();
+			documents.put(id, toDocument(
+				accommodation,
+				amenityTypes.getOrDefault(id, List.of()),
+				withThumbnailFallback(imageUrls.getOrDefault(id, List.of()), accommodation.getThumbnailUrl()),
+				ReservedRanges.compact(reservedDates.getOrDefault(id, List.of())),
+				reviewSummaries.get(id)));
+		}
+		return documents;
+	}
 
-		// 리뷰 요약
-		AccommodationReviewSummary reviewSummary = getReviewSummary(accommodationId);
+	private AccommodationDocument toDocument(Accommodation accommodation, List<String> amenityTypes,
+		List<String> imageUrls, List<Range<LocalDate>> reservedRanges, AccommodationReviewSummary reviewSummary) {
 
 		return AccommodationDocument.builder()
 			.accommodationId(accommodation.getId())
@@ -74,7 +107,7 @@ public class AccommodationDocumentBuilder {
 			// 이미지
 			.imageUrls(imageUrls)
 			// 예약 날짜
-			.reservedDates(reservedDates)
+			.reservedRanges(reservedRanges)
 			// 리뷰 요약
 			.averageRating(reviewSummary != null ? reviewSummary.getAverageRating().doubleValue() : null)
 			.reviewCount(reviewSummary != null ? reviewSummary.getTotalReviewCount() : null)
@@ -84,48 +117,29 @@ public class AccommodationDocumentBuilder {
 			.build();
 	}
 
-	private AccommodationReviewSummary getReviewSummary(Long accommodationId) {
-		return reviewSummaryRepository.findByAccommodationId(accommodationId)
-			.orElse(null);
-	}
-
-	private List<String> getAccommodationImages(Long accommodationId, String thumbnailUrl) {
-		List<String> imageUrls = imageRepository.findImagesByAccommodationId(accommodationId)
+	private Map<Long, List<String>> getAccommodationImages(List<Long> accommodationIds) {
+		return imageRepository.findAccommodationImagesByAccommodationIds(accommodationIds)
 			.stream()
-			.map(AccommodationImage::getImageUrl)
-			.toList();
+			.collect(groupingBy(
+				image -> image.getAccommodation().getId(),
+				mapping(AccommodationImage::getImageUrl, toList())));
+	}
 
-		// 이미지가 없는 경우 썸네일 조회
+	// 이미지가 없는 경우 썸네일 사용
+	private List<String> withThumbnailFallback(List<String> imageUrls, String thumbnailUrl) {
 		if (imageUrls.isEmpty() && thumbnailUrl != null) {
-			imageUrls = List.of(thumbnailUrl);
+			return List.of(thumbnailUrl);
 		}
 		return imageUrls;
 	}
 
-	private List<String> getAccommodationAmenities(Long accommodationId) {
-		return amenityRepository.findAllByAccommodationId(accommodationId)
-			.stream()
-			.map(AccommodationAmenity::getAmenity)
-			.map(amenity -> amenity.getName().name())
-			.distinct()
-			.toList();
-	}
-
-	private List<LocalDate> getReservedDates(Long accommodationId) {
-		return reservationRepository
-			.findFutureReservationsByAccommodationIdAndStatus(
-				accommodationId,
-				ReservationStatus.COMPLETED,
-				LocalDate.now().atStartOfDay())
+	private Map<Long, List<String>> getAccommodationAmenities(List<Long> accommodationIds) {
+		return amenityRepository.findAmenityNamesByAccommodationIds(accommodationIds)
 			.stream()
-			.flatMap(reservation -> {
-				LocalDate checkInDate = reservation.getCheckIn().toLocalDate();
-				LocalDate checkOutDate = reservation.getCheckOut().toLocalDate();
-
-				return checkInDate.datesUntil(checkOutDate);  // 체크아웃 날 제외
-			})
-			.distinct()
-			.sorted()
-			.toList();
+			.collect(groupingBy(
+				AccommodationAmenityName::accommodationId,
+				collectingAndThen(
+					mapping(amenity -> amenity.amenityType().name(), toList()),
+					names -> names.stream().distinct().toList())));
 	}
 }
@@ -5,27 +5,62 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.ScriptType;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Component;
 
-import kr.kro.airbob.domain.reservation.common.ReservationStatus;
-import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.review.AccommodationReviewSummary;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.search.document.ReservedRanges;
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class AccommodationIndexUpdater {
 
-	private static final String ACCOMMODATIONS = "accommodations";
-	private final ElasticsearchOperations elasticsearchOperations;
+	// 지난 구간은 정리하고, 삭제된 구간을 잘라낸 뒤, 추가된 구간을 중복 없이 더한다 (재시도해도 결과가 같도록)
+	// 날짜는 yyyy-MM-dd 문자열이라 사전순 비교가 곧 날짜 비교다
+	private static final String APPLY_RESERVED_RANGES_DELTA_SCRIPT = """
+		List current = ctx._source.reservedRanges == null ? new ArrayList() : ctx._source.reservedRanges;
+		List result = new ArrayList();
+		for (def range : current) {
+			if (range.lt.compareTo(params.today) <= 0) {
+				continue;
+			}
+			List pieces = new ArrayList();
+			pieces.add(['gte': range.gte, 'lt': range.lt]);
+			for (def removed : params.removedRanges) {
+				List next = new ArrayList();
+				for (def piece : pieces) {
+					if (removed.lt.compareTo(piece.gte) <= 0 || removed.gte.compareTo(piece.lt) >= 0) {
+						next.add(piece);
+						continue;
+					}
+					if (piece.gte.compareTo(removed.gte) < 0) {
+						next.add(['gte': piece.gte, 'lt': removed.gte]);
+					}
+					if (removed.lt.compareTo(piece.lt) < 0) {
+						next.add(['gte': removed.lt, 'lt': piece.lt]);
+					}
+				}
+				pieces = next;
+			}
+			result.addAll(pieces);
+		}
+		for (def added : params.addedRanges) {
+			if (added.lt.compareTo(params.today) > 0 && !result.contains(added)) {
+				result.add(added);
+			}
+		}
+		ctx._source.reservedRanges = result;
+		ctx._source.remove('reservedDates');
+		""";
+
 	private final AccommodationReviewSummaryRepository reviewSummaryRepository;
-	private final ReservationRepository reservationRepository;
-	public void updateReviewSummaryInIndex(Long accommodationId) {
+	private final ReservedNightsReader reservedNightsReader;
+
+	// 색인 쓰기는 전체 재색인 따라잡기에 기록되도록 AccommodationBulkIndexer의 bulk 요청으로만 보낸다
+	public UpdateQuery reviewSummaryUpdate(Long accommodationId) {
 		AccommodationReviewSummary reviewSummary = reviewSummaryRepository.findByAccommodationId(accommodationId)
 			.orElse(null);
 
@@ -39,50 +74,36 @@ public class AccommodationIndexUpdater {
 		params.put("averageRating", averageRating);
 		params.put("reviewCount", reviewCount);
 
-		UpdateQuery updateQuery = UpdateQuery.builder(accommodationId.toString())
+		return UpdateQuery.builder(accommodationId.toString())
 			.withScriptType(ScriptType.INLINE)
 			.withScript(
 				"ctx._source.averageRating = params.averageRating; ctx._source.reviewCount = params.reviewCount")
 			.withParams(params)
 			.build();
-
-		elasticsearchOperations.update(updateQuery, IndexCoordinates.of(ACCOMMODATIONS));
 	}
 
-	public void updateReservedDatesInIndex(Long accommodationId) {
-		List<LocalDate> reservedDates = getReservedDates(accommodationId);
-
-		List<String> reservedDateStrings = reservedDates.stream()
-			.map(LocalDate::toString)
-			.toList();
-
+	public UpdateQuery reservedDatesUpdate(Long accommodationId) {
 		Map<String, Object> params = new HashMap<>();
-		params.put("reservedDates", reservedDateStrings);
+		params.put("reservedRanges", ReservedRanges.toParams(reservedNightsReader.findReservedNights(accommodationId)));
 
-		UpdateQuery updateQuery = UpdateQuery.builder(accommodationId.toString())
+		return UpdateQuery.builder(accommodationId.toString())
 			.withScriptType(ScriptType.INLINE)
-			.withScript("ctx._source.reservedDates = params.reservedDates")
+			.withScript("ctx._source.reservedRanges = params.reservedRanges; ctx._source.remove('reservedDates')")
 			.withParams(params)
 			.build();
-
-		elasticsearchOperations.update(updateQuery, IndexCoordinates.of(ACCOMMODATIONS));
 	}
 
-	private List<LocalDate> getReservedDates(Long accommodationId) {
-		return reservationRepository
-			.findFutureReservationsByAccommodationIdAndStatus(
-				accommodationId,
-				ReservationStatus.COMPLETED,
-				LocalDate.now().atStartOfDay())
-			.stream()
-			.flatMap(reservation -> {
-				LocalDate checkInDate = reservation.getCheckIn().toLocalDate();
-				LocalDate checkOutDate = reservation.getCheckOut().toLocalDate();
+	public UpdateQuery reservedDatesDeltaUpdate(Long accommodationId, List<LocalDate> addedDates,
+		List<LocalDate> removedDates) {
+		Map<String, Object> params = new HashMap<>();
+		params.put("addedRanges", ReservedRanges.toParams(addedDates));
+		params.put("removedRanges", ReservedRanges.toParams(removedDates));
+		params.put("today", LocalDate.now().toString());
 
-				return checkInDate.datesUntil(checkOutDate);  // 체크아웃 날짜 제외
-			})
-			.distinct()
-			.sorted()
-			.toList();
+		return UpdateQuery.builder(accommodationId.toString())
+			.withScriptType(ScriptType.INLINE)
+			.withScript(APPLY_RESERVED_RANGES_DELTA_SCRIPT)
+			.withParams(params)
+			.build();
 	}
 }
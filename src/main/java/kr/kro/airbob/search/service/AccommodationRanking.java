@@ -0,0 +1,100 @@
+package kr.kro.airbob.search.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch._types.query_dsl.FieldValueFactorModifier;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScore;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import kr.kro.airbob.search.dto.AccommodationSearchRequest;
+
+// 필터(점수 없음)를 통과한 숙소에 평점, 리뷰 수, 최신성, 요청 가격대와의 거리로 점수를 매긴다
+@Component
+public class AccommodationRanking {
+
+	private static final String RECENCY_ORIGIN = "now/d";
+
+	@Value("${search.ranking.enabled:true}")
+	private boolean enabled;
+
+	@Value("${search.ranking.rating-weight:2.0}")
+	private double ratingWeight;
+
+	@Value("${search.ranking.review-count-weight:1.0}")
+	private double reviewCountWeight;
+
+	@Value("${search.ranking.recency-weight:0.5}")
+	private double recencyWeight;
+
+	@Value("${search.ranking.recency-scale:90d}")
+	private String recencyScale;
+
+	@Value("${search.ranking.price-weight:1.0}")
+	private double priceWeight;
+
+	public Query rank(Query filterQuery, AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest) {
+		if (!enabled) {
+			return filterQuery;
+		}
+
+		List<FunctionScore> functions = functions(searchRequest);
+		if (functions.isEmpty()) {
+			return filterQuery;
+		}
+
+		return Query.of(q -> q.functionScore(fs -> fs
+			.query(filterQuery)
+			.functions(functions)
+			.scoreMode(FunctionScoreMode.Sum)
+			.boostMode(FunctionBoostMode.Replace)));
+	}
+
+	List<FunctionScore> functions(AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest) {
+		List<FunctionScore> functions = new ArrayList<>();
+
+		// 평점 0~5
+		if (ratingWeight > 0) {
+			functions.add(FunctionScore.of(f -> f
+				.fieldValueFactor(v -> v.field("averageRating").missing(0.0))
+				.weight(ratingWeight)));
+		}
+
+		// 리뷰 수는 몇 개 숙소가 점수를 독식하지 않도록 log1p로 완만하게
+		if (reviewCountWeight > 0) {
+			functions.add(FunctionScore.of(f -> f
+				.fieldValueFactor(v -> v.field("reviewCount").modifier(FieldValueFactorModifier.Log1p).missing(0.0))
+				.weight(reviewCountWeight)));
+		}
+
+		// 최근 등록 숙소 가산점 (recencyScale 지나면 절반)
+		// 기준 시각을 날짜 단위로 내려 하루 동안 점수가 변하지 않게 한다 (_score 기반 search_after 커서와 쿼리 캐시 유지)
+		if (recencyWeight > 0) {
+			functions.add(FunctionScore.of(f -> f
+				.gauss(d -> d.date(date -> date
+					.field("createdAt")
+					.placement(p -> p.origin(RECENCY_ORIGIN).scale(Time.of(t -> t.time(recencyScale))).decay(0.5))))
+				.weight(recencyWeight)));
+		}
+
+		// 요청 가격대의 가운데에 가까울수록 가산점 (가격대가 있을 때만)
+		Integer minPrice = searchRequest.getMinPrice();
+		Integer maxPrice = searchRequest.getMaxPrice();
+		if (priceWeight > 0 && minPrice != null && maxPrice != null && minPrice < maxPrice) {
+			double origin = (minPrice + maxPrice) / 2.0;
+			double scale = (maxPrice - minPrice) / 2.0;
+			functions.add(FunctionScore.of(f -> f
+				.gauss(d -> d.numeric(numeric -> numeric
+					.field("basePrice")
+					.placement(p -> p.origin(origin).scale(scale).decay(0.5))))
+				.weight(priceWeight)));
+		}
+
+		return functions;
+	}
+}
@@ -2,26 +2,44 @@ package kr.kro.airbob.search.service;
 
 import static kr.kro.airbob.geo.dto.GoogleGeocodeResponse.Geometry.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.geo.GeoBox;
-import org.springframework.data.elasticsearch.core.geo.GeoPoint;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Service;
 
-import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.LatLonGeoLocation;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.GeoTileGridBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import kr.kro.airbob.cursor.dto.CursorResponse;
+import kr.kro.airbob.cursor.util.CursorDecoder;
+import kr.kro.airbob.cursor.util.CursorEncoder;
+import kr.kro.airbob.domain.wishlist.WishlistMembershipStore;
 import kr.kro.airbob.geo.GeocodingService;
 import kr.kro.airbob.geo.IpCountryService;
 import kr.kro.airbob.geo.ViewportAdjuster;
+import kr.kro.airbob.geo.dto.Coordinate;
 import kr.kro.airbob.geo.dto.GeocodeResult;
-import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.geo.gazetteer.DestinationGazetteer;
+import kr.kro.airbob.search.cache.SearchCacheKey;
+import kr.kro.airbob.search.cache.SearchResultCache;
+import kr.kro.airbob.search.document.AccommodationSearchHit;
 import kr.kro.airbob.search.dto.AccommodationSearchRequest;
 import kr.kro.airbob.search.dto.AccommodationSearchResponse;
 import lombok.RequiredArgsConstructor;
@@ -32,58 +50,310 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AccommodationSearchService {
 
+	private static final String STAGE_VIEWPORT = "viewport";
+	private static final String STAGE_QUERY = "query";
+	private static final String STAGE_WISHLIST = "wishlist";
+	private static final int PRICE_UNIT = 1000;
+	private static final String ACCOMMODATIONS = "accommodations";
+
+	// 클러스터 집계: 지도 줌보다 조금 촘촘한 격자로 묶는다
+	private static final String CLUSTERS = "clusters";
+	private static final String MIN_PRICE = "minPrice";
+	private static final String CENTER = "center";
+	private static final int CLUSTER_PRECISION_OFFSET = 2;
+	private static final int MAX_TILE_PRECISION = 29;
+	private static final int MAX_CLUSTERS = 2000;
+
+	// search_after는 결과마다 유일한 정렬이 필요해 숙소 id를 마지막 기준으로 둔다
+	private static final Sort CURSOR_SORT = Sort.by(
+		Sort.Order.desc("_score"),
+		Sort.Order.asc("basePrice"),
+		Sort.Order.asc("accommodationId"));
+
 	private final GeocodingService geocodingService;
+	private final DestinationGazetteer destinationGazetteer;
 	private final IpCountryService ipCountryService;
 	private final ViewportAdjuster viewportAdjuster;
 	private final ElasticsearchOperations elasticsearchOperations;
-	private final WishlistAccommodationRepository wishlistAccommodationRepository;
+	private final WishlistMembershipStore wishlistMembershipStore;
+	private final SearchStageRunner stageRunner;
+	private final SearchResultCache searchResultCache;
+	private final CursorEncoder cursorEncoder;
+	private final CursorDecoder cursorDecoder;
+	private final AccommodationRanking accommodationRanking;
+
+	@Value("${search.timeout.viewport:PT2S}")
+	private Duration viewportTimeout;
+
+	@Value("${search.timeout.query:PT5S}")
+	private Duration queryTimeout;
+
+	@Value("${search.timeout.wishlist:PT300MS}")
+	private Duration wishlistTimeout;
+
+	@Value("${search.cursor.keep-alive:PT1M}")
+	private Duration cursorKeepAlive;
 
 	public AccommodationSearchResponse.AccommodationSearchInfos searchAccommodations(
 		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, Long memberId, String clientIp,
 		AccommodationSearchRequest.MapBoundsDto mapBounds, Pageable pageable) {
 
+		CompletableFuture<Set<Long>> wishlist = startWishlist(memberId);
+		Viewport searchViewport = prepareSearch(searchRequest, clientIp, mapBounds);
+		if (searchViewport == null) {
+			return createEmptySearchResult(pageable);
+		}
+
+		String cacheKey = SearchCacheKey.of(searchRequest, searchViewport, pageable);
+
+		SearchResultCache.CachedPage page = searchResultCache.get(cacheKey)
+			.orElseGet(() -> searchPage(searchRequest, searchViewport, pageable, cacheKey));
+
+		if (page.listings().isEmpty()) {
+			return createEmptySearchResult(pageable);
+		}
+
+		List<AccommodationSearchResponse.AccommodationSearchInfo> searchInfos = markWishlist(page.listings(), wishlist);
+
+		AccommodationSearchResponse.PageInfo pageInfo = calculatePageInfo(pageable, page.totalHits());
+
+		return AccommodationSearchResponse.AccommodationSearchInfos.builder()
+			.staySearchResultListing(searchInfos)
+			.pageInfo(pageInfo)
+			.build();
+	}
+
+	// search_after 기반 검색: 깊이와 무관하게 페이지 비용이 일정하다 (전체 건수는 세지 않음)
+	public AccommodationSearchResponse.AccommodationCursorSearchInfos searchAccommodationsByCursor(
+		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, Long memberId, String clientIp,
+		AccommodationSearchRequest.MapBoundsDto mapBounds, String cursor, int size) {
+
+		CompletableFuture<Set<Long>> wishlist = startWishlist(memberId);
+		Viewport searchViewport = prepareSearch(searchRequest, clientIp, mapBounds);
+		if (searchViewport == null) {
+			return createEmptyCursorSearchResult();
+		}
+
+		CursorResponse.SearchCursorData cursorData = cursorDecoder.decode(cursor, CursorResponse.SearchCursorData.class);
+
+		// 첫 페이지에서 point-in-time을 열어 이후 페이지가 같은 색인 스냅샷을 보도록 한다
+		// keep-alive는 페이지를 넘길 때마다 연장되므로 짧게 두어, 중간에 떠난 스크롤의 point-in-time이 빨리 정리되게 한다
+		boolean resumingCursor = cursorData != null && cursorData.getPointInTimeId() != null;
+		String pointInTimeId = resumingCursor ? cursorData.getPointInTimeId() : openPointInTime();
+
+		SearchHits<AccommodationSearchHit> searchHits;
+		try {
+			searchHits = searchCursorPage(searchRequest, searchViewport, cursorData, pointInTimeId, size);
+		} catch (RuntimeException e) {
+			if (!resumingCursor) {
+				closePointInTimeQuietly(pointInTimeId);  // 첫 페이지가 실패하면 방금 연 point-in-time을 남기지 않는다
+				throw e;
+			}
+			if (!isPointInTimeMissing(e)) {
+				throw e;
+			}
+			// keep-alive가 지나 사라진 point-in-time이면 새로 열어 같은 search_after 위치부터 이어서 조회한다
+			log.info("만료된 point-in-time 커서, 새로 열어 이어서 조회: {}", e.getMessage());
+			pointInTimeId = openPointInTime();
+			searchHits = searchCursorPage(searchRequest, searchViewport, cursorData, pointInTimeId, size);
+		}
+
+		List<SearchHit<AccommodationSearchHit>> hits = searchHits.getSearchHits();
+		boolean hasNext = hits.size() > size;
+		List<SearchHit<AccommodationSearchHit>> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+		// ES가 point-in-time id를 갱신해 돌려줄 수 있어 응답의 id를 이어서 쓴다
+		String nextPointInTimeId = searchHits.getPointInTimeId() != null
+			? searchHits.getPointInTimeId()
+			: pointInTimeId;
+
+		String nextCursor = null;
+		if (hasNext) {
+			SearchHit<AccommodationSearchHit> last = pageHits.getLast();
+			nextCursor = cursorEncoder.encode(new CursorResponse.SearchCursorData(
+				last.getContent().accommodationId(), null, last.getSortValues(), nextPointInTimeId));
+		} else {
+			closePointInTimeQuietly(nextPointInTimeId);
+		}
+
+		List<AccommodationSearchResponse.AccommodationSearchInfo> listings = pageHits.stream()
+			.map(SearchHit::getContent)
+			.map(doc -> AccommodationSearchResponse.AccommodationSearchInfo.from(doc, false))
+			.toList();
+
+		return AccommodationSearchResponse.AccommodationCursorSearchInfos.builder()
+			.staySearchResultListing(markWishlist(listings, wishlist))
+			.pageInfo(CursorResponse.PageInfo.builder()
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.currentSize(listings.size())
+				.build())
+			.build();
+	}
+
+	// 지도 축소 화면용: 문서 없이 geotile 격자별 숙소 수/최저가/중심 좌표만 집계한다
+	public AccommodationSearchResponse.AccommodationClusterInfos clusterAccommodations(
+		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, String clientIp,
+		AccommodationSearchRequest.MapBoundsDto mapBounds, int zoom) {
+
+		Viewport searchViewport = prepareSearch(searchRequest, clientIp, mapBounds);
+		if (searchViewport == null) {
+			return AccommodationSearchResponse.AccommodationClusterInfos.builder()
+				.clusters(List.of())
+				.totalCount(0)
+				.build();
+		}
+
+		int precision = Math.clamp(zoom + CLUSTER_PRECISION_OFFSET, 0, MAX_TILE_PRECISION);
+
+		NativeQuery query = NativeQuery.builder()
+			.withQuery(buildFilterQuery(searchRequest, searchViewport))
+			.withMaxResults(0)
+			.withTrackTotalHits(true)
+			.withAggregation(CLUSTERS, Aggregation.of(agg -> agg
+				.geotileGrid(grid -> grid.field("location").precision(precision).size(MAX_CLUSTERS))
+				.aggregations(MIN_PRICE, Aggregation.of(min -> min.min(m -> m.field("basePrice"))))
+				.aggregations(CENTER, Aggregation.of(center -> center.geoCentroid(c -> c.field("location"))))))
+			.build();
+
+		SearchHits<AccommodationSearchHit> searchHits = stageRunner.await(STAGE_QUERY,
+			stageRunner.start(STAGE_QUERY, () -> elasticsearchOperations.search(query, AccommodationSearchHit.class)),
+			queryTimeout);
+
+		ElasticsearchAggregations aggregations = (ElasticsearchAggregations)searchHits.getAggregations();
+		List<AccommodationSearchResponse.AccommodationClusterInfo> clusters = aggregations == null
+			? List.of()
+			: aggregations.get(CLUSTERS).aggregation().getAggregate().geotileGrid().buckets().array().stream()
+				.map(this::toClusterInfo)
+				.toList();
+
+		return AccommodationSearchResponse.AccommodationClusterInfos.builder()
+			.clusters(clusters)
+			.totalCount(searchHits.getTotalHits())
+			.build();
+	}
+
+	private AccommodationSearchResponse.AccommodationClusterInfo toClusterInfo(GeoTileGridBucket bucket) {
+		LatLonGeoLocation center = bucket.aggregations().get(CENTER).geoCentroid().location().latlon();
+		double minPrice = bucket.aggregations().get(MIN_PRICE).min().value();
+
+		return AccommodationSearchResponse.AccommodationClusterInfo.builder()
+			.tile(bucket.key())
+			.coordinate(new Coordinate(center.lat(), center.lon()))
+			.count(bucket.docCount())
+			.minPricePerNight(AccommodationSearchResponse.PriceResponse.of((long)minPrice))
+			.build();
+	}
+
+	// 요청 정규화 후 검색 영역을 정한다 (같은 검색이 같은 캐시 키가 되도록 격자에 맞춘 영역, 실패 시 null)
+	private Viewport prepareSearch(AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest,
+		String clientIp, AccommodationSearchRequest.MapBoundsDto mapBounds) {
+
 		// 요청 검증
 		if (!validateSearchRequest(searchRequest)) {
-			return createEmptySearchResult(pageable);
+			return null;
 		}
 
 		// 인원이 유효하지 않으면 기본값 (성인:1)
 		if (!searchRequest.isValidOccupancy()) {
 			searchRequest.setDefaultOccupancy();
 		}
+		searchRequest.roundPriceRange(PRICE_UNIT);
 
-		Viewport viewport = determineViewport(searchRequest, clientIp, mapBounds);
-		if (viewport == null) {
-			return createEmptySearchResult(pageable);
+		// 지오코딩이 늦어지면 빈 결과로 응답
+		Viewport viewport = stageRunner.awaitOrDefault(STAGE_VIEWPORT,
+			stageRunner.start(STAGE_VIEWPORT, () -> determineViewport(searchRequest, clientIp, mapBounds)),
+			viewportTimeout, () -> null);
+
+		return viewport != null ? SearchCacheKey.snap(viewport) : null;
+	}
+
+	// 결과 숙소 id를 기다리지 않도록 회원의 찜 숙소 전체를 지오코딩/검색과 동시에 읽기 시작한다
+	private CompletableFuture<Set<Long>> startWishlist(Long memberId) {
+		if (memberId == null) {
+			return CompletableFuture.completedFuture(Set.of());
 		}
+		return stageRunner.start(STAGE_WISHLIST, () -> wishlistMembershipStore.findAll(memberId));
+	}
+
+	// 위시리스트 조회가 늦거나 실패하면 찜 표시 없이 응답
+	private List<AccommodationSearchResponse.AccommodationSearchInfo> markWishlist(
+		List<AccommodationSearchResponse.AccommodationSearchInfo> listings, CompletableFuture<Set<Long>> wishlist) {
 
-		CriteriaQuery query = buildElasticsearchQuery(searchRequest, viewport, pageable);
+		if (listings.isEmpty()) {
+			return listings;
+		}
 
-		SearchHits<AccommodationDocument> searchHits = elasticsearchOperations.search(query, AccommodationDocument.class);
+		Set<Long> wishlistAccommodationIds = stageRunner.awaitOrDefault(STAGE_WISHLIST, wishlist, wishlistTimeout,
+			Set::of);
 
-		List<AccommodationDocument> documents = searchHits.getSearchHits()
-			.stream()
-			.map(SearchHit::getContent)
+		return listings.stream()
+			.map(info -> info.withWishlist(wishlistAccommodationIds.contains(info.id())))
 			.toList();
+	}
 
-		if (documents.isEmpty()) {
-			return createEmptySearchResult(pageable);
+	private SearchHits<AccommodationSearchHit> searchCursorPage(
+		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, Viewport viewport,
+		CursorResponse.SearchCursorData cursorData, String pointInTimeId, int size) {
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		NativeQuery query = buildElasticsearchQuery(searchRequest, viewport, PageRequest.of(0, size + 1, CURSOR_SORT));
+		query.setPointInTime(new PointInTime(pointInTimeId, cursorKeepAlive));
+		query.setTrackTotalHits(false);
+		if (cursorData != null && cursorData.getSortValues() != null) {
+			query.setSearchAfter(cursorData.getSortValues());
 		}
 
-		List<Long> accommodationIds = documents.stream().map(AccommodationDocument::accommodationId).toList();
+		return stageRunner.await(STAGE_QUERY,
+			stageRunner.start(STAGE_QUERY, () -> elasticsearchOperations.search(query, AccommodationSearchHit.class)),
+			queryTimeout);
+	}
 
-		Set<Long> wishlistAccommodationIds = getWishlistAccommodationIds(accommodationIds, memberId);
+	private String openPointInTime() {
+		return elasticsearchOperations.openPointInTime(IndexCoordinates.of(ACCOMMODATIONS), cursorKeepAlive);
+	}
 
-		List<AccommodationSearchResponse.AccommodationSearchInfo> searchInfos = documents.stream()
-			.map(doc -> AccommodationSearchResponse.AccommodationSearchInfo.from(doc,
-				wishlistAccommodationIds.contains(doc.accommodationId()))).toList();
+	// 만료되었거나 이미 닫힌 point-in-time은 search_context_missing_exception(404)으로 실패한다
+	private static boolean isPointInTimeMissing(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			String message = cause.getMessage();
+			if (message != null
+				&& (message.contains("search_context_missing_exception") || message.contains("No search context found"))) {
+				return true;
+			}
+		}
+		return false;
+	}
 
-		AccommodationSearchResponse.PageInfo pageInfo = calculatePageInfo(pageable, searchHits.getTotalHits());
+	private void closePointInTimeQuietly(String pointInTimeId) {
+		try {
+			elasticsearchOperations.closePointInTime(pointInTimeId);
+		} catch (Exception e) {
+			// 닫지 못해도 keep-alive가 지나면 ES가 정리한다
+			log.warn("point-in-time 종료 실패: {}", e.getMessage());
+		}
+	}
 
-		return AccommodationSearchResponse.AccommodationSearchInfos.builder()
-			.staySearchResultListing(searchInfos)
-			.pageInfo(pageInfo)
-			.build();
+	// 회원과 무관한 검색 결과를 만들어 캐시에 저장
+	private SearchResultCache.CachedPage searchPage(
+		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, Viewport viewport, Pageable pageable,
+		String cacheKey) {
+
+		NativeQuery query = buildElasticsearchQuery(searchRequest, viewport, pageable);
+
+		SearchHits<AccommodationSearchHit> searchHits = stageRunner.await(STAGE_QUERY,
+			stageRunner.start(STAGE_QUERY, () -> elasticsearchOperations.search(query, AccommodationSearchHit.class)),
+			queryTimeout);
+
+		List<AccommodationSearchResponse.AccommodationSearchInfo> listings = searchHits.getSearchHits()
+			.stream()
+			.map(SearchHit::getContent)
+			.map(doc -> AccommodationSearchResponse.AccommodationSearchInfo.from(doc, false))
+			.toList();
+
+		SearchResultCache.CachedPage page = new SearchResultCache.CachedPage(listings, searchHits.getTotalHits());
+		searchResultCache.put(cacheKey, page);
+		return page;
 	}
 
 	private boolean validateSearchRequest(AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest) {
@@ -114,6 +384,17 @@ public class AccommodationSearchService {
 			.build();
 	}
 
+	private AccommodationSearchResponse.AccommodationCursorSearchInfos createEmptyCursorSearchResult() {
+		return AccommodationSearchResponse.AccommodationCursorSearchInfos.builder()
+			.staySearchResultListing(List.of())
+			.pageInfo(CursorResponse.PageInfo.builder()
+				.hasNext(false)
+				.nextCursor(null)
+				.currentSize(0)
+				.build())
+			.build();
+	}
+
 	private AccommodationSearchResponse.PageInfo calculatePageInfo(Pageable pageable, long hitCounts) {
 		int totalPages = (int)Math.ceil((double)hitCounts / pageable.getPageSize());
 		boolean hasNext = pageable.getPageNumber() < totalPages - 1;
@@ -144,7 +425,7 @@ public class AccommodationSearchService {
 
 		// 여행지 입력
 		if (searchRequest.getDestination() != null && !searchRequest.getDestination().trim().isEmpty()) {
-			GeocodeResult geocodeResult = geocodingService.getCoordinates(searchRequest.getDestination());
+			GeocodeResult geocodeResult = geocode(searchRequest.getDestination());
 
 			if (geocodeResult.success() && geocodeResult.viewport() != null) {
 				return viewportAdjuster.adjustViewportIfSmall(geocodeResult.viewport());
@@ -162,7 +443,10 @@ public class AccommodationSearchService {
 			Optional<GeocodeResult> countryResult = ipCountryService.getCountryFromIp(clientIp);
 			if (countryResult.isPresent()) {
 				GeocodeResult result = countryResult.get();
-				GeocodeResult countryGeocode = geocodingService.getCoordinates(result.formattedAddress());
+				if (result.viewport() != null) {
+					return result.viewport(); // 로컬 국가 범위표에서 바로 찾은 경우
+				}
+				GeocodeResult countryGeocode = geocode(result.formattedAddress());
 				if (countryGeocode.success() && countryGeocode.viewport() != null) {
 					return viewportAdjuster.adjustViewportIfSmall(countryGeocode.viewport()); // 국가 단위도 조정 검증을 해야할까?
 				}
@@ -174,6 +458,12 @@ public class AccommodationSearchService {
 		return null; // 최종 fallback인 ip 기반 국가 조회 실패 시 null 반환
 	}
 
+	// 우리 숙소가 있는 지명은 지명 색인에서 바로 찾고, 모르는 곳만 외부 Geocoding API로 조회
+	private GeocodeResult geocode(String destination) {
+		return destinationGazetteer.lookup(destination)
+			.orElseGet(() -> geocodingService.getCoordinates(destination));
+	}
+
 	private Viewport createViewportFromDragArea(AccommodationSearchRequest.MapBoundsDto mapBounds) {
 		Location northeast = new Location(mapBounds.getTopLeftLat(), mapBounds.getBottomRightLng());// 북동
 		Location southwest = new Location(mapBounds.getBottomRightLat(), mapBounds.getTopLeftLng());// 남서
@@ -181,68 +471,87 @@ public class AccommodationSearchService {
 		return new Viewport(northeast, southwest);
 	}
 
-	private CriteriaQuery buildElasticsearchQuery(
+	private NativeQuery buildElasticsearchQuery(
 		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, Viewport viewport, Pageable pageable) {
 
-		Criteria criteria = new Criteria();
+		return NativeQuery.builder()
+			.withQuery(accommodationRanking.rank(buildFilterQuery(searchRequest, viewport), searchRequest))
+			.withPageable(pageable)
+			.withSourceFilter(AccommodationSearchHit.SOURCE_FILTER)
+			.build();
+	}
 
-		GeoPoint topLeft = new GeoPoint(viewport.northeast().lat(), viewport.southwest().lng()); // 북동
-		GeoPoint bottomRight = new GeoPoint(viewport.southwest().lat(), viewport.northeast().lng()); // 남서
+	// 모든 조건은 점수에 영향이 없는 filter 절로 두어 ES가 조건별 결과를 캐싱할 수 있게 한다
+	private Query buildFilterQuery(
+		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest, Viewport viewport) {
 
-		GeoBox boundingBox = new GeoBox(topLeft, bottomRight);
+		BoolQuery.Builder bool = new BoolQuery.Builder();
 
-		// 지리
-		criteria = criteria.and(Criteria.where("location").boundedBy(boundingBox));
+		// 지리 (좌상단 = 북서, 우하단 = 남동)
+		bool.filter(f -> f.geoBoundingBox(g -> g
+			.field("location")
+			.boundingBox(box -> box.tlbr(tlbr -> tlbr
+				.topLeft(point -> point.latlon(ll -> ll
+					.lat(viewport.northeast().lat())
+					.lon(viewport.southwest().lng())))
+				.bottomRight(point -> point.latlon(ll -> ll
+					.lat(viewport.southwest().lat())
+					.lon(viewport.northeast().lng())))))));
 
 		// 가격
 		if (searchRequest.getMinPrice() != null) {
-			criteria = criteria.and(Criteria.where("basePrice").greaterThanEqual(searchRequest.getMinPrice()));
+			bool.filter(f -> f.range(r -> r.number(n -> n
+				.field("basePrice")
+				.gte(searchRequest.getMinPrice().doubleValue()))));
 		}
 		if (searchRequest.getMaxPrice() != null) {
-			criteria = criteria.and(Criteria.where("basePrice").lessThanEqual(searchRequest.getMaxPrice()));
+			bool.filter(f -> f.range(r -> r.number(n -> n
+				.field("basePrice")
+				.lte(searchRequest.getMaxPrice().doubleValue()))));
 		}
 
 		// 타입
 		if (searchRequest.getAccommodationTypes() != null && !searchRequest.getAccommodationTypes().isEmpty()) {
-			criteria = criteria.and(Criteria.where("type").in(searchRequest.getAccommodationTypes()));
+			bool.filter(f -> f.terms(t -> t
+				.field("type")
+				.terms(values -> values.value(toFieldValues(searchRequest.getAccommodationTypes())))));
 		}
 
 		// 편의 시설
 		if (searchRequest.getAmenityTypes() != null && !searchRequest.getAmenityTypes().isEmpty()) {
-			criteria = criteria.and(Criteria.where("amenityTypes").in(searchRequest.getAmenityTypes()));
+			bool.filter(f -> f.terms(t -> t
+				.field("amenityTypes")
+				.terms(values -> values.value(toFieldValues(searchRequest.getAmenityTypes())))));
 		}
 
 		// 반려동물 동반
 		if (searchRequest.hasPet()) {
-			criteria = criteria.and(Criteria.where("petOccupancy").greaterThanEqual(searchRequest.getPetOccupancy()));
+			bool.filter(f -> f.range(r -> r.number(n -> n
+				.field("petOccupancy")
+				.gte(searchRequest.getPetOccupancy().doubleValue()))));
 		}
 
 		// 인원
 		int totalGuests = searchRequest.getTotalGuests();
 		if (totalGuests > 0) {
-			criteria = criteria.and(Criteria.where("maxOccupancy").greaterThanEqual(totalGuests));
+			bool.filter(f -> f.range(r -> r.number(n -> n
+				.field("maxOccupancy")
+				.gte((double)totalGuests))));
 		}
 
-		// 예약 가능 날짜
-		if (searchRequest.getCheckIn() != null && searchRequest.getCheckOut() != null) {
-			criteria = criteria.and(
-				Criteria.where("reservedDates").not().in(
-					searchRequest.getCheckIn().datesUntil(searchRequest.getCheckOut())
-				)
-			);
+		// 예약 가능 날짜: 숙박 박 [checkIn, checkOut - 1일]과 겹치는 예약 구간이 없어야 함 (date_range 교차 조건 하나로 처리)
+		if (searchRequest.getCheckIn() != null && searchRequest.getCheckOut() != null
+			&& searchRequest.getCheckIn().isBefore(searchRequest.getCheckOut())) {
+			bool.mustNot(m -> m.range(r -> r.date(d -> d
+				.field("reservedRanges")
+				.gte(searchRequest.getCheckIn().toString())
+				.lte(searchRequest.getCheckOut().minusDays(1).toString()))));
 		}
 
-		return CriteriaQuery.builder(criteria)
-			.withPageable(pageable)
-			.build();
+		return bool.build()._toQuery();
 	}
 
-	private Set<Long> getWishlistAccommodationIds(List<Long> accommodationIds, Long memberId) {
-		if (memberId == null) {
-			return Set.of();
-		}
-
-		return wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(memberId,
-			accommodationIds);
+	private static List<FieldValue> toFieldValues(List<String> values) {
+		return values.stream().map(FieldValue::of).toList();
 	}
 }
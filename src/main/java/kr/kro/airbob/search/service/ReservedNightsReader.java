@@ -0,0 +1,54 @@
+package kr.kro.airbob.search.service;
+
+import static java.util.stream.Collectors.*;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import kr.kro.airbob.domain.reservation.common.ReservationStatus;
+import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import lombok.RequiredArgsConstructor;
+
+// 색인 문서의 예약 불가 날짜 = 확정된 게스트 예약 + 호스트가 차단한 날짜 (전체 문서 생성과 부분 갱신이 같이 쓴다)
+@Component
+@RequiredArgsConstructor
+public class ReservedNightsReader {
+
+	private final ReservationRepository reservationRepository;
+	private final ReservedDateRepository reservedDateRepository;
+
+	public List<LocalDate> findReservedNights(Long accommodationId) {
+		return findReservedNights(List.of(accommodationId)).getOrDefault(accommodationId, List.of());
+	}
+
+	// 숙소 수와 무관하게 예약, 차단 날짜 두 번의 조회로 가져온다
+	public Map<Long, List<LocalDate>> findReservedNights(Collection<Long> accommodationIds) {
+		LocalDate today = LocalDate.now();
+		Stream<Map.Entry<Long, LocalDate>> reservedNights = reservationRepository
+			.findFutureStaysByAccommodationIdInAndStatus(
+				accommodationIds,
+				ReservationStatus.COMPLETED,
+				today.atStartOfDay())
+			.stream()
+			.flatMap(stay -> stay.checkIn().toLocalDate()
+				.datesUntil(stay.checkOut().toLocalDate())  // 체크아웃 날 제외
+				.map(night -> Map.entry(stay.accommodationId(), night)));
+		Stream<Map.Entry<Long, LocalDate>> blockedNights = reservedDateRepository
+			.findBlockedNightsByAccommodationIdInFrom(accommodationIds, today)
+			.stream()
+			.map(blocked -> Map.entry(blocked.accommodationId(), blocked.reservedAt()));
+
+		return Stream.concat(reservedNights, blockedNights)
+			.collect(groupingBy(
+				Map.Entry::getKey,
+				collectingAndThen(
+					mapping(Map.Entry::getValue, toList()),
+					nights -> nights.stream().distinct().sorted().toList())));
+	}
+}
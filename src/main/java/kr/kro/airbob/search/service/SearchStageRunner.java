@@ -0,0 +1,85 @@
+package kr.kro.airbob.search.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kro.airbob.search.exception.SearchTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+// 검색 단계를 가상 스레드에서 실행하고 단계별 소요 시간(search.stage.duration)과 타임아웃을 기록한다
+@Slf4j
+@Component
+public class SearchStageRunner {
+
+	private final ExecutorService searchExecutor;
+	private final MeterRegistry meterRegistry;
+
+	public SearchStageRunner(@Qualifier("searchExecutor") ExecutorService searchExecutor, MeterRegistry meterRegistry) {
+		this.searchExecutor = searchExecutor;
+		this.meterRegistry = meterRegistry;
+	}
+
+	public <T> CompletableFuture<T> start(String stage, Supplier<T> task) {
+		return CompletableFuture.supplyAsync(() -> {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String outcome = "success";
+			try {
+				return task.get();
+			} catch (RuntimeException e) {
+				outcome = "error";
+				throw e;
+			} finally {
+				// 타임아웃으로 버려진 작업도 끝까지 실행되므로 실제 소요 시간이 기록된다
+				sample.stop(meterRegistry.timer("search.stage.duration", "stage", stage, "outcome", outcome));
+			}
+		}, searchExecutor);
+	}
+
+	// 부가 단계: 시간 초과나 실패 시 fallback 값으로 응답을 이어간다
+	public <T> T awaitOrDefault(String stage, CompletableFuture<T> future, Duration timeout, Supplier<T> fallback) {
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			onTimeout(stage, future, timeout);
+		} catch (ExecutionException e) {
+			log.warn("[SEARCH] {} 단계 실패, 기본값으로 대체", stage, e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return fallback.get();
+	}
+
+	// 필수 단계: 실패는 그대로 전파하고, 시간 초과는 SearchTimeoutException으로 알린다
+	public <T> T await(String stage, CompletableFuture<T> future, Duration timeout) {
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			onTimeout(stage, future, timeout);
+			throw new SearchTimeoutException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SearchTimeoutException();
+		}
+	}
+
+	private void onTimeout(String stage, CompletableFuture<?> future, Duration timeout) {
+		future.cancel(true);
+		meterRegistry.counter("search.stage.timeouts", "stage", stage).increment();
+		log.warn("[SEARCH] {} 단계 시간 초과: timeout={}ms", stage, timeout.toMillis());
+	}
+}
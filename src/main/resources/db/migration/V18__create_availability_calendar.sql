@@ -0,0 +1,17 @@
+-- V18__create_availability_calendar.sql
+-- 숙소별 연도 단위 예약 달력 (1박 = 1bit, 366bit = 46byte)
+
+CREATE TABLE availability_calendar (
+                                       id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                       accommodation_id BIGINT NOT NULL,
+                                       calendar_year INT NOT NULL,
+                                       booked_days VARBINARY(46) NOT NULL,
+                                       created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+                                       updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+                                       CONSTRAINT uk_availability_calendar_accommodation_year UNIQUE (accommodation_id, calendar_year),
+                                       CONSTRAINT fk_availability_calendar_accommodation
+                                           FOREIGN KEY (accommodation_id) REFERENCES accommodation (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_availability_calendar_year
+    ON availability_calendar (calendar_year, id);
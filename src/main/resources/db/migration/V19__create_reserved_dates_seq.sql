@@ -0,0 +1,8 @@
+-- V19__create_reserved_dates_seq.sql
+-- reserved_dates id를 batch insert 가능한 pooled 시퀀스로 전환 (MySQL은 시퀀스가 없어 Hibernate 테이블 시퀀스 사용)
+CREATE TABLE reserved_dates_seq (
+  next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO reserved_dates_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 FROM reserved_dates;
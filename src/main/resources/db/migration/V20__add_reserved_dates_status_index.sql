@@ -0,0 +1,4 @@
+-- V20__add_reserved_dates_status_index.sql
+-- 만료된 PENDING 날짜를 id 순으로 훑는 정리 작업용 인덱스
+CREATE INDEX idx_reserved_dates_status_id
+    ON reserved_dates (status, id);
@@ -0,0 +1,14 @@
+-- V21__create_indexing_outbox_table.sql
+-- 도메인 변경과 같은 트랜잭션에 기록하는 검색 색인 이벤트 (릴레이가 SKIP LOCKED로 가져가 색인 후 삭제)
+CREATE TABLE indexing_outbox (
+                                 id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                 accommodation_id BIGINT NOT NULL,
+                                 event_type VARCHAR(100) NOT NULL,
+                                 event_data TEXT NOT NULL,
+                                 attempts INT NOT NULL DEFAULT 0,
+                                 available_at DATETIME(6) NOT NULL,
+                                 created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_indexing_outbox_available_at_id
+    ON indexing_outbox (available_at, id);
@@ -0,0 +1,5 @@
+-- V22__fix_reserved_dates_seq_seed.sql
+-- pooled 옵티마이저는 next_val을 블록의 끝으로 보고 (next_val - 49)부터 id를 나눠 준다
+-- V19의 MAX(id) + 1 시드는 첫 블록이 기존 id와 겹치므로 MAX(id) + allocationSize(50) 이상으로 올린다
+UPDATE reserved_dates_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM reserved_dates));
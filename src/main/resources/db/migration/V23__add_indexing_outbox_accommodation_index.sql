@@ -0,0 +1,4 @@
+-- V23__add_indexing_outbox_accommodation_index.sql
+-- 릴레이가 숙소별로 먼저 쌓인 행이 남아 있는지 확인할 때 사용
+CREATE INDEX idx_indexing_outbox_accommodation_id_id
+    ON indexing_outbox (accommodation_id, id);
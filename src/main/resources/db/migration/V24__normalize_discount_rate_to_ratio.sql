@@ -0,0 +1,7 @@
+-- V24__normalize_discount_rate_to_ratio.sql
+-- 정률 할인율을 0~1 비율로 통일한다 (퍼센트로 저장된 15 -> 0.15)
+-- 정액 할인은 discount_rate에 금액을 담으므로 제외
+UPDATE discount_policy
+SET discount_rate = discount_rate / 100
+WHERE discount_rate > 1
+  AND (discount_type IS NULL OR discount_type <> 'FIXED_AMOUNT');
@@ -0,0 +1,153 @@
+package kr.kro.airbob.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.config.AsyncConfig.RejectionPolicy;
+
+class AsyncConfigTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private AsyncConfig asyncConfig;
+
+	@BeforeEach
+	void setUp() {
+		asyncConfig = new AsyncConfig(meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executors.forEach(ThreadPoolTaskExecutor::shutdown);
+	}
+
+	@Test
+	@DisplayName("설정한 크기와 스레드 이름으로 작업별 풀을 만들어야 한다.")
+	void boundedThreadPool() {
+		// when
+		ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor)asyncConfig.indexingExecutor(2, 3, 5, false,
+			RejectionPolicy.CALLER_RUNS);
+
+		// then
+		assertThat(executor.getCorePoolSize()).isEqualTo(2);
+		assertThat(executor.getMaxPoolSize()).isEqualTo(3);
+		assertThat(executor.getThreadNamePrefix()).isEqualTo("indexing-");
+		executor.initialize();
+		executors.add(executor);
+		assertThat(executor.getThreadPoolExecutor().getQueue().remainingCapacity()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("가상 스레드를 쓰면 큐 없이 max-size만큼만 동시에 실행해야 한다.")
+	void virtualThreadExecutor() {
+		// when
+		TaskExecutor executor = asyncConfig.eventDrainExecutor(2, 4, 100, true, RejectionPolicy.CALLER_RUNS);
+
+		// then
+		assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+		assertThat(((SimpleAsyncTaskExecutor)executor).getConcurrencyLimit()).isEqualTo(4);
+		assertThat(meterRegistry.find("executor.active").tag("name", "eventDrainExecutor").gauge()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("CALLER_RUNS 풀이 가득 차면 제출한 스레드가 직접 실행하고 거절 횟수를 센다.")
+	void callerRunsWhenSaturated() throws InterruptedException {
+		// given
+		ThreadPoolTaskExecutor executor = saturated(
+			asyncConfig.indexingExecutor(1, 1, 1, false, RejectionPolicy.CALLER_RUNS));
+		Thread[] runner = new Thread[1];
+
+		// when
+		executor.execute(() -> runner[0] = Thread.currentThread());
+
+		// then
+		assertThat(runner[0]).isSameAs(Thread.currentThread());
+		assertThat(rejected("indexingExecutor", RejectionPolicy.CALLER_RUNS)).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("DISCARD_OLDEST 풀이 가득 차면 가장 오래 기다린 작업을 버리고 새 작업을 넣는다.")
+	void discardOldestWhenSaturated() throws InterruptedException {
+		// given
+		CountDownLatch oldest = new CountDownLatch(1);
+		CountDownLatch newest = new CountDownLatch(1);
+		ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor)asyncConfig.notificationExecutor(1, 1, 1, false,
+			RejectionPolicy.DISCARD_OLDEST);
+		executor.initialize();
+		executors.add(executor);
+		executor.execute(this::awaitRelease);
+		executor.execute(oldest::countDown);
+
+		// when
+		executor.execute(newest::countDown);
+		release.countDown();
+
+		// then
+		assertThat(newest.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(oldest.getCount()).isEqualTo(1);
+		assertThat(rejected("notificationExecutor", RejectionPolicy.DISCARD_OLDEST)).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("ABORT 풀이 가득 차면 작업을 거절하고 거절 횟수를 센다.")
+	void abortWhenSaturated() throws InterruptedException {
+		// given
+		ThreadPoolTaskExecutor executor = saturated(
+			asyncConfig.taskExecutor(1, 1, 1, false, RejectionPolicy.ABORT));
+
+		// when & then
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(TaskRejectedException.class);
+		assertThat(rejected("taskExecutor", RejectionPolicy.ABORT)).isEqualTo(1.0);
+	}
+
+	// 스레드 하나는 release까지 붙잡고, 큐 한 칸은 대기 작업으로 채운다
+	private ThreadPoolTaskExecutor saturated(TaskExecutor taskExecutor) throws InterruptedException {
+		ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor)taskExecutor;
+		executor.initialize();
+		executors.add(executor);
+
+		CountDownLatch started = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			awaitRelease();
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.execute(() -> {
+		});
+		return executor;
+	}
+
+	private void awaitRelease() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private double rejected(String name, RejectionPolicy policy) {
+		return meterRegistry.get("executor.rejected")
+			.tag("name", name)
+			.tag("policy", policy.name())
+			.counter()
+			.count();
+	}
+}
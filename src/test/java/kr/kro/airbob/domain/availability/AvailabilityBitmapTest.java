@@ -0,0 +1,47 @@
+package kr.kro.airbob.domain.availability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityBitmapTest {
+
+	@Test
+	@DisplayName("연도를 넘는 숙박 기간은 연도별 구간으로 나뉘어야 한다.")
+	void splitAcrossYears() {
+		// given
+		LocalDate checkIn = LocalDate.of(2025, 12, 30);
+		LocalDate checkOut = LocalDate.of(2026, 1, 2);
+
+		// when
+		List<CalendarSegment> segments = CalendarSegment.split(checkIn, checkOut);
+
+		// then
+		assertThat(segments).containsExactly(
+			new CalendarSegment(2025, 363, 365),
+			new CalendarSegment(2026, 0, 1));
+	}
+
+	@Test
+	@DisplayName("예약한 구간만 예약 상태가 되고, 해제하면 다시 예약 가능해야 한다.")
+	void bookAndRelease() {
+		// given
+		CalendarSegment segment = CalendarSegment.split(
+			LocalDate.of(2025, 6, 20), LocalDate.of(2025, 6, 23)).get(0);
+
+		// when
+		byte[] booked = AvailabilityBitmap.book(AvailabilityBitmap.empty(), segment.fromDay(), segment.toDay());
+
+		// then
+		assertThat(AvailabilityBitmap.anyBooked(booked, segment.fromDay(), segment.toDay())).isTrue();
+		assertThat(AvailabilityBitmap.anyBooked(booked, segment.toDay(), segment.toDay() + 5)).isFalse();
+		assertThat(AvailabilityBitmap.anyBooked(booked, segment.fromDay() - 5, segment.fromDay())).isFalse();
+
+		byte[] released = AvailabilityBitmap.release(booked, segment.fromDay(), segment.toDay());
+		assertThat(AvailabilityBitmap.anyBooked(released, 0, AvailabilityBitmap.DAYS_PER_YEAR)).isFalse();
+	}
+}
@@ -0,0 +1,116 @@
+package kr.kro.airbob.domain.availability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.auth.exception.NotEqualHostException;
+import kr.kro.airbob.domain.availability.dto.HostCalendarRequest;
+import kr.kro.airbob.domain.availability.dto.HostCalendarResponse;
+import kr.kro.airbob.domain.availability.exception.InvalidCalendarBlockException;
+
+@ExtendWith(MockitoExtension.class)
+class HostCalendarServiceTest {
+
+	@Mock
+	private AccommodationRepository accommodationRepository;
+
+	@Mock
+	private HostCalendarWriter hostCalendarWriter;
+
+	@InjectMocks
+	private HostCalendarService hostCalendarService;
+
+	private static final Long HOST_ID = 1L;
+
+	@Test
+	@DisplayName("여러 숙소의 날짜를 숙소 ID 순으로 하나씩 차단하고 차단된 날짜 수를 합산한다.")
+	void blockNights_success() {
+		// given
+		List<HostCalendarRequest.DateRange> ranges = List.of(range(10, 40));
+		HostCalendarRequest.BlockNightsDto request = new HostCalendarRequest.BlockNightsDto(List.of(30L, 10L, 20L), ranges);
+
+		given(accommodationRepository.findIdsByHostIdAndIdIn(eq(HOST_ID), anyCollection()))
+			.willReturn(List.of(10L, 20L, 30L));
+		given(hostCalendarWriter.block(anyLong(), eq(ranges))).willReturn(30, 28, 30);
+
+		// when
+		HostCalendarResponse.BlockResult result = hostCalendarService.blockNights(HOST_ID, request);
+
+		// then
+		assertThat(result).isEqualTo(new HostCalendarResponse.BlockResult(3, 88));
+
+		InOrder inOrder = inOrder(hostCalendarWriter);
+		inOrder.verify(hostCalendarWriter).block(10L, ranges);
+		inOrder.verify(hostCalendarWriter).block(20L, ranges);
+		inOrder.verify(hostCalendarWriter).block(30L, ranges);
+	}
+
+	@Test
+	@DisplayName("호스트 소유가 아닌 숙소가 섞여 있으면 아무것도 차단하지 않고 예외가 발생한다.")
+	void blockNights_notOwner() {
+		// given
+		HostCalendarRequest.BlockNightsDto request =
+			new HostCalendarRequest.BlockNightsDto(List.of(10L, 99L), List.of(range(10, 20)));
+
+		given(accommodationRepository.findIdsByHostIdAndIdIn(eq(HOST_ID), anyCollection()))
+			.willReturn(List.of(10L));
+
+		// when & then
+		assertThatThrownBy(() -> hostCalendarService.blockNights(HOST_ID, request))
+			.isInstanceOf(NotEqualHostException.class);
+		verifyNoInteractions(hostCalendarWriter);
+	}
+
+	@Test
+	@DisplayName("종료일이 시작일보다 빠르거나 지난 날짜를 포함하면 예외가 발생한다.")
+	void blockNights_invalidRange() {
+		// given
+		HostCalendarRequest.BlockNightsDto reversed =
+			new HostCalendarRequest.BlockNightsDto(List.of(10L), List.of(range(20, 10)));
+		HostCalendarRequest.BlockNightsDto past =
+			new HostCalendarRequest.BlockNightsDto(List.of(10L), List.of(range(-3, 5)));
+
+		// when & then
+		assertThatThrownBy(() -> hostCalendarService.blockNights(HOST_ID, reversed))
+			.isInstanceOf(InvalidCalendarBlockException.class);
+		assertThatThrownBy(() -> hostCalendarService.blockNights(HOST_ID, past))
+			.isInstanceOf(InvalidCalendarBlockException.class);
+		verifyNoInteractions(accommodationRepository, hostCalendarWriter);
+	}
+
+	@Test
+	@DisplayName("차단 해제는 해제된 날짜 수만 합산한다.")
+	void unblockNights_success() {
+		// given
+		List<HostCalendarRequest.DateRange> ranges = List.of(range(10, 20));
+		HostCalendarRequest.BlockNightsDto request = new HostCalendarRequest.BlockNightsDto(List.of(10L), ranges);
+
+		given(accommodationRepository.findIdsByHostIdAndIdIn(eq(HOST_ID), anyCollection()))
+			.willReturn(List.of(10L));
+		given(hostCalendarWriter.unblock(10L, ranges)).willReturn(4);
+
+		// when
+		HostCalendarResponse.BlockResult result = hostCalendarService.unblockNights(HOST_ID, request);
+
+		// then
+		assertThat(result).isEqualTo(new HostCalendarResponse.BlockResult(1, 4));
+	}
+
+	private static HostCalendarRequest.DateRange range(int fromDaysAhead, int toDaysAhead) {
+		LocalDate today = LocalDate.now();
+		return new HostCalendarRequest.DateRange(today.plusDays(fromDaysAhead), today.plusDays(toDaysAhead));
+	}
+}
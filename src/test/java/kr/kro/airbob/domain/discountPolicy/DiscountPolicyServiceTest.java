@@ -7,6 +7,7 @@ import kr.kro.airbob.domain.discountPolicy.dto.request.DiscountPolicyUpdateDto;
 import kr.kro.airbob.domain.discountPolicy.dto.response.DiscountPolicyResponseDto;
 import kr.kro.airbob.domain.discountPolicy.entity.DiscountPolicy;
 import kr.kro.airbob.domain.discountPolicy.exception.DiscountNotFoundException;
+import kr.kro.airbob.domain.discountPolicy.exception.InvalidDiscountRateException;
 import kr.kro.airbob.domain.discountPolicy.repository.DiscountPolicyRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,13 +36,16 @@ public class DiscountPolicyServiceTest {
     @Mock
     private DiscountPolicyRepository discountPolicyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("DB에 있는 할인 정책들이 조회되어야 한다.")
     void findValidDiscountPoliciesSuccess() {
         // given
         DiscountPolicyResponseDto dto1 = new DiscountPolicyResponseDto(
                 "테스트 할인1",
-                10.0,
+                0.1,
                 PromotionType.EARLY_BIRD,
                 10000,
                 10000,
@@ -50,7 +55,7 @@ public class DiscountPolicyServiceTest {
 
         DiscountPolicyResponseDto dto2 = new DiscountPolicyResponseDto(
                 "테스트 할인2",
-                20.0,
+                0.2,
                 PromotionType.LONG_STAY,
                 30000,
                 5000,
@@ -75,7 +80,7 @@ public class DiscountPolicyServiceTest {
         // given
         DiscountPolicyCreateDto createDto = DiscountPolicyCreateDto.builder()
                 .name("10% 할인")
-                .discountRate(10.0)
+                .discountRate(0.1)
                 .description("전 상품 10% 할인")
                 .discountType(DiscountType.PERCENTAGE)
                 .promotionType(PromotionType.COUPON)
@@ -96,7 +101,7 @@ public class DiscountPolicyServiceTest {
         DiscountPolicy captured = captor.getValue();
 
         assertThat(captured.getName()).isEqualTo("10% 할인");
-        assertThat(captured.getDiscountRate()).isEqualTo(10.0);
+        assertThat(captured.getDiscountRate()).isEqualTo(0.1);
     }
 
     @Test
@@ -107,7 +112,7 @@ public class DiscountPolicyServiceTest {
 
         DiscountPolicyUpdateDto updateDto = DiscountPolicyUpdateDto.builder()
                 .name("20% 할인")
-                .discountRate(20.0)
+                .discountRate(0.2)
                 .description("새로운 설명")
                 .discountType(DiscountType.PERCENTAGE)
                 .promotionType(PromotionType.COUPON)
@@ -120,7 +125,7 @@ public class DiscountPolicyServiceTest {
 
         DiscountPolicy discountPolicy = DiscountPolicy.builder()
                 .name("10% 할인")
-                .discountRate(10.0)
+                .discountRate(0.1)
                 .description("기존 설명")
                 .discountType(DiscountType.PERCENTAGE)
                 .promotionType(PromotionType.COUPON)
@@ -138,7 +143,7 @@ public class DiscountPolicyServiceTest {
 
         // then
         assertThat(discountPolicy.getName()).isEqualTo("20% 할인");
-        assertThat(discountPolicy.getDiscountRate()).isEqualTo(20.0);
+        assertThat(discountPolicy.getDiscountRate()).isEqualTo(0.2);
         assertThat(discountPolicy.getDescription()).isEqualTo("새로운 설명");
         assertThat(discountPolicy.getDiscountType()).isEqualTo(DiscountType.PERCENTAGE);
         assertThat(discountPolicy.getPromotionType()).isEqualTo(PromotionType.COUPON);
@@ -152,6 +157,46 @@ public class DiscountPolicyServiceTest {
     }
 
 
+    @Test
+    @DisplayName("정률 할인율이 1을 넘으면(퍼센트로 보낸 경우) 저장하지 않고 예외가 발생해야 한다.")
+    void createDiscountPolicyRejectsPercentRate() {
+        // given
+        DiscountPolicyCreateDto createDto = DiscountPolicyCreateDto.builder()
+                .name("15% 할인")
+                .discountRate(15.0)
+                .discountType(DiscountType.PERCENTAGE)
+                .startDate(LocalDateTime.of(2025, 6, 1, 0, 0))
+                .endDate(LocalDateTime.of(2025, 6, 30, 23, 59))
+                .isActive(true)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> discountPolicyService.createDiscountPolicy(createDto))
+                .isInstanceOf(InvalidDiscountRateException.class);
+        verify(discountPolicyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("정액 할인 정책의 금액은 할인율 범위 제한 없이 수정할 수 있어야 한다.")
+    void updateFixedAmountDiscountPolicy() {
+        // given
+        DiscountPolicy discountPolicy = DiscountPolicy.builder()
+                .name("5000원 할인")
+                .discountRate(5000.0)
+                .discountType(DiscountType.FIXED_AMOUNT)
+                .startDate(LocalDateTime.of(2025, 6, 1, 0, 0))
+                .endDate(LocalDateTime.of(2025, 6, 30, 23, 59))
+                .isActive(true)
+                .build();
+        given(discountPolicyRepository.findById(1L)).willReturn(Optional.of(discountPolicy));
+
+        // when
+        discountPolicyService.updateDiscountPolicy(DiscountPolicyUpdateDto.builder().discountRate(7000.0).build(), 1L);
+
+        // then
+        assertThat(discountPolicy.getDiscountRate()).isEqualTo(7000.0);
+    }
+
     @Test
     @DisplayName("존재하지 않는 할인 정책 수정을 수정하면 예외가 발생해야 한다.")
     void updateDiscountPolicyNotFound() {
@@ -159,7 +204,7 @@ public class DiscountPolicyServiceTest {
         Long policyId = 999L;
         DiscountPolicyUpdateDto updateDto = DiscountPolicyUpdateDto.builder()
                 .name("20% 할인")
-                .discountRate(20.0)
+                .discountRate(0.2)
                 .description("새로운 설명")
                 .discountType(DiscountType.PERCENTAGE)
                 .promotionType(PromotionType.COUPON)
@@ -0,0 +1,74 @@
+package kr.kro.airbob.domain.pricePolicy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.kro.airbob.domain.discountPolicy.common.DiscountType;
+import kr.kro.airbob.domain.discountPolicy.common.PromotionType;
+import kr.kro.airbob.domain.pricePolicy.dto.PriceQuoteResponse;
+import kr.kro.airbob.domain.pricePolicy.quote.DiscountRule;
+import kr.kro.airbob.domain.pricePolicy.quote.RateTable;
+
+class RateTableTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+	@Test
+	@DisplayName("겹치는 시즌 요금은 늦게 시작하는 정책이 우선 적용되고, 시즌 밖의 날짜는 기본 요금이 적용되어야 한다.")
+	void quote_resolvesOverlappingSeasons() {
+		// given
+		RateTable rateTable = RateTable.compile(1L, 10000, List.of(
+			pricePolicy(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30), 20000),
+			pricePolicy(2L, LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 12), 15000)), List.of());
+
+		// when
+		PriceQuoteResponse.Quote quote = rateTable.quote(LocalDate.of(2025, 5, 31), LocalDate.of(2025, 6, 14), NOW);
+
+		// then
+		assertThat(quote.nights()).isEqualTo(14);
+		assertThat(quote.nightlyPrices()).extracting(PriceQuoteResponse.NightlyPrice::price)
+			.containsExactly(10000, 20000, 20000, 20000, 20000, 20000, 20000, 20000, 20000, 20000,
+				15000, 15000, 15000, 20000);
+		assertThat(quote.totalPrice()).isEqualTo(10000 + 20000 * 10 + 15000 * 3);
+	}
+
+	@Test
+	@DisplayName("적용 가능한 할인 중 상한이 반영된 가장 큰 할인 하나만 적용되어야 한다.")
+	void quote_appliesBestEligibleDiscountWithCap() {
+		// given
+		DiscountRule longStay = discountRule("장기 숙박", PromotionType.LONG_STAY, 0.3, null);
+		DiscountRule earlyBird = discountRule("얼리버드", PromotionType.EARLY_BIRD, 0.2, 5000);
+		DiscountRule lastMinute = discountRule("막판 특가", PromotionType.LAST_MINUTE, 0.5, null);
+
+		RateTable rateTable = RateTable.compile(1L, 10000, List.of(), List.of(longStay, earlyBird, lastMinute));
+
+		// when (3박, 체크인 한 달 이상 전 → 얼리버드만 대상, 20% = 6000원이지만 상한 5000원)
+		PriceQuoteResponse.Quote quote = rateTable.quote(LocalDate.of(2025, 6, 20), LocalDate.of(2025, 6, 23), NOW);
+
+		// then
+		assertThat(quote.subtotal()).isEqualTo(30000);
+		assertThat(quote.discountAmount()).isEqualTo(5000);
+		assertThat(quote.appliedDiscountName()).isEqualTo("얼리버드");
+		assertThat(quote.totalPrice()).isEqualTo(25000);
+	}
+
+	private static PricePolicy pricePolicy(Long id, LocalDate startDate, LocalDate endDate, int price) {
+		return PricePolicy.builder()
+			.id(id)
+			.startDate(startDate)
+			.endDate(endDate)
+			.price(price)
+			.build();
+	}
+
+	private static DiscountRule discountRule(String name, PromotionType promotionType, double rate, Integer maxApplyPrice) {
+		return new DiscountRule(name, DiscountType.PERCENTAGE, promotionType, rate, null, maxApplyPrice,
+			LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59));
+	}
+}
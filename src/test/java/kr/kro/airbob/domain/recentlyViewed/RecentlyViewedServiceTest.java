@@ -31,7 +31,7 @@ import kr.kro.airbob.domain.accommodation.repository.AccommodationAmenityReposit
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
 import kr.kro.airbob.domain.review.AccommodationReviewSummary;
 import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
-import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
+import kr.kro.airbob.domain.wishlist.WishlistMembershipStore;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("최근 조회 서비스 테스트")
@@ -50,7 +50,7 @@ class RecentlyViewedServiceTest {
 	private AccommodationAmenityRepository accommodationAmenityRepository;
 
 	@Mock
-	private WishlistAccommodationRepository wishlistAccommodationRepository;
+	private WishlistMembershipStore wishlistMembershipStore;
 
 	@Mock
 	private AccommodationReviewSummaryRepository summaryRepository;
@@ -201,7 +201,7 @@ class RecentlyViewedServiceTest {
 				.willReturn(amenities);
 
 			// 위시리스트 데이터
-			given(wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(
+			given(wishlistMembershipStore.findWishlisted(
 				eq(memberId), anyList())).willReturn(Set.of(100L));
 
 			// when
@@ -240,7 +240,7 @@ class RecentlyViewedServiceTest {
 			verify(accommodationRepository, never()).findByIdIn(any());
 			verify(summaryRepository, never()).findByAccommodationIdIn(any());
 			verify(accommodationAmenityRepository, never()).findAccommodationAmenitiesByAccommodationIds(any());
-			verify(wishlistAccommodationRepository, never()).findAccommodationIdsByMemberIdAndAccommodationIds(any(), any());
+			verify(wishlistMembershipStore, never()).findWishlisted(any(), any());
 		}
 
 		@Test
@@ -277,7 +277,7 @@ class RecentlyViewedServiceTest {
 
 			given(accommodationAmenityRepository.findAccommodationAmenitiesByAccommodationIds(anyList()))
 				.willReturn(List.of());
-			given(wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(any(), any()))
+			given(wishlistMembershipStore.findWishlisted(any(), any()))
 				.willReturn(Set.of());
 
 			// when
@@ -333,7 +333,7 @@ class RecentlyViewedServiceTest {
 				.willReturn(amenities);
 
 			// 위시리스트에 포함됨
-			given(wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(
+			given(wishlistMembershipStore.findWishlisted(
 				eq(memberId), anyList())).willReturn(Set.of(100L));
 
 			// when
@@ -22,10 +22,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -43,6 +47,9 @@ public class ReservationControllerTest extends BaseControllerDocumentationTest {
     @MockitoBean
     private ReservationService reservationService;
 
+    @MockitoBean
+    private ReservationIdempotencyManager reservationIdempotencyManager;
+
     @Autowired
     private ReservationController reservationController;
 
@@ -54,7 +61,7 @@ public class ReservationControllerTest extends BaseControllerDocumentationTest {
 
     @BeforeEach
     void setup(RestDocumentationContextProvider restDocumentation) {
-        reservationController = new ReservationController(reservationService);
+        reservationController = new ReservationController(reservationService, reservationIdempotencyManager);
         mockMvc = MockMvcBuilders.standaloneSetup(reservationController)
                 .apply(documentationConfiguration(restDocumentation))
                 .build();
@@ -76,8 +83,8 @@ public class ReservationControllerTest extends BaseControllerDocumentationTest {
                         .build();
 
 
-        given(reservationService.preReserveDates(eq(memberId), eq(accommodationId), any())).willReturn(true);
-        given(reservationService.createReservation(eq(memberId), eq(accommodationId), any())).willReturn(createdReservationId);
+        given(reservationService.confirmReservation(eq(memberId), eq(accommodationId), any()))
+                .willReturn(Optional.of(createdReservationId));
 
         // when & then
         mockMvc.perform(post("/api/reservations/accommodations/{accommodationId}", accommodationId)
@@ -115,15 +122,166 @@ public class ReservationControllerTest extends BaseControllerDocumentationTest {
                         .message("창문 있는 방 부탁드립니다.")
                         .build();
 
-        given(reservationService.preReserveDates(eq(memberId), eq(accommodationId), any()))
-                .willReturn(false); // 예약 불가
+        given(reservationService.confirmReservation(eq(memberId), eq(accommodationId), any()))
+                .willReturn(Optional.empty()); // 예약 불가
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/accommodations/{accommodationId}", accommodationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(requestDto))
+                        .requestAttr("memberId", memberId))
+                .andExpect(status().isBadRequest());
+    }
+
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도하면 예약을 다시 처리하지 않고 처음 생성된 예약 ID를 반환해야 한다.")
+    void createReservation_idempotentRetry() throws Exception {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 1L;
+        Long createdReservationId = 7L;
+
+        ReservationRequestDto.CreateReservationDto requestDto =
+                ReservationRequestDto.CreateReservationDto.builder()
+                        .checkInDate(LocalDate.of(2025, 6, 20))
+                        .checkOutDate(LocalDate.of(2025, 6, 22))
+                        .build();
+
+        given(reservationIdempotencyManager.claim(eq(memberId), eq("retry-key"), anyString()))
+                .willReturn(new ReservationIdempotencyManager.Claim(
+                        ReservationIdempotencyManager.Status.COMPLETED, createdReservationId));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/accommodations/{accommodationId}", accommodationId)
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(requestDto))
+                        .requestAttr("memberId", memberId))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(createdReservationId));
+
+        verify(reservationService, never()).confirmReservation(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key의 처음 요청이 처리 중이면 status code 409를 반환해야 한다.")
+    void createReservation_idempotencyKeyInProgress() throws Exception {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 1L;
+
+        ReservationRequestDto.CreateReservationDto requestDto =
+                ReservationRequestDto.CreateReservationDto.builder()
+                        .checkInDate(LocalDate.of(2025, 6, 20))
+                        .checkOutDate(LocalDate.of(2025, 6, 22))
+                        .build();
+
+        given(reservationIdempotencyManager.claim(eq(memberId), eq("retry-key"), anyString()))
+                .willReturn(new ReservationIdempotencyManager.Claim(
+                        ReservationIdempotencyManager.Status.IN_PROGRESS, null));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/accommodations/{accommodationId}", accommodationId)
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(requestDto))
+                        .requestAttr("memberId", memberId))
+                .andExpect(status().isConflict());
+
+        verify(reservationService, never()).confirmReservation(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key로 처음 요청한 예약이 성공하면 결과를 기록해야 한다.")
+    void createReservation_recordsIdempotentResult() throws Exception {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 1L;
+        Long createdReservationId = 7L;
+
+        ReservationRequestDto.CreateReservationDto requestDto =
+                ReservationRequestDto.CreateReservationDto.builder()
+                        .checkInDate(LocalDate.of(2025, 6, 20))
+                        .checkOutDate(LocalDate.of(2025, 6, 22))
+                        .build();
+
+        given(reservationIdempotencyManager.claim(eq(memberId), eq("first-key"), anyString()))
+                .willReturn(new ReservationIdempotencyManager.Claim(
+                        ReservationIdempotencyManager.Status.ACQUIRED, null));
+        given(reservationService.confirmReservation(eq(memberId), eq(accommodationId), any()))
+                .willReturn(Optional.of(createdReservationId));
 
         // when & then
         mockMvc.perform(post("/api/reservations/accommodations/{accommodationId}", accommodationId)
+                        .header("Idempotency-Key", "first-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(requestDto))
+                        .requestAttr("memberId", memberId))
+                .andExpect(status().isCreated());
+
+        verify(reservationIdempotencyManager).complete(memberId, "first-key",
+                ReservationIdempotencyManager.fingerprint(memberId, accommodationId, requestDto), createdReservationId);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key로 처음 요청한 예약이 실패하면 이 요청의 처리 중 표시만 지워야 한다.")
+    void createReservation_releasesIdempotencyKeyOnFailure() throws Exception {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 1L;
+
+        ReservationRequestDto.CreateReservationDto requestDto =
+                ReservationRequestDto.CreateReservationDto.builder()
+                        .checkInDate(LocalDate.of(2025, 6, 20))
+                        .checkOutDate(LocalDate.of(2025, 6, 22))
+                        .build();
+
+        given(reservationIdempotencyManager.claim(eq(memberId), eq("failed-key"), anyString()))
+                .willReturn(new ReservationIdempotencyManager.Claim(
+                        ReservationIdempotencyManager.Status.ACQUIRED, null));
+        given(reservationService.confirmReservation(eq(memberId), eq(accommodationId), any()))
+                .willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/accommodations/{accommodationId}", accommodationId)
+                        .header("Idempotency-Key", "failed-key")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(asJsonString(requestDto))
                         .requestAttr("memberId", memberId))
                 .andExpect(status().isBadRequest());
+
+        verify(reservationIdempotencyManager).release(memberId, "failed-key",
+                ReservationIdempotencyManager.fingerprint(memberId, accommodationId, requestDto));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key를 다른 예약 요청에 다시 쓰면 status code 422를 반환해야 한다.")
+    void createReservation_idempotencyKeyReusedForDifferentRequest() throws Exception {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 2L;
+
+        ReservationRequestDto.CreateReservationDto requestDto =
+                ReservationRequestDto.CreateReservationDto.builder()
+                        .checkInDate(LocalDate.of(2025, 7, 1))
+                        .checkOutDate(LocalDate.of(2025, 7, 3))
+                        .build();
+
+        given(reservationIdempotencyManager.claim(memberId, "reused-key",
+                ReservationIdempotencyManager.fingerprint(memberId, accommodationId, requestDto)))
+                .willReturn(new ReservationIdempotencyManager.Claim(
+                        ReservationIdempotencyManager.Status.MISMATCH, null));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/accommodations/{accommodationId}", accommodationId)
+                        .header("Idempotency-Key", "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(requestDto))
+                        .requestAttr("memberId", memberId))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(reservationService, never()).confirmReservation(any(), any(), any());
     }
 
 
@@ -0,0 +1,77 @@
+package kr.kro.airbob.domain.reservation;
+
+import kr.kro.airbob.domain.availability.AvailabilityCalendarService;
+import kr.kro.airbob.domain.reservation.dto.ExpiredHold;
+import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import kr.kro.airbob.search.event.AccommodationIndexingEvents;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationHoldExpirerTest {
+
+    @Mock
+    private ReservedDateRepository reservedDateRepository;
+
+    @Mock
+    private AvailabilityCalendarService availabilityCalendarService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReservationHoldExpirer reservationHoldExpirer;
+
+    @Test
+    @DisplayName("만료된 임시 예약을 정리하면 숙소마다 달력을 다시 계산하고 색인 이벤트를 한 번만 발행해야 한다.")
+    void expire_coalescesEventsPerAccommodation() {
+        // given
+        List<ExpiredHold> holds = List.of(
+                new ExpiredHold(1L, 10L, LocalDate.of(2025, 12, 31)),
+                new ExpiredHold(2L, 10L, LocalDate.of(2026, 1, 1)),
+                new ExpiredHold(3L, 20L, LocalDate.of(2025, 6, 20)));
+
+        given(reservedDateRepository.deletePendingByIds(List.of(1L, 2L, 3L))).willReturn(3);
+
+        // when
+        int deleted = reservationHoldExpirer.expire(holds);
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        verify(availabilityCalendarService).rebuild(10L, 2025);
+        verify(availabilityCalendarService).rebuild(10L, 2026);
+        verify(availabilityCalendarService).rebuild(20L, 2025);
+        verify(eventPublisher).publishEvent(new AccommodationIndexingEvents.ReservationChangedEvent(10L));
+        verify(eventPublisher).publishEvent(new AccommodationIndexingEvents.ReservationChangedEvent(20L));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("그 사이 모두 확정되어 지운 날짜가 없으면 달력과 색인을 건드리지 않아야 한다.")
+    void expire_nothingDeleted() {
+        // given
+        given(reservedDateRepository.deletePendingByIds(anyList())).willReturn(0);
+
+        // when
+        int deleted = reservationHoldExpirer.expire(List.of(new ExpiredHold(1L, 10L, LocalDate.of(2025, 6, 20))));
+
+        // then
+        assertThat(deleted).isZero();
+        verify(availabilityCalendarService, never()).rebuild(any(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+}
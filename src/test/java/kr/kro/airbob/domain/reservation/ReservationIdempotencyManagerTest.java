@@ -0,0 +1,73 @@
+package kr.kro.airbob.domain.reservation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIdempotencyManagerTest {
+
+    private static final String KEY = "idempotency:reservation:1:retry-key";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @InjectMocks
+    private ReservationIdempotencyManager reservationIdempotencyManager;
+
+    @Test
+    @DisplayName("같은 지문으로 완료된 기록이 있으면 처음 예약 ID를 돌려줘야 한다.")
+    void claim_completed() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), anyString(), anyString()))
+                .willReturn("fingerprint|7");
+
+        // when
+        ReservationIdempotencyManager.Claim claim = reservationIdempotencyManager.claim(1L, "retry-key", "fingerprint");
+
+        // then
+        assertThat(claim.status()).isEqualTo(ReservationIdempotencyManager.Status.COMPLETED);
+        assertThat(claim.reservationId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("지문 없이 저장된 값은 같은 요청인지 알 수 없으므로 다른 요청으로 봐야 한다.")
+    void claim_valueWithoutFingerprint() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), anyString(), anyString()))
+                .willReturn("7");
+
+        // when
+        ReservationIdempotencyManager.Claim claim = reservationIdempotencyManager.claim(1L, "retry-key", "fingerprint");
+
+        // then
+        assertThat(claim.status()).isEqualTo(ReservationIdempotencyManager.Status.MISMATCH);
+        assertThat(claim.reservationId()).isNull();
+    }
+
+    @Test
+    @DisplayName("기록 해제는 이 요청의 처리 중 표시와 같을 때만 지우는 스크립트로 처리해야 한다.")
+    void release_onlyOwnInProgressMarker() {
+        // when
+        reservationIdempotencyManager.release(1L, "retry-key", "fingerprint");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("fingerprint|IN_PROGRESS"));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+}
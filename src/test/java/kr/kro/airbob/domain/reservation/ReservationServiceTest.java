@@ -3,27 +3,32 @@ package kr.kro.airbob.domain.reservation;
 import kr.kro.airbob.domain.accommodation.entity.Accommodation;
 import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
 import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.availability.AvailabilityCalendarService;
 import kr.kro.airbob.domain.member.Member;
 import kr.kro.airbob.domain.member.MemberRepository;
 import kr.kro.airbob.domain.member.exception.MemberNotFoundException;
+import kr.kro.airbob.domain.pricePolicy.PriceQuoteService;
+import kr.kro.airbob.domain.pricePolicy.dto.PriceQuoteResponse;
 import kr.kro.airbob.domain.reservation.common.ReservationStatus;
 import kr.kro.airbob.domain.reservation.dto.ReservationRequestDto;
 import kr.kro.airbob.domain.reservation.entity.Reservation;
 import kr.kro.airbob.domain.reservation.entity.ReservedDate;
+import kr.kro.airbob.domain.reservation.exception.AlreadyReservedException;
 import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
 import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import kr.kro.airbob.search.event.AccommodationIndexingEvents.ReservationChangedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,13 +37,20 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class ReservationServiceTest {
 
     @Mock
-    private RedissonClient redissonClient;
+    private ReservationHoldManager reservationHoldManager;
+
+    @Mock
+    private AvailabilityCalendarService availabilityCalendarService;
+
+    @Mock
+    private PriceQuoteService priceQuoteService;
 
     @Mock
     private MemberRepository memberRepository;
@@ -52,6 +64,9 @@ public class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -70,16 +85,9 @@ public class ReservationServiceTest {
                         .checkOutDate(checkOut)
                         .build();
 
-        RBucket lockBucket = mock(RBucket.class);
-
-        // 첫번째 락은 잡히고, 두번째 락 잡기 실패 시뮬레이션
-        // redissonClient.getBucket() 호출 시 항상 같은 mock 리턴
-        given(redissonClient.getBucket(anyString())).willReturn(lockBucket);
-
-        // 첫 번째 호출 true, 두 번째 호출 false (락 획득 실패)
-        given(lockBucket.setIfAbsent(anyString(), any(Duration.class)))
-                .willReturn(true)
-                .willReturn(false);
+        // 숙박 기간 중 하나의 날짜라도 이미 선점되어 있어 전체 선점 실패
+        given(reservationHoldManager.issueHoldToken(userId)).willReturn("1:token");
+        given(reservationHoldManager.hold(accommodationId, checkIn, checkOut, "1:token")).willReturn(false);
 
         // when
         boolean result = reservationService.preReserveDates(userId, accommodationId, dto);
@@ -103,22 +111,18 @@ public class ReservationServiceTest {
                         .checkOutDate(checkOut)
                         .build();
 
-        RBucket lockBucket = mock(RBucket.class);
-
-        given(redissonClient.getBucket(anyString())).willReturn(lockBucket);
-        given(lockBucket.setIfAbsent(anyString(), any(Duration.class)))
-                .willReturn(true)
-                .willReturn(true);
+        given(reservationHoldManager.issueHoldToken(userId)).willReturn("1:token");
+        given(reservationHoldManager.hold(accommodationId, checkIn, checkOut, "1:token")).willReturn(true);
 
         // 이미 예약된 날짜가 존재하는 상황
-        given(reservedDateRepository.findReservedDates(accommodationId, checkIn, checkOut))
-                .willReturn(List.of(mock(ReservedDate.class)));
+        given(availabilityCalendarService.isAvailable(accommodationId, checkIn, checkOut)).willReturn(false);
 
         // when
         boolean result = reservationService.preReserveDates(userId, accommodationId, dto);
 
         // then
         assertThat(result).isFalse();
+        verify(reservationHoldManager).release(accommodationId, checkIn, checkOut, "1:token");
     }
 
     @Test
@@ -137,23 +141,21 @@ public class ReservationServiceTest {
                         .build();
 
         Accommodation accommodation = mock(Accommodation.class);
-        RBucket lockBucket = mock(RBucket.class);
 
         given(accommodationRepository.findById(accommodationId)).willReturn(Optional.of(accommodation));
 
-        given(redissonClient.getBucket(anyString())).willReturn(lockBucket);
-        given(lockBucket.setIfAbsent(anyString(), any(Duration.class)))
-                .willReturn(true)
-                .willReturn(true);
+        given(reservationHoldManager.issueHoldToken(userId)).willReturn("1:token");
+        given(reservationHoldManager.hold(accommodationId, checkIn, checkOut, "1:token")).willReturn(true);
 
-        // DB에 예약된 날짜 없음
-        given(reservedDateRepository.findReservedDates(accommodationId, checkIn, checkOut)).willReturn(Collections.emptyList());
+        // 예약 달력에 예약된 날짜 없음
+        given(availabilityCalendarService.isAvailable(accommodationId, checkIn, checkOut)).willReturn(true);
 
         // when
         boolean result = reservationService.preReserveDates(userId, accommodationId, dto);
 
         // then
         assertThat(result).isTrue();
+        verify(availabilityCalendarService).markBooked(accommodationId, checkIn, checkOut);
     }
 
     @Test
@@ -176,8 +178,8 @@ public class ReservationServiceTest {
         Accommodation accommodation = mock(Accommodation.class);
         Reservation reservation = mock(Reservation.class);
 
-        // stub basePrice와 reservation ID
-        given(accommodation.getBasePrice()).willReturn(10000);
+        // stub 견적 금액과 reservation ID
+        given(priceQuoteService.quoteForPayment(accommodationId, checkIn, checkOut)).willReturn(quoteOf(20000));
         given(reservation.getId()).willReturn(reservationId);
 
         // repository stub 설정
@@ -185,29 +187,155 @@ public class ReservationServiceTest {
         given(accommodationRepository.findById(accommodationId)).willReturn(Optional.of(accommodation));
         given(reservationRepository.save(any())).willReturn(reservation);
 
-        // 예약된 날짜(PENDING) 상태 미리 존재
-        ReservedDate reservedDate1 = spy(ReservedDate.builder()
-                .reservedAt(checkIn)
-                .status(ReservationStatus.PENDING)
-                .accommodation(accommodation)
-                .build());
-
-        ReservedDate reservedDate2 = spy(ReservedDate.builder()
-                .reservedAt(checkIn.plusDays(1))
-                .status(ReservationStatus.PENDING)
-                .accommodation(accommodation)
-                .build());
-
-        given(reservedDateRepository.findReservedDates(accommodationId, checkIn, checkOut))
-                .willReturn(List.of(reservedDate1, reservedDate2));
+        // 임시 예약된 날짜(PENDING) 2박이 한 번의 UPDATE로 확정됨
+        given(reservedDateRepository.completePendingDates(accommodationId, checkIn, checkOut)).willReturn(2);
 
         // when
         Long result = reservationService.createReservation(memberId, accommodationId, dto);
 
         // then
         assertThat(result).isEqualTo(reservationId);
-        assertThat(reservedDate1.getStatus()).isEqualTo(ReservationStatus.COMPLETED);
-        assertThat(reservedDate2.getStatus()).isEqualTo(ReservationStatus.COMPLETED);
+        verify(reservedDateRepository, never()).findReservedDates(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("임시 예약된 날짜가 만료되어 일부만 확정되면 예약이 실패해야 한다.")
+    void createReservation_shouldThrowException_whenPendingDatesExpired() {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 1L;
+
+        LocalDate checkIn = LocalDate.of(2025, 6, 20);
+        LocalDate checkOut = LocalDate.of(2025, 6, 22); // 2박
+
+        ReservationRequestDto.CreateReservationDto dto = ReservationRequestDto.CreateReservationDto.builder()
+                .checkInDate(checkIn)
+                .checkOutDate(checkOut)
+                .build();
+
+        Accommodation accommodation = mock(Accommodation.class);
+        given(priceQuoteService.quoteForPayment(accommodationId, checkIn, checkOut)).willReturn(quoteOf(20000));
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(mock(Member.class)));
+        given(accommodationRepository.findById(accommodationId)).willReturn(Optional.of(accommodation));
+        given(reservationRepository.save(any())).willReturn(mock(Reservation.class));
+        given(reservedDateRepository.completePendingDates(accommodationId, checkIn, checkOut)).willReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(memberId, accommodationId, dto))
+                .isInstanceOf(AlreadyReservedException.class);
+    }
+
+    @Test
+    @DisplayName("한 번에 예약을 확정하면 숙박 날짜가 COMPLETED 상태로 저장되어야 한다.")
+    void confirmReservation_success() {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 1L;
+        Long reservationId = 1L;
+
+        LocalDate checkIn = LocalDate.of(2025, 6, 20);
+        LocalDate checkOut = LocalDate.of(2025, 6, 23); // 3박
+
+        ReservationRequestDto.CreateReservationDto dto = ReservationRequestDto.CreateReservationDto.builder()
+                .checkInDate(checkIn)
+                .checkOutDate(checkOut)
+                .build();
+
+        Accommodation accommodation = mock(Accommodation.class);
+        Reservation reservation = mock(Reservation.class);
+        given(priceQuoteService.quoteForPayment(accommodationId, checkIn, checkOut)).willReturn(quoteOf(20000));
+        given(reservation.getId()).willReturn(reservationId);
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(mock(Member.class)));
+        given(accommodationRepository.findById(accommodationId)).willReturn(Optional.of(accommodation));
+        given(reservationHoldManager.issueHoldToken(memberId)).willReturn("1:token");
+        given(reservationHoldManager.hold(accommodationId, checkIn, checkOut, "1:token")).willReturn(true);
+        given(availabilityCalendarService.isAvailable(accommodationId, checkIn, checkOut)).willReturn(true);
+        given(reservationRepository.save(any())).willReturn(reservation);
+
+        // when
+        Optional<Long> result = reservationService.confirmReservation(memberId, accommodationId, dto);
+
+        // then
+        assertThat(result).contains(reservationId);
+
+        ArgumentCaptor<List<ReservedDate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservedDateRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .hasSize(3)
+                .allMatch(reservedDate -> reservedDate.getStatus() == ReservationStatus.COMPLETED);
+        verify(reservedDateRepository, never()).completePendingDates(any(), any(), any());
+        verify(eventPublisher).publishEvent(new ReservationChangedEvent(accommodationId,
+                List.of(LocalDate.of(2025, 6, 20), LocalDate.of(2025, 6, 21), LocalDate.of(2025, 6, 22)), List.of()));
+    }
+
+    @Test
+    @DisplayName("선점 뒤 예약 처리 중 예외가 발생해도 트랜잭션이 끝나면 선점을 해제해야 한다.")
+    void confirmReservation_releaseHoldOnRollback() {
+        // given
+        Long memberId = 1L;
+        Long accommodationId = 1L;
+
+        LocalDate checkIn = LocalDate.of(2025, 6, 20);
+        LocalDate checkOut = LocalDate.of(2025, 6, 23);
+
+        ReservationRequestDto.CreateReservationDto dto = ReservationRequestDto.CreateReservationDto.builder()
+                .checkInDate(checkIn)
+                .checkOutDate(checkOut)
+                .build();
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(mock(Member.class)));
+        given(accommodationRepository.findById(accommodationId)).willReturn(Optional.of(mock(Accommodation.class)));
+        given(reservationHoldManager.issueHoldToken(memberId)).willReturn("1:token");
+        given(reservationHoldManager.hold(accommodationId, checkIn, checkOut, "1:token")).willReturn(true);
+        given(availabilityCalendarService.isAvailable(accommodationId, checkIn, checkOut)).willReturn(true);
+        willThrow(new AlreadyReservedException())
+                .given(availabilityCalendarService).markBooked(accommodationId, checkIn, checkOut);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            assertThatThrownBy(() -> reservationService.confirmReservation(memberId, accommodationId, dto))
+                    .isInstanceOf(AlreadyReservedException.class);
+            verify(reservationHoldManager, never()).release(any(), any(), any(), any());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            verify(reservationHoldManager).release(accommodationId, checkIn, checkOut, "1:token");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("예약을 취소하면 숙박 날짜를 범위 삭제하고 삭제된 날짜만 색인 이벤트로 발행해야 한다.")
+    void cancelReservation_shouldPublishRemovedDatesDelta() {
+        // given
+        Long reservationId = 1L;
+        Long accommodationId = 1L;
+
+        LocalDate checkIn = LocalDate.of(2025, 6, 20);
+        LocalDate checkOut = LocalDate.of(2025, 6, 22); // 2박
+
+        Accommodation accommodation = mock(Accommodation.class);
+        Reservation reservation = mock(Reservation.class);
+        given(accommodation.getId()).willReturn(accommodationId);
+        given(reservation.getAccommodation()).willReturn(accommodation);
+        given(reservation.getCheckIn()).willReturn(checkIn.atTime(15, 0));
+        given(reservation.getCheckOut()).willReturn(checkOut.atTime(11, 0));
+        given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+
+        // when
+        reservationService.cancelReservation(reservationId);
+
+        // then
+        verify(reservedDateRepository).deleteReservedDates(accommodationId, checkIn, checkOut);
+        verify(availabilityCalendarService).markAvailable(accommodationId, checkIn, checkOut);
+        verify(eventPublisher).publishEvent(new ReservationChangedEvent(accommodationId,
+                List.of(), List.of(LocalDate.of(2025, 6, 20), LocalDate.of(2025, 6, 21))));
     }
 
 
@@ -250,6 +378,10 @@ public class ReservationServiceTest {
                 .hasMessage("존재하지 않는 숙소입니다.");
     }
 
-
-
+    private static PriceQuoteResponse.Quote quoteOf(long totalPrice) {
+        return PriceQuoteResponse.Quote.builder()
+                .subtotal(totalPrice)
+                .totalPrice(totalPrice)
+                .build();
+    }
 }
@@ -0,0 +1,289 @@
+package kr.kro.airbob.domain.reservation;
+
+import kr.kro.airbob.domain.accommodation.common.AccommodationType;
+import kr.kro.airbob.domain.accommodation.entity.Accommodation;
+import kr.kro.airbob.domain.accommodation.entity.Address;
+import kr.kro.airbob.domain.accommodation.entity.OccupancyPolicy;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.accommodation.repository.AddressRepository;
+import kr.kro.airbob.domain.accommodation.repository.OccupancyPolicyRepository;
+import kr.kro.airbob.domain.member.Member;
+import kr.kro.airbob.domain.member.MemberRepository;
+import kr.kro.airbob.domain.member.common.MemberRole;
+import kr.kro.airbob.domain.reservation.dto.ReservationRequestDto;
+import kr.kro.airbob.domain.reservation.exception.AlreadyReservedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 예약 API가 쓰는 쓰기 경로(confirmReservation: 선점 → 확정 한 트랜잭션)의 처리량/지연 측정. ./gradlew reservationBenchmark 로 실행
+@Tag("benchmark")
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationThroughputBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_SCENARIO = 2000;
+    private static final int MEMBER_COUNT = 200;
+    private static final LocalDate FIRST_NIGHT = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private OccupancyPolicyRepository occupancyPolicyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("testdb")
+            .withUsername("user")
+            .withPassword("pass");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.2.0")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+
+        registry.add("spring.flyway.url", mysql::getJdbcUrl);
+        registry.add("spring.flyway.user", mysql::getUsername);
+        registry.add("spring.flyway.password", mysql::getPassword);
+
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Test
+    @DisplayName("예약 쓰기 처리량 벤치마크: 인기 숙소 경합 / 다수 숙소 분산 / 장기 숙박")
+    void reservationThroughput() throws Exception {
+        List<Long> memberIds = createMembers();
+
+        // 시나리오마다 별도 숙소를 써서 앞선 시나리오의 예약이 결과에 섞이지 않게 한다
+        List<ScenarioResult> results = List.of(
+                run("hot-accommodation", memberIds, createAccommodations(memberIds.get(0), 1), 1, 3, 60),
+                run("many-accommodation-spread", memberIds, createAccommodations(memberIds.get(0), 100), 1, 3, 60),
+                run("long-stay", memberIds, createAccommodations(memberIds.get(0), 20), 14, 28, 180));
+
+        writeReport(results);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private ScenarioResult run(String name, List<Long> memberIds, List<Long> accommodationIds,
+                               int minNights, int maxNights, int windowDays) throws InterruptedException {
+        long[] latencies = new long[ATTEMPTS_PER_SCENARIO];
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ATTEMPTS_PER_SCENARIO);
+
+        for (int i = 0; i < ATTEMPTS_PER_SCENARIO; i++) {
+            executorService.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Long memberId = memberIds.get(random.nextInt(memberIds.size()));
+                Long accommodationId = accommodationIds.get(random.nextInt(accommodationIds.size()));
+                LocalDate checkIn = FIRST_NIGHT.plusDays(random.nextInt(windowDays));
+                LocalDate checkOut = checkIn.plusDays(random.nextInt(minNights, maxNights + 1));
+
+                ReservationRequestDto.CreateReservationDto dto = ReservationRequestDto.CreateReservationDto.builder()
+                        .checkInDate(checkIn)
+                        .checkOutDate(checkOut)
+                        .message("benchmark")
+                        .build();
+
+                try {
+                    start.await();
+                    long startedAt = System.nanoTime();
+                    try {
+                        if (reservationService.confirmReservation(memberId, accommodationId, dto).isPresent()) {
+                            booked.incrementAndGet();
+                        } else {
+                            rejected.incrementAndGet();
+                        }
+                    } catch (AlreadyReservedException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[sequence.getAndIncrement()] = System.nanoTime() - startedAt;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        return new ScenarioResult(
+                name,
+                THREADS,
+                accommodationIds.size(),
+                minNights,
+                maxNights,
+                ATTEMPTS_PER_SCENARIO,
+                booked.get(),
+                rejected.get(),
+                errors.get(),
+                elapsedNanos / 1_000_000,
+                booked.get() / elapsedSeconds,
+                ATTEMPTS_PER_SCENARIO / elapsedSeconds,
+                percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99),
+                percentileMillis(latencies, 1.0));
+    }
+
+    private void writeReport(List<ScenarioResult> results) throws IOException {
+        Path reportDir = Path.of(System.getProperty("benchmark.report.dir", "build/reports/benchmark"));
+        Files.createDirectories(reportDir);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", "reservation-throughput");
+        report.put("generated_at", Instant.now().toString());
+        report.put("java_version", System.getProperty("java.version"));
+        report.put("available_processors", Runtime.getRuntime().availableProcessors());
+        report.put("scenarios", results);
+
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("reservation-throughput.json").toFile(), report);
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private List<Long> createMembers() {
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 1; i <= MEMBER_COUNT; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .email("bench" + i + "@test.com")
+                    .password("hashed-password")
+                    .nickname("벤치" + i)
+                    .role(MemberRole.MEMBER)
+                    .thumbnailImageUrl("https://example.com/profile" + i + ".jpg")
+                    .build());
+            memberIds.add(member.getId());
+        }
+        return memberIds;
+    }
+
+    private List<Long> createAccommodations(Long hostId, int count) {
+        Member host = memberRepository.findById(hostId).orElseThrow();
+        List<Long> accommodationIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Address address = addressRepository.save(Address.builder()
+                    .country("대한민국")
+                    .city("서울특별시")
+                    .district("종로구")
+                    .street("세종대로")
+                    .detail(i + "호")
+                    .postalCode(1536)
+                    .latitude(37.5665)
+                    .longitude(126.9780)
+                    .build());
+
+            OccupancyPolicy policy = occupancyPolicyRepository.save(OccupancyPolicy.builder()
+                    .maxOccupancy(4)
+                    .adultOccupancy(2)
+                    .childOccupancy(1)
+                    .infantOccupancy(1)
+                    .petOccupancy(0)
+                    .build());
+
+            Accommodation accommodation = accommodationRepository.save(Accommodation.builder()
+                    .name("벤치마크 숙소 " + i)
+                    .description("벤치마크용 숙소입니다")
+                    .basePrice(10000)
+                    .thumbnailUrl("https://example.com/thumb.jpg")
+                    .type(AccommodationType.APARTMENT)
+                    .address(address)
+                    .occupancyPolicy(policy)
+                    .member(host)
+                    .build());
+            accommodationIds.add(accommodation.getId());
+        }
+        return accommodationIds;
+    }
+
+    record ScenarioResult(
+            String scenario,
+            int threads,
+            int accommodations,
+            int minNights,
+            int maxNights,
+            int attempts,
+            int booked,
+            int rejected,
+            int errors,
+            long durationMs,
+            double bookingsPerSec,
+            double attemptsPerSec,
+            double p50Ms,
+            double p99Ms,
+            double maxMs
+    ) {
+    }
+}
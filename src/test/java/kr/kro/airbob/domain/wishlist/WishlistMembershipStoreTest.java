@@ -0,0 +1,178 @@
+package kr.kro.airbob.domain.wishlist;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import kr.kro.airbob.domain.wishlist.repository.WishlistAccommodationRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("위시리스트 찜 집합 테스트")
+class WishlistMembershipStoreTest {
+
+	private static final String KEY = "wishlist:{1}:members";
+	private static final String GENERATION_KEY = "wishlist:{1}:generation";
+
+	@InjectMocks
+	private WishlistMembershipStore wishlistMembershipStore;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private WishlistAccommodationRepository wishlistAccommodationRepository;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("적재된 집합이면 SMISMEMBER 결과로 찜 여부를 판단하고 DB를 조회하지 않는다.")
+	void findWishlisted_hit() {
+		// given
+		given(setOperations.isMember(KEY, "loaded", "100", "101"))
+			.willReturn(Map.of("loaded", true, "100", true, "101", false));
+
+		// when
+		Set<Long> result = wishlistMembershipStore.findWishlisted(1L, List.of(100L, 101L));
+
+		// then
+		assertThat(result).containsExactly(100L);
+		verifyNoInteractions(wishlistAccommodationRepository);
+	}
+
+	@Test
+	@DisplayName("적재 표시가 없으면 DB에서 회원의 찜 숙소 전체를 다시 채운다.")
+	void findWishlisted_miss() {
+		// given
+		given(setOperations.isMember(KEY, "loaded", "100", "101"))
+			.willReturn(Map.of("loaded", false, "100", false, "101", false));
+		given(valueOperations.get(GENERATION_KEY)).willReturn("3");
+		given(wishlistAccommodationRepository.findAccommodationIdsByMemberId(1L)).willReturn(Set.of(101L));
+		given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), any(Object[].class)))
+			.willReturn(1L);
+
+		// when
+		Set<Long> result = wishlistMembershipStore.findWishlisted(1L, List.of(100L, 101L));
+
+		// then
+		assertThat(result).containsExactly(101L);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)),
+			eq("3"), eq("86400"), eq("loaded"), eq("101"));
+	}
+
+	@Test
+	@DisplayName("재적재 중 찜 목록이 바뀌어 집합을 쓰지 못해도 DB에서 읽은 결과는 그대로 반환한다.")
+	void findWishlisted_staleRebuild() {
+		// given
+		given(setOperations.isMember(KEY, "loaded", "100"))
+			.willReturn(Map.of("loaded", false, "100", false));
+		given(wishlistAccommodationRepository.findAccommodationIdsByMemberId(1L)).willReturn(Set.of(100L));
+		given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), any(Object[].class)))
+			.willReturn(0L);
+
+		// when
+		Set<Long> result = wishlistMembershipStore.findWishlisted(1L, List.of(100L));
+
+		// then
+		assertThat(result).containsExactly(100L);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)),
+			eq("0"), eq("86400"), eq("loaded"), eq("100"));
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@DisplayName("적재된 집합이면 SMEMBERS 결과에서 적재 표시를 뺀 찜 숙소 전체를 반환한다.")
+	void findAll_hit() {
+		// given
+		given(setOperations.members(KEY)).willReturn(Set.of("loaded", "100", "101"));
+
+		// when
+		Set<Long> result = wishlistMembershipStore.findAll(1L);
+
+		// then
+		assertThat(result).containsExactlyInAnyOrder(100L, 101L);
+		verifyNoInteractions(wishlistAccommodationRepository);
+	}
+
+	@Test
+	@DisplayName("적재 표시가 없으면 찜 숙소 전체를 DB에서 다시 채워 반환한다.")
+	void findAll_miss() {
+		// given
+		given(setOperations.members(KEY)).willReturn(Set.of());
+		given(valueOperations.get(GENERATION_KEY)).willReturn("3");
+		given(wishlistAccommodationRepository.findAccommodationIdsByMemberId(1L)).willReturn(Set.of(101L));
+		given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), any(Object[].class)))
+			.willReturn(1L);
+
+		// when
+		Set<Long> result = wishlistMembershipStore.findAll(1L);
+
+		// then
+		assertThat(result).containsExactly(101L);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)),
+			eq("3"), eq("86400"), eq("loaded"), eq("101"));
+	}
+
+	@Test
+	@DisplayName("찜 해제는 세대를 올리는 스크립트 한 번으로 집합을 비운다.")
+	void evict() {
+		// when
+		wishlistMembershipStore.evict(1L);
+
+		// then
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), eq("86400"));
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@DisplayName("Redis 조회에 실패하면 기존 DB 조회로 대체한다.")
+	void findWishlisted_redisFailure() {
+		// given
+		given(setOperations.isMember(eq(KEY), any(Object[].class))).willThrow(new QueryTimeoutException("timeout"));
+		given(wishlistAccommodationRepository.findAccommodationIdsByMemberIdAndAccommodationIds(1L, List.of(100L)))
+			.willReturn(Set.of(100L));
+
+		// when
+		Set<Long> result = wishlistMembershipStore.findWishlisted(1L, List.of(100L));
+
+		// then
+		assertThat(result).containsExactly(100L);
+	}
+
+	@Test
+	@DisplayName("비회원은 Redis를 조회하지 않고 빈 집합을 반환한다.")
+	void findWishlisted_anonymous() {
+		// when
+		Set<Long> result = wishlistMembershipStore.findWishlisted(null, List.of(100L));
+
+		// then
+		assertThat(result).isEmpty();
+		verifyNoInteractions(setOperations, wishlistAccommodationRepository);
+	}
+}
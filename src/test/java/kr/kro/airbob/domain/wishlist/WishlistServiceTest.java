@@ -65,6 +65,9 @@ class WishlistServiceTest {
 	@Mock
 	private WishlistAccommodationRepository wishlistAccommodationRepository;
 
+	@Mock
+	private WishlistMembershipStore wishlistMembershipStore;
+
 	@Mock
 	private AccommodationRepository accommodationRepository;
 
@@ -300,6 +303,7 @@ class WishlistServiceTest {
 			verify(wishlistRepository).findById(wishlistId);
 			verify(wishlistAccommodationRepository).deleteAllByWishlistId(wishlistId);
 			verify(wishlistRepository).delete(wishlist);
+			verify(wishlistMembershipStore).evict(1L);
 		}
 
 		@Test
@@ -1003,6 +1007,7 @@ class WishlistServiceTest {
 			verify(wishlistAccommodationRepository).existsByWishlistIdAndAccommodationId(wishlistId, accommodationId);
 			verify(wishlistRepository).findById(wishlistId);
 			verify(wishlistAccommodationRepository).save(any(WishlistAccommodation.class));
+			verify(wishlistMembershipStore).added(1L, accommodationId);
 		}
 
 		@Test
@@ -1660,6 +1665,7 @@ class WishlistServiceTest {
 			// Then
 			verify(wishlistAccommodationRepository).findById(wishlistAccommodationId);
 			verify(wishlistAccommodationRepository).delete(wishlistAccommodation);
+			verify(wishlistMembershipStore).evict(1L);
 
 			// 권한 검증은 인터셉터에서 처리하므로 호출되지 않음
 			verify(wishlistRepository, never()).findById(any());
@@ -0,0 +1,105 @@
+package kr.kro.airbob.geo.gazetteer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kr.kro.airbob.geo.dto.GeocodeResult;
+
+class GazetteerIndexTest {
+
+	private static final List<DistrictFootprint> FOOTPRINTS = List.of(
+		new DistrictFootprint("대한민국", "서울특별시", "종로구", 37.57, 126.98, 37.56, 37.58, 126.97, 126.99, 3L),
+		new DistrictFootprint("대한민국", "서울특별시", "강남구", 37.50, 127.04, 37.49, 37.51, 127.02, 127.06, 1L),
+		new DistrictFootprint("대한민국", "부산광역시", "해운대구", 35.16, 129.16, 35.15, 35.17, 129.15, 129.17, 2L));
+
+	@Test
+	@DisplayName("도시 이름으로 찾으면 숙소 수로 가중한 중심 좌표와, 도시 최소 반경으로 넓힌 범위를 돌려줘야 한다.")
+	void lookupCity() {
+		// given
+		GazetteerIndex index = GazetteerIndex.build(FOOTPRINTS);
+
+		// when
+		GeocodeResult result = index.lookup("  서울특별시 ").orElseThrow().toGeocodeResult();
+
+		// then
+		assertThat(result.success()).isTrue();
+		assertThat(result.formattedAddress()).isEqualTo("서울특별시");
+		assertThat(result.latitude()).isCloseTo(37.5525, within(1e-9)); // 숙소 수 가중 평균
+		assertThat(result.viewport().northeast().lat()).isCloseTo(37.5525 + 15 / 111.0, within(1e-9));
+		assertThat(result.viewport().southwest().lat()).isCloseTo(37.5525 - 15 / 111.0, within(1e-9));
+		assertThat(result.viewport().northeast().lng()).isGreaterThan(127.06);
+		assertThat(result.viewport().southwest().lng()).isLessThan(126.97);
+	}
+
+	@Test
+	@DisplayName("숙소가 하나뿐인 도시도 한 점이 아니라 도시 최소 반경 범위를 돌려줘야 한다.")
+	void padSingleListingCity() {
+		// given
+		GazetteerIndex index = GazetteerIndex.build(List.of(
+			new DistrictFootprint("대한민국", "강릉시", null, 37.75, 128.90, 37.75, 37.75, 128.90, 128.90, 1L)));
+
+		// when
+		GazetteerEntry entry = index.lookup("강릉시").orElseThrow();
+
+		// then
+		assertThat(entry.north() - entry.south()).isCloseTo(30 / 111.0, within(1e-9));
+		assertThat(entry.contains(37.75 + 10 / 111.0, 128.90)).isTrue(); // 10km 떨어진 숙소도 범위 안
+	}
+
+	@Test
+	@DisplayName("새 숙소 좌표가 범위 밖이면 그 숙소의 구/도시 항목만 넓히고, 이름만 같은 다른 도시의 구는 그대로 둬야 한다.")
+	void includeNewListing() {
+		// given
+		GazetteerIndex index = GazetteerIndex.build(List.of(
+			new DistrictFootprint("대한민국", "서울특별시", "중구", 37.56, 126.99, 37.56, 37.56, 126.99, 126.99, 2L),
+			new DistrictFootprint("대한민국", "부산광역시", "중구", 35.10, 129.03, 35.10, 35.10, 129.03, 129.03, 1L)));
+		double latitude = 37.56 + 20 / 111.0;
+
+		// when
+		GazetteerIndex included = index.include("대한민국", "서울특별시", "중구", latitude, 126.99);
+		GazetteerIndex busan = index.include("대한민국", "부산광역시", "중구", 35.10 + 20 / 111.0, 129.03);
+
+		// then
+		assertThat(included.lookup("서울특별시").orElseThrow().contains(latitude, 126.99)).isTrue();
+		assertThat(included.lookup("서울특별시 중구").orElseThrow().contains(latitude, 126.99)).isTrue();
+		assertThat(included.lookup("서울특별시").orElseThrow().listingCount()).isEqualTo(2);
+		assertThat(busan.lookup("중구")).isEqualTo(index.lookup("중구")); // "중구" 키는 숙소가 더 많은 서울 중구
+		assertThat(busan.lookup("부산광역시 중구").orElseThrow().north()).isGreaterThanOrEqualTo(35.10 + 20 / 111.0);
+	}
+
+	@Test
+	@DisplayName("구 이름과 '도시 구' 조합, 접두어로도 찾을 수 있고 모르는 지명은 찾지 못해야 한다.")
+	void lookupDistrictAndPrefix() {
+		// given
+		GazetteerIndex index = GazetteerIndex.build(FOOTPRINTS);
+
+		// when & then
+		assertThat(index.lookup("해운대구")).map(GazetteerEntry::formattedAddress).contains("부산광역시 해운대구");
+		assertThat(index.lookup("서울특별시   종로구")).map(GazetteerEntry::formattedAddress).contains("서울특별시 종로구");
+		assertThat(index.lookup("서울")).map(GazetteerEntry::formattedAddress).contains("서울특별시");
+		assertThat(index.lookup("대한민국")).map(GazetteerEntry::listingCount).contains(6);
+		assertThat(index.lookup("제주")).isEmpty();
+		assertThat(index.lookup("서")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("스냅샷으로 저장한 색인을 다시 읽으면 같은 항목이 복원되어야 한다.")
+	void snapshotRoundTrip(@TempDir Path dir) throws Exception {
+		// given
+		GazetteerIndex index = GazetteerIndex.build(FOOTPRINTS);
+		Path path = dir.resolve("gazetteer.bin");
+
+		// when
+		GazetteerSnapshot.write(path, index);
+		GazetteerIndex restored = GazetteerSnapshot.read(path);
+
+		// then
+		assertThat(restored.entries()).containsExactlyElementsOf(index.entries());
+	}
+}
@@ -0,0 +1,112 @@
+package kr.kro.airbob.geo.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.geo.dto.GeocodeResult;
+
+@ExtendWith(MockitoExtension.class)
+class CachingGeocodingServiceTest {
+
+	@Mock
+	private GoogleGeocodingService delegate;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private SimpleMeterRegistry meterRegistry;
+	private CachingGeocodingService cachingGeocodingService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cachingGeocodingService = new CachingGeocodingService(delegate, redisTemplate, objectMapper, meterRegistry,
+			100, Duration.ofHours(1), Duration.ofDays(7), Duration.ofMinutes(5));
+	}
+
+	@Test
+	@DisplayName("표기만 다른 같은 주소는 두 번째 요청부터 로컬 캐시에서 응답해야 한다.")
+	void localCacheHit() {
+		// given
+		GeocodeResult seoul = GeocodeResult.success(37.5665, 126.9780, "서울특별시", null);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("geocode:seoul")).willReturn(null);
+		given(delegate.getCoordinates(" Seoul ")).willReturn(seoul);
+
+		// when
+		GeocodeResult first = cachingGeocodingService.getCoordinates(" Seoul ");
+		GeocodeResult second = cachingGeocodingService.getCoordinates("seoul");
+
+		// then
+		assertThat(first).isEqualTo(seoul);
+		assertThat(second).isEqualTo(seoul);
+		verify(delegate, times(1)).getCoordinates(anyString());
+		verify(valueOperations).set(eq("geocode:seoul"), anyString(), eq(Duration.ofDays(7).toMillis()),
+			eq(TimeUnit.MILLISECONDS));
+		assertThat(counter("local", "hit")).isEqualTo(1);
+		assertThat(counter("origin", "miss")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Redis에 있는 결과는 Google API를 호출하지 않고 사용해야 한다.")
+	void redisCacheHit() throws Exception {
+		// given
+		GeocodeResult busan = GeocodeResult.success(35.1796, 129.0756, "부산광역시", null);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("geocode:busan")).willReturn(objectMapper.writeValueAsString(busan));
+
+		// when
+		GeocodeResult result = cachingGeocodingService.getCoordinates("Busan");
+
+		// then
+		assertThat(result).isEqualTo(busan);
+		verifyNoInteractions(delegate);
+		assertThat(counter("redis", "hit")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("실패 결과는 짧은 TTL로 캐싱하고, Redis 장애 시에도 Google API로 응답해야 한다.")
+	void negativeCachingWithRedisFailure() {
+		// given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("geocode:nowhere")).willThrow(new QueryTimeoutException("timeout"));
+		given(delegate.getCoordinates("nowhere")).willReturn(GeocodeResult.fail());
+
+		// when
+		GeocodeResult first = cachingGeocodingService.getCoordinates("nowhere");
+		GeocodeResult second = cachingGeocodingService.getCoordinates("nowhere");
+
+		// then
+		assertThat(first.success()).isFalse();
+		assertThat(second.success()).isFalse();
+		verify(delegate, times(1)).getCoordinates("nowhere");
+		verify(valueOperations).set(eq("geocode:nowhere"), anyString(), eq(Duration.ofMinutes(5).toMillis()),
+			eq(TimeUnit.MILLISECONDS));
+		assertThat(meterRegistry.counter("geocoding.cache.negative").count()).isEqualTo(1);
+	}
+
+	private double counter(String tier, String result) {
+		return meterRegistry.counter("geocoding.cache.requests", "tier", tier, "result", result).count();
+	}
+}
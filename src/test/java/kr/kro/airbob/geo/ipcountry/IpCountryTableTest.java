@@ -0,0 +1,69 @@
+package kr.kro.airbob.geo.ipcountry;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kr.kro.airbob.geo.dto.GeocodeResult;
+
+class IpCountryTableTest {
+
+	@Test
+	@DisplayName("CSV로 만든 표에서 IP가 속한 구간의 국가를 찾고, 구간 밖이나 IPv6는 찾지 못해야 한다.")
+	void lookup(@TempDir Path dir) throws Exception {
+		// given
+		Path csv = dir.resolve("ip-country.csv");
+		Files.writeString(csv, """
+			start_ip,end_ip,country_code
+			"1.0.0.0","1.0.0.255","AU"
+			211.36.128.0,211.36.191.255,KR
+			"3758096384","3758096639","JP"
+			255.255.255.0,255.255.255.255,-
+			""");
+		Path binary = dir.resolve("ip-country.bin");
+
+		// when
+		IpCountryTable.compile(csv, binary);
+		IpCountryTable table = IpCountryTable.open(binary);
+
+		// then
+		assertThat(table.size()).isEqualTo(3);
+		assertThat(table.lookup("211.36.150.7")).contains("KR");
+		assertThat(table.lookup("1.0.0.0")).contains("AU");
+		assertThat(table.lookup("224.0.0.255")).contains("JP"); // 3758096384 = 224.0.0.0 (부호 없는 비교)
+		assertThat(table.lookup("1.0.1.0")).isEmpty();
+		assertThat(table.lookup("255.255.255.1")).isEmpty();
+		assertThat(table.lookup("2001:db8::1")).isEmpty();
+		assertThat(table.lookup(null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("점 표기 IPv4만 숫자로 변환하고 형식이 틀리면 -1을 돌려줘야 한다.")
+	void parseIpv4() {
+		assertThat(IpCountryTable.parseIpv4("255.255.255.255")).isEqualTo(0xFFFFFFFFL);
+		assertThat(IpCountryTable.parseIpv4("10.0.0.1")).isEqualTo(0x0A000001L);
+		assertThat(IpCountryTable.parseIpv4("256.0.0.1")).isEqualTo(-1);
+		assertThat(IpCountryTable.parseIpv4("10.0.0")).isEqualTo(-1);
+		assertThat(IpCountryTable.parseIpv4("10..0.1")).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("국가 코드로 국가 범위를 찾을 수 있어야 한다.")
+	void countryViewport() {
+		// given
+		CountryViewports countryViewports = new CountryViewports();
+
+		// when
+		GeocodeResult korea = countryViewports.find("kr").orElseThrow();
+
+		// then
+		assertThat(korea.formattedAddress()).isEqualTo("대한민국");
+		assertThat(korea.viewport().northeast().lat()).isGreaterThan(korea.viewport().southwest().lat());
+		assertThat(countryViewports.find("XX")).isEmpty();
+	}
+}
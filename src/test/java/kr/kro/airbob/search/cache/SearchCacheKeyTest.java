@@ -0,0 +1,87 @@
+package kr.kro.airbob.search.cache;
+
+import static kr.kro.airbob.geo.dto.GoogleGeocodeResponse.Geometry.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.kro.airbob.search.dto.AccommodationSearchRequest;
+
+class SearchCacheKeyTest {
+
+	@Test
+	@DisplayName("검색 영역은 0.01도 격자에 맞춰 바깥쪽으로 넓혀져야 한다.")
+	void snapViewportOutward() {
+		// given
+		Viewport viewport = new Viewport(new Location(37.56712, 126.98153), new Location(37.55198, 126.96421));
+
+		// when
+		Viewport snapped = SearchCacheKey.snap(viewport);
+
+		// then
+		assertThat(snapped.northeast()).isEqualTo(new Location(37.57, 126.99));
+		assertThat(snapped.southwest()).isEqualTo(new Location(37.55, 126.96));
+	}
+
+	@Test
+	@DisplayName("필터 순서만 다른 같은 검색은 같은 캐시 키가 되어야 한다.")
+	void sameKeyForReorderedFilters() {
+		// given
+		Viewport viewport = new Viewport(new Location(37.57, 126.99), new Location(37.55, 126.96));
+		AccommodationSearchRequest.AccommodationSearchRequestDto first = searchRequest(List.of("HOTEL", "APARTMENT"));
+		AccommodationSearchRequest.AccommodationSearchRequestDto second = searchRequest(List.of("APARTMENT", "HOTEL"));
+
+		// when
+		String firstKey = SearchCacheKey.of(first, viewport, PageRequest.of(0, 18));
+		String secondKey = SearchCacheKey.of(second, viewport, PageRequest.of(0, 18));
+
+		// then
+		assertThat(firstKey).isEqualTo(secondKey).startsWith("search:page:");
+		assertThat(SearchCacheKey.of(first, viewport, PageRequest.of(1, 18))).isNotEqualTo(firstKey);
+	}
+
+	@Test
+	@DisplayName("가격 필터는 요청 범위를 넓히지 않도록 천 원 단위로 안쪽으로 맞춰져야 한다.")
+	void roundPriceRange() {
+		// given
+		AccommodationSearchRequest.AccommodationSearchRequestDto request = searchRequest(List.of());
+		ReflectionTestUtils.setField(request, "minPrice", 10_500);
+		ReflectionTestUtils.setField(request, "maxPrice", 49_001);
+
+		// when
+		request.roundPriceRange(1000);
+
+		// then
+		assertThat(request.getMinPrice()).isEqualTo(11_000);
+		assertThat(request.getMaxPrice()).isEqualTo(49_000);
+	}
+
+	@Test
+	@DisplayName("안쪽으로 맞추면 범위가 뒤집히는 좁은 가격 필터는 그대로 두어야 한다.")
+	void keepNarrowPriceRange() {
+		// given
+		AccommodationSearchRequest.AccommodationSearchRequestDto request = searchRequest(List.of());
+		ReflectionTestUtils.setField(request, "minPrice", 10_200);
+		ReflectionTestUtils.setField(request, "maxPrice", 10_800);
+
+		// when
+		request.roundPriceRange(1000);
+
+		// then
+		assertThat(request.getMinPrice()).isEqualTo(10_200);
+		assertThat(request.getMaxPrice()).isEqualTo(10_800);
+	}
+
+	private AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest(List<String> accommodationTypes) {
+		AccommodationSearchRequest.AccommodationSearchRequestDto request =
+			new AccommodationSearchRequest.AccommodationSearchRequestDto();
+		ReflectionTestUtils.setField(request, "accommodationTypes", accommodationTypes);
+		request.setDefaultOccupancy();
+		return request;
+	}
+}
@@ -0,0 +1,72 @@
+package kr.kro.airbob.search.cache;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.search.dto.AccommodationSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+	private static final String PAGE_KEY = "search:page:abc";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private StringRedisConnection connection;
+
+	private SearchResultCache searchResultCache;
+
+	@BeforeEach
+	void setUp() {
+		searchResultCache = new SearchResultCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+			Duration.ofSeconds(60));
+	}
+
+	@Test
+	@DisplayName("페이지와 숙소별 역색인은 파이프라인 한 번으로 저장되어야 한다.")
+	void putInOnePipeline() {
+		// given
+		SearchResultCache.CachedPage page = new SearchResultCache.CachedPage(List.of(listing(1L), listing(2L)), 2);
+
+		// when
+		searchResultCache.put(PAGE_KEY, page);
+
+		// then
+		ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+		verify(redisTemplate).executePipelined(callback.capture());
+		verifyNoMoreInteractions(redisTemplate);
+
+		callback.getValue().doInRedis(connection);
+		verify(connection).pSetEx(eq(PAGE_KEY), eq(60_000L), anyString());
+		verify(connection).sAdd("search:page:by-accommodation:1", PAGE_KEY);
+		verify(connection).pExpire("search:page:by-accommodation:1", 60_000L);
+		verify(connection).sAdd("search:page:by-accommodation:2", PAGE_KEY);
+		verify(connection).pExpire("search:page:by-accommodation:2", 60_000L);
+	}
+
+	private AccommodationSearchResponse.AccommodationSearchInfo listing(long id) {
+		return AccommodationSearchResponse.AccommodationSearchInfo.builder()
+			.id(id)
+			.name("숙소" + id)
+			.build();
+	}
+}
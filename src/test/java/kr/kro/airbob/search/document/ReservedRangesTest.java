@@ -0,0 +1,46 @@
+package kr.kro.airbob.search.document;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+
+class ReservedRangesTest {
+
+	@Test
+	@DisplayName("연속된 날짜는 하나의 [gte, lt) 구간으로 묶이고, 끊긴 날짜는 새 구간이 되어야 한다.")
+	void compactConsecutiveNights() {
+		// given
+		List<LocalDate> nights = List.of(
+			LocalDate.of(2025, 12, 31),
+			LocalDate.of(2025, 12, 30),
+			LocalDate.of(2026, 1, 1),
+			LocalDate.of(2026, 1, 5),
+			LocalDate.of(2026, 1, 5));
+
+		// when
+		List<Range<LocalDate>> ranges = ReservedRanges.compact(nights);
+
+		// then
+		assertThat(ranges).containsExactly(
+			Range.rightOpen(LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 2)),
+			Range.rightOpen(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 6)));
+	}
+
+	@Test
+	@DisplayName("스크립트 파라미터는 색인된 date_range와 같은 gte/lt 문자열 형태여야 한다.")
+	void toParams() {
+		// when
+		List<Map<String, String>> params = ReservedRanges.toParams(
+			List.of(LocalDate.of(2025, 6, 20), LocalDate.of(2025, 6, 21)));
+
+		// then
+		assertThat(params).containsExactly(Map.of("gte", "2025-06-20", "lt", "2025-06-22"));
+		assertThat(ReservedRanges.toParams(List.of())).isEmpty();
+	}
+}
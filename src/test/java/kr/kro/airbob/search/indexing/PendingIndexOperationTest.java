@@ -0,0 +1,77 @@
+package kr.kro.airbob.search.indexing;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.kro.airbob.search.indexing.PendingIndexOperation.Kind;
+
+class PendingIndexOperationTest {
+
+	private static final LocalDate DAY1 = LocalDate.of(2030, 1, 1);
+	private static final LocalDate DAY2 = LocalDate.of(2030, 1, 2);
+	private static final LocalDate DAY3 = LocalDate.of(2030, 1, 3);
+
+	@Test
+	@DisplayName("삭제는 앞뒤 어떤 변경과 합쳐져도 삭제로 남아야 한다.")
+	void deleteWinsOverEverything() {
+		// given
+		PendingIndexOperation reindex = PendingIndexOperation.reindex();
+		PendingIndexOperation delete = PendingIndexOperation.delete();
+
+		// when & then
+		assertThat(reindex.merge(delete).kind()).isEqualTo(Kind.DELETE);
+		assertThat(delete.merge(PendingIndexOperation.reviewSummary()).kind()).isEqualTo(Kind.DELETE);
+	}
+
+	@Test
+	@DisplayName("문서 재색인은 부분 갱신을 흡수해야 한다.")
+	void reindexAbsorbsPartialUpdates() {
+		// given
+		PendingIndexOperation partial = PendingIndexOperation.reservedDatesDelta(List.of(DAY1), List.of());
+
+		// when
+		PendingIndexOperation merged = partial.merge(PendingIndexOperation.reindex());
+
+		// then
+		assertThat(merged.kind()).isEqualTo(Kind.REINDEX);
+		assertThat(merged.hasReservedDatesDelta()).isFalse();
+	}
+
+	@Test
+	@DisplayName("예약 변경분은 순서대로 적용한 결과와 같게 합쳐져야 한다.")
+	void mergeReservedDatesDeltaInOrder() {
+		// given
+		PendingIndexOperation booked = PendingIndexOperation.reservedDatesDelta(List.of(DAY1, DAY2), List.of(DAY3));
+		PendingIndexOperation cancelled = PendingIndexOperation.reservedDatesDelta(List.of(DAY3), List.of(DAY2));
+
+		// when
+		PendingIndexOperation merged = booked.merge(cancelled);
+
+		// then
+		assertThat(merged.kind()).isEqualTo(Kind.PARTIAL);
+		assertThat(merged.addedDates()).containsExactlyInAnyOrder(DAY1, DAY3);
+		assertThat(merged.removedDates()).containsExactly(DAY2);
+	}
+
+	@Test
+	@DisplayName("예약 날짜 전체 재구성이 있으면 변경분은 버리고 리뷰 갱신은 유지해야 한다.")
+	void rebuildDropsDeltaAndKeepsReviewSummary() {
+		// given
+		PendingIndexOperation review = PendingIndexOperation.reviewSummary();
+		PendingIndexOperation delta = PendingIndexOperation.reservedDatesDelta(List.of(DAY1), List.of());
+
+		// when
+		PendingIndexOperation merged = review.merge(delta).merge(PendingIndexOperation.reservedDatesRebuild());
+
+		// then
+		assertThat(merged.reviewSummary()).isTrue();
+		assertThat(merged.reservedDatesRebuild()).isTrue();
+		assertThat(merged.addedDates()).isEmpty();
+		assertThat(merged.hasReservedDatesDelta()).isFalse();
+	}
+}
@@ -0,0 +1,156 @@
+package kr.kro.airbob.search.outbox;
+
+import static kr.kro.airbob.search.event.AccommodationIndexingEvents.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.dlq.service.DeadLetterQueueService;
+import kr.kro.airbob.search.indexing.AccommodationBulkIndexer;
+import kr.kro.airbob.search.indexing.PendingIndexOperation;
+import kr.kro.airbob.search.indexing.PendingIndexOperation.Kind;
+
+@ExtendWith(MockitoExtension.class)
+class IndexingOutboxRelayTest {
+
+	private static final int BATCH_SIZE = 10;
+	private static final int MAX_BATCHES_PER_RELAY = 2;
+	private static final int MAX_ATTEMPTS = 3;
+
+	@Mock
+	private IndexingOutboxRepository outboxRepository;
+
+	@Mock
+	private AccommodationBulkIndexer bulkIndexer;
+
+	@Mock
+	private DeadLetterQueueService dlqService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private IndexingOutboxRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		relay = new IndexingOutboxRelay(outboxRepository, bulkIndexer, dlqService, objectMapper, transactionManager,
+			new SimpleMeterRegistry(), BATCH_SIZE, MAX_BATCHES_PER_RELAY, MAX_ATTEMPTS, Duration.ofSeconds(1),
+			Duration.ofSeconds(30));
+	}
+
+	@Test
+	@DisplayName("같은 숙소의 이벤트는 하나의 색인 작업으로 합쳐 전달하고, 반영된 행은 삭제해야 한다.")
+	void coalesceAndDeleteDelivered() throws Exception {
+		// given
+		LocalDate night = LocalDate.of(2030, 1, 1);
+		IndexingOutboxEvent booked = outboxEvent(1L, 1L,
+			ReservationChangedEvent.booked(1L, night, night.plusDays(1)), 0);
+		IndexingOutboxEvent updated = outboxEvent(2L, 1L, new AccommodationUpdatedEvent(1L), 0);
+		IndexingOutboxEvent deleted = outboxEvent(3L, 2L, new AccommodationDeletedEvent(2L), 0);
+
+		given(outboxRepository.claimBatch(any(), eq(BATCH_SIZE))).willReturn(List.of(booked, updated, deleted));
+		given(bulkIndexer.write(any())).willReturn(Set.of());
+
+		// when
+		relay.relay();
+
+		// then
+		ArgumentCaptor<Map<Long, PendingIndexOperation>> operations = ArgumentCaptor.forClass(Map.class);
+		verify(bulkIndexer).write(operations.capture());
+		assertThat(operations.getValue().get(1L).kind()).isEqualTo(Kind.REINDEX);
+		assertThat(operations.getValue().get(2L).kind()).isEqualTo(Kind.DELETE);
+		verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+	}
+
+	@Test
+	@DisplayName("색인에 실패한 행은 남겨서 재시도하고, 재시도 횟수를 넘기면 DLQ로 옮겨야 한다.")
+	void retryFailedAndDeadLetterExhausted() throws Exception {
+		// given
+		IndexingOutboxEvent retrying = outboxEvent(1L, 1L, new ReviewSummaryChangedEvent(1L), 0);
+		IndexingOutboxEvent exhausted = outboxEvent(2L, 2L, new ReviewSummaryChangedEvent(2L), MAX_ATTEMPTS - 1);
+
+		given(outboxRepository.claimBatch(any(), eq(BATCH_SIZE))).willReturn(List.of(retrying, exhausted));
+		given(bulkIndexer.write(any())).willReturn(Set.of(1L, 2L));
+
+		// when
+		relay.relay();
+
+		// then
+		assertThat(retrying.getAttempts()).isEqualTo(1);
+		verify(dlqService).saveFailedEvent(eq("ReviewSummaryChangedEvent"), any(), any());
+		verify(outboxRepository).deleteAllByIdInBatch(List.of(2L));
+		verify(outboxRepository).saveAll(List.of(retrying));
+	}
+
+	@Test
+	@DisplayName("가져온 행에는 lease를 걸어 색인하는 동안 다른 노드가 다시 가져가지 않게 해야 한다.")
+	void leaseClaimedRows() throws Exception {
+		// given
+		IndexingOutboxEvent event = outboxEvent(1L, 1L, new AccommodationUpdatedEvent(1L), 0);
+		given(outboxRepository.claimBatch(any(), eq(BATCH_SIZE))).willReturn(List.of(event));
+		given(bulkIndexer.write(any())).willAnswer(invocation -> {
+			assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+			return Set.of();
+		});
+
+		// when
+		relay.relay();
+
+		// then
+		verify(bulkIndexer).write(any());
+		verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+	}
+
+	@Test
+	@DisplayName("밀린 이벤트가 많아도 한 번의 릴레이에서는 정해진 배치 수까지만 처리해야 한다.")
+	void limitBatchesPerRelay() throws Exception {
+		// given
+		List<IndexingOutboxEvent> fullBatch = new ArrayList<>();
+		for (long id = 1; id <= BATCH_SIZE; id++) {
+			fullBatch.add(outboxEvent(id, id, new ReviewSummaryChangedEvent(id), 0));
+		}
+		given(outboxRepository.claimBatch(any(), eq(BATCH_SIZE))).willReturn(fullBatch);
+		given(bulkIndexer.write(any())).willReturn(Set.of());
+
+		// when
+		relay.relay();
+
+		// then
+		verify(outboxRepository, times(MAX_BATCHES_PER_RELAY)).claimBatch(any(), eq(BATCH_SIZE));
+	}
+
+	private IndexingOutboxEvent outboxEvent(Long id, Long accommodationId, Object event, int attempts)
+		throws Exception {
+		return IndexingOutboxEvent.builder()
+			.id(id)
+			.accommodationId(accommodationId)
+			.eventType(event.getClass().getSimpleName())
+			.eventData(objectMapper.writeValueAsString(event))
+			.attempts(attempts)
+			.availableAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -0,0 +1,94 @@
+package kr.kro.airbob.search.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import kr.kro.airbob.config.JpaAuditingConfig;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@Import(JpaAuditingConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndexingOutboxRepositoryTest {
+
+	private static final int BATCH_SIZE = 5;
+
+	@Container
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("testdb")
+		.withUsername("user")
+		.withPassword("pass");
+
+	@DynamicPropertySource
+	static void registerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysql::getJdbcUrl);
+		registry.add("spring.datasource.username", mysql::getUsername);
+		registry.add("spring.datasource.password", mysql::getPassword);
+
+		registry.add("spring.flyway.url", mysql::getJdbcUrl);
+		registry.add("spring.flyway.user", mysql::getUsername);
+		registry.add("spring.flyway.password", mysql::getPassword);
+	}
+
+	@Autowired
+	private IndexingOutboxRepository outboxRepository;
+
+	@Test
+	@DisplayName("앞선 행이 재시도 대기 중인 숙소의 행이 배치 크기만큼 쌓여 있어도 다른 숙소의 행을 가져와야 한다.")
+	void skipBlockedAccommodationWithinLimit() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		save(1L, now.plusSeconds(8));
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			save(1L, now.minusSeconds(1));
+		}
+		IndexingOutboxEvent deliverable = save(2L, now.minusSeconds(1));
+
+		// when
+		List<IndexingOutboxEvent> claimed = outboxRepository.claimBatch(now, BATCH_SIZE);
+
+		// then
+		assertThat(claimed).extracting(IndexingOutboxEvent::getId).containsExactly(deliverable.getId());
+	}
+
+	@Test
+	@DisplayName("숙소별로 가장 오래된 행만 가져와야 한다.")
+	void claimOldestRowPerAccommodation() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		IndexingOutboxEvent first = save(1L, now.minusSeconds(2));
+		save(1L, now.minusSeconds(1));
+		IndexingOutboxEvent other = save(2L, now.minusSeconds(1));
+
+		// when
+		List<IndexingOutboxEvent> claimed = outboxRepository.claimBatch(now, BATCH_SIZE);
+
+		// then
+		assertThat(claimed).extracting(IndexingOutboxEvent::getId).containsExactly(first.getId(), other.getId());
+	}
+
+	private IndexingOutboxEvent save(Long accommodationId, LocalDateTime availableAt) {
+		return outboxRepository.saveAndFlush(IndexingOutboxEvent.builder()
+			.accommodationId(accommodationId)
+			.eventType("AccommodationUpdatedEvent")
+			.eventData("{\"accommodationId\":" + accommodationId + "}")
+			.availableAt(availableAt)
+			.build());
+	}
+}
@@ -0,0 +1,258 @@
+package kr.kro.airbob.search.reindex;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetIndexResponse;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import kr.kro.airbob.dlq.service.SlackNotificationService;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.search.document.AccommodationDocument;
+import kr.kro.airbob.search.indexing.AccommodationBulkIndexer;
+import kr.kro.airbob.search.reindex.ReindexProgress.State;
+import kr.kro.airbob.search.service.AccommodationDocumentBuilder;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccommodationReindexerTest {
+
+	private static final String ALIAS = "accommodations";
+	private static final String PREVIOUS_INDEX = "accommodations_v20240101000000";
+	private static final String OLDER_INDEX = "accommodations_v20230101000000";
+
+	@Mock
+	private ElasticsearchOperations elasticsearchOperations;
+
+	@Mock
+	private ElasticsearchClient elasticsearchClient;
+
+	@Mock
+	private ElasticsearchIndicesClient indicesClient;
+
+	@Mock
+	private AccommodationRepository accommodationRepository;
+
+	@Mock
+	private AccommodationDocumentBuilder documentBuilder;
+
+	@Mock
+	private AccommodationBulkIndexer bulkIndexer;
+
+	@Mock
+	private SlackNotificationService slackNotificationService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private IndexOperations documentIndexOps;
+
+	private final Map<String, IndexOperations> indexOpsByName = new ConcurrentHashMap<>();
+
+	private AccommodationReindexer reindexer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		reindexer = new AccommodationReindexer(elasticsearchOperations, elasticsearchClient, accommodationRepository,
+			documentBuilder, bulkIndexer, new SyncTaskExecutor(), slackNotificationService, transactionManager,
+			100, 0, Duration.ofHours(1), 1);
+
+		given(elasticsearchOperations.indexOps(AccommodationDocument.class)).willReturn(documentIndexOps);
+		given(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).willAnswer(invocation ->
+			indexOps(invocation.<IndexCoordinates>getArgument(0).getIndexName()));
+		given(indexOps(ALIAS).getAliases(ALIAS)).willReturn(Map.of(PREVIOUS_INDEX, Set.of()));
+
+		given(elasticsearchClient.indices()).willReturn(indicesClient);
+		GetIndexResponse versionedIndices = mock(GetIndexResponse.class);
+		given(versionedIndices.result()).willReturn(Map.of(
+			PREVIOUS_INDEX, mock(IndexState.class),
+			OLDER_INDEX, mock(IndexState.class)));
+		given(indicesClient.get(any(Function.class))).willReturn(versionedIndices);
+
+		given(accommodationRepository.count()).willReturn(2L);
+		given(accommodationRepository.findIdsAfter(eq(0L), any())).willReturn(List.of(1L, 2L));
+		given(accommodationRepository.findIdsAfter(eq(2L), any())).willReturn(List.of());
+		given(documentBuilder.buildAccommodationDocuments(List.of(1L, 2L))).willReturn(Map.of(
+			1L, mock(AccommodationDocument.class),
+			2L, mock(AccommodationDocument.class)));
+		given(bulkIndexer.drainTracked(anyInt())).willReturn(List.of());
+	}
+
+	@Test
+	@DisplayName("새 인덱스를 채운 뒤 별칭을 한 번의 요청으로 옮기고, 보관 개수를 넘는 이전 인덱스는 삭제해야 한다.")
+	void swapAliasAndDeleteOldIndices() throws Exception {
+		// when
+		String targetIndex = reindexer.start().targetIndex();
+		ReindexProgress progress = awaitFinished();
+
+		// then
+		assertThat(progress.state()).isEqualTo(State.COMPLETED);
+		assertThat(progress.indexed()).isEqualTo(2);
+
+		ArgumentCaptor<AliasActions> aliasActions = ArgumentCaptor.forClass(AliasActions.class);
+		verify(indexOps(ALIAS)).alias(aliasActions.capture());
+		List<AliasAction> actions = aliasActions.getValue().getActions();
+		assertThat(actions).hasSize(2);
+		assertThat(actions.get(0)).isInstanceOf(AliasAction.Remove.class);
+		assertThat(actions.get(0).getParameters().getIndices()).containsExactly(PREVIOUS_INDEX);
+		assertThat(actions.get(1)).isInstanceOf(AliasAction.Add.class);
+		assertThat(actions.get(1).getParameters().getIndices()).containsExactly(targetIndex);
+
+		verify(indexOps(targetIndex), never()).delete();
+		verify(indexOps(PREVIOUS_INDEX), never()).delete();
+		verify(indexOps(OLDER_INDEX)).delete();
+		verify(bulkIndexer).startTracking(Duration.ofHours(1).plusMinutes(10));
+		verify(bulkIndexer).stopTracking();
+	}
+
+	@Test
+	@DisplayName("별칭 교체 전에 색인이 실패하면 별칭은 그대로 두고 새 인덱스를 삭제해야 한다.")
+	void deleteTargetWhenCopyFails() throws Exception {
+		// given
+		given(elasticsearchOperations.bulkIndex(anyList(), any(IndexCoordinates.class)))
+			.willThrow(new RuntimeException("es unavailable"));
+
+		// when
+		String targetIndex = reindexer.start().targetIndex();
+		ReindexProgress progress = awaitFinished();
+
+		// then
+		assertThat(progress.state()).isEqualTo(State.FAILED);
+		assertThat(progress.failed()).isEqualTo(2);
+		verify(indexOps(ALIAS), never()).alias(any());
+		verify(indexOps(targetIndex)).delete();
+		verify(indexOps(OLDER_INDEX), never()).delete();
+	}
+
+	@Test
+	@DisplayName("제한 시간을 넘기면 별칭을 옮기지 않고 새 인덱스를 삭제해야 한다.")
+	void abortWhenMaxDurationExceeded() throws Exception {
+		// given
+		reindexer = new AccommodationReindexer(elasticsearchOperations, elasticsearchClient, accommodationRepository,
+			documentBuilder, bulkIndexer, new SyncTaskExecutor(), slackNotificationService, transactionManager,
+			100, 0, Duration.ZERO, 1);
+
+		// when
+		String targetIndex = reindexer.start().targetIndex();
+		ReindexProgress progress = awaitFinished();
+
+		// then
+		assertThat(progress.state()).isEqualTo(State.FAILED);
+		verify(elasticsearchOperations, never()).bulkIndex(anyList(), any(IndexCoordinates.class));
+		verify(indexOps(ALIAS), never()).alias(any());
+		verify(indexOps(targetIndex)).delete();
+		verify(bulkIndexer).stopTracking();
+	}
+
+	@Test
+	@DisplayName("별칭 교체 후 따라잡기가 실패하면 검색 중인 새 인덱스를 지우지 않고 알림을 보내야 한다.")
+	void keepLiveIndexWhenCatchUpFailsAfterSwap() throws Exception {
+		// given
+		given(bulkIndexer.drainTracked(anyInt()))
+			.willReturn(List.of())
+			.willThrow(new RuntimeException("redis unavailable"));
+
+		// when
+		String targetIndex = reindexer.start().targetIndex();
+		ReindexProgress progress = awaitFinished();
+
+		// then
+		assertThat(progress.state()).isEqualTo(State.FAILED);
+		verify(indexOps(ALIAS)).alias(any());
+		verify(indexOps(targetIndex), never()).delete();
+		verify(slackNotificationService).sendAlert(contains(targetIndex));
+	}
+
+	@Test
+	@DisplayName("재색인이 진행 중이면 새로 시작하지 않고 진행 상황만 돌려줘야 한다.")
+	void ignoreStartWhileRunning() throws Exception {
+		// given
+		given(accommodationRepository.findIdsAfter(eq(0L), any())).willAnswer(invocation -> {
+			Thread.sleep(200);
+			return List.of(1L, 2L);
+		});
+		String firstTarget = reindexer.start().targetIndex();
+
+		// when
+		ReindexProgress second = reindexer.start();
+
+		// then
+		assertThat(second.state()).isEqualTo(State.RUNNING);
+		assertThat(second.targetIndex()).isEqualTo(firstTarget);
+		awaitFinished();
+		verify(documentIndexOps, times(1)).createSettings();
+	}
+
+	@Test
+	@DisplayName("동시에 처리할 페이지 수는 색인 풀의 스레드 수와 큐 크기에서 정해져야 한다.")
+	void deriveMaxInFlightFromExecutor() {
+		// given
+		ThreadPoolTaskExecutor smallQueue = threadPool(4, 2);
+		ThreadPoolTaskExecutor largeQueue = threadPool(4, 100);
+		SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor();
+		virtualThreads.setConcurrencyLimit(8);
+
+		try {
+			// when & then
+			assertThat(AccommodationReindexer.maxInFlight(smallQueue)).isEqualTo(6);
+			assertThat(AccommodationReindexer.maxInFlight(largeQueue)).isEqualTo(8);
+			assertThat(AccommodationReindexer.maxInFlight(virtualThreads)).isEqualTo(8);
+			assertThat(AccommodationReindexer.maxInFlight(new SyncTaskExecutor())).isEqualTo(1);
+		} finally {
+			smallQueue.shutdown();
+			largeQueue.shutdown();
+		}
+	}
+
+	private ThreadPoolTaskExecutor threadPool(int maxSize, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(maxSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.initialize();
+		return executor;
+	}
+
+	private IndexOperations indexOps(String indexName) {
+		return indexOpsByName.computeIfAbsent(indexName, name -> mock(IndexOperations.class));
+	}
+
+	private ReindexProgress awaitFinished() throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		ReindexProgress progress = reindexer.progress();
+		while (progress.state() == State.RUNNING && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+			progress = reindexer.progress();
+		}
+		return progress;
+	}
+}
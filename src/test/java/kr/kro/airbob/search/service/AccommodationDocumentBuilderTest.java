@@ -0,0 +1,133 @@
+package kr.kro.airbob.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.kro.airbob.domain.accommodation.common.AccommodationType;
+import kr.kro.airbob.domain.accommodation.common.AmenityType;
+import kr.kro.airbob.domain.accommodation.dto.AccommodationAmenityName;
+import kr.kro.airbob.domain.accommodation.entity.Accommodation;
+import kr.kro.airbob.domain.accommodation.entity.Address;
+import kr.kro.airbob.domain.accommodation.entity.OccupancyPolicy;
+import kr.kro.airbob.domain.accommodation.exception.AccommodationNotFoundException;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationAmenityRepository;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationImageRepository;
+import kr.kro.airbob.domain.accommodation.repository.AccommodationRepository;
+import kr.kro.airbob.domain.image.AccommodationImage;
+import kr.kro.airbob.domain.member.Member;
+import kr.kro.airbob.domain.reservation.dto.BlockedNight;
+import kr.kro.airbob.domain.reservation.dto.ReservedStay;
+import kr.kro.airbob.domain.reservation.repository.ReservationRepository;
+import kr.kro.airbob.domain.reservation.repository.ReservedDateRepository;
+import kr.kro.airbob.domain.review.repository.AccommodationReviewSummaryRepository;
+import kr.kro.airbob.search.document.AccommodationDocument;
+
+@ExtendWith(MockitoExtension.class)
+class AccommodationDocumentBuilderTest {
+
+	private AccommodationDocumentBuilder documentBuilder;
+
+	@Mock
+	private AccommodationRepository accommodationRepository;
+
+	@Mock
+	private AccommodationAmenityRepository amenityRepository;
+
+	@Mock
+	private ReservationRepository reservationRepository;
+
+	@Mock
+	private ReservedDateRepository reservedDateRepository;
+
+	@Mock
+	private AccommodationImageRepository imageRepository;
+
+	@Mock
+	private AccommodationReviewSummaryRepository reviewSummaryRepository;
+
+	@BeforeEach
+	void setUp() {
+		documentBuilder = new AccommodationDocumentBuilder(accommodationRepository, amenityRepository,
+			new ReservedNightsReader(reservationRepository, reservedDateRepository), imageRepository,
+			reviewSummaryRepository);
+	}
+
+	@Test
+	@DisplayName("여러 숙소의 문서를 숙소 수와 무관하게 한 번씩의 조회로 만들어야 한다.")
+	void buildDocumentsWithSetBasedQueries() {
+		// given
+		LocalDate night = LocalDate.now().plusDays(10);
+		Accommodation first = accommodation(1L, "https://example.com/thumb1.jpg");
+		Accommodation second = accommodation(2L, "https://example.com/thumb2.jpg");
+		AccommodationImage image = mock(AccommodationImage.class);
+		given(image.getAccommodation()).willReturn(first);
+		given(image.getImageUrl()).willReturn("https://example.com/1.jpg");
+
+		given(accommodationRepository.findAllForIndexingByIdIn(List.of(1L, 2L))).willReturn(List.of(first, second));
+		given(amenityRepository.findAmenityNamesByAccommodationIds(List.of(1L, 2L))).willReturn(List.of(
+			new AccommodationAmenityName(1L, AmenityType.WIFI),
+			new AccommodationAmenityName(1L, AmenityType.WIFI),
+			new AccommodationAmenityName(2L, AmenityType.KITCHEN)));
+		given(imageRepository.findAccommodationImagesByAccommodationIds(List.of(1L, 2L))).willReturn(List.of(image));
+		given(reviewSummaryRepository.findByAccommodationIdIn(List.of(1L, 2L))).willReturn(List.of());
+		given(reservationRepository.findFutureStaysByAccommodationIdInAndStatus(eq(List.of(1L, 2L)), any(), any()))
+			.willReturn(List.of(new ReservedStay(1L, night.atStartOfDay(), night.plusDays(2).atStartOfDay())));
+		given(reservedDateRepository.findBlockedNightsByAccommodationIdInFrom(eq(List.of(1L, 2L)), any()))
+			.willReturn(List.of(new BlockedNight(2L, night)));
+
+		// when
+		Map<Long, AccommodationDocument> documents = documentBuilder.buildAccommodationDocuments(List.of(1L, 2L));
+
+		// then
+		assertThat(documents).containsOnlyKeys(1L, 2L);
+		assertThat(documents.get(1L).amenityTypes()).containsExactly("WIFI");
+		assertThat(documents.get(1L).imageUrls()).containsExactly("https://example.com/1.jpg");
+		assertThat(documents.get(1L).reservedRanges()).hasSize(1);
+		assertThat(documents.get(2L).amenityTypes()).containsExactly("KITCHEN");
+		assertThat(documents.get(2L).imageUrls()).containsExactly("https://example.com/thumb2.jpg");
+		assertThat(documents.get(2L).reservedRanges()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 숙소의 단건 문서 생성은 예외가 발생해야 한다.")
+	void buildSingleDocumentNotFound() {
+		// given
+		given(accommodationRepository.findAllForIndexingByIdIn(List.of(99L))).willReturn(List.of());
+
+		// when & then
+		assertThatThrownBy(() -> documentBuilder.buildAccommodationDocument(99L))
+			.isInstanceOf(AccommodationNotFoundException.class);
+	}
+
+	private Accommodation accommodation(Long id, String thumbnailUrl) {
+		return Accommodation.builder()
+			.id(id)
+			.name("숙소" + id)
+			.basePrice(10000)
+			.thumbnailUrl(thumbnailUrl)
+			.type(AccommodationType.APARTMENT)
+			.address(Address.builder()
+				.country("대한민국")
+				.city("서울특별시")
+				.district("종로구")
+				.street("세종대로")
+				.latitude(37.5665)
+				.longitude(126.9780)
+				.build())
+			.occupancyPolicy(OccupancyPolicy.builder().maxOccupancy(4).build())
+			.member(Member.builder().id(10L).nickname("호스트").build())
+			.build();
+	}
+}
@@ -0,0 +1,85 @@
+package kr.kro.airbob.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import kr.kro.airbob.search.dto.AccommodationSearchRequest;
+
+class AccommodationRankingTest {
+
+	private final Query filterQuery = Query.of(q -> q.matchAll(m -> m));
+
+	private AccommodationRanking accommodationRanking;
+
+	@BeforeEach
+	void setUp() {
+		accommodationRanking = new AccommodationRanking();
+		ReflectionTestUtils.setField(accommodationRanking, "enabled", true);
+		ReflectionTestUtils.setField(accommodationRanking, "ratingWeight", 2.0);
+		ReflectionTestUtils.setField(accommodationRanking, "reviewCountWeight", 1.0);
+		ReflectionTestUtils.setField(accommodationRanking, "recencyWeight", 0.5);
+		ReflectionTestUtils.setField(accommodationRanking, "recencyScale", "90d");
+		ReflectionTestUtils.setField(accommodationRanking, "priceWeight", 1.0);
+	}
+
+	@Test
+	@DisplayName("필터 쿼리는 function_score 안에 그대로 감싸져야 한다.")
+	void wrapsFilterQuery() {
+		// when
+		Query ranked = accommodationRanking.rank(filterQuery, searchRequest(null, null));
+
+		// then
+		assertThat(ranked.isFunctionScore()).isTrue();
+		assertThat(ranked.functionScore().query()).isEqualTo(filterQuery);
+		assertThat(ranked.functionScore().functions()).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("최신성 점수의 기준 시각은 날짜 단위로 내림되어야 한다.")
+	void roundsRecencyOriginToDay() {
+		// when
+		Query ranked = accommodationRanking.rank(filterQuery, searchRequest(null, null));
+
+		// then
+		assertThat(ranked.functionScore().functions().get(2).gauss().date().placement().origin())
+			.isEqualTo("now/d");
+	}
+
+	@Test
+	@DisplayName("가격대가 주어지면 가격대 가운데와의 거리 점수가 추가되어야 한다.")
+	void addsPriceDistanceWithBand() {
+		// when
+		Query ranked = accommodationRanking.rank(filterQuery, searchRequest(50_000, 150_000));
+
+		// then
+		assertThat(ranked.functionScore().functions()).hasSize(4);
+		assertThat(ranked.functionScore().functions().getLast().gauss().numeric().placement().origin())
+			.isEqualTo(100_000.0);
+	}
+
+	@Test
+	@DisplayName("랭킹을 끄면 필터 쿼리를 그대로 반환해야 한다.")
+	void disabled() {
+		// given
+		ReflectionTestUtils.setField(accommodationRanking, "enabled", false);
+
+		// when
+		Query ranked = accommodationRanking.rank(filterQuery, searchRequest(50_000, 150_000));
+
+		// then
+		assertThat(ranked).isSameAs(filterQuery);
+	}
+
+	private AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest(Integer minPrice, Integer maxPrice) {
+		AccommodationSearchRequest.AccommodationSearchRequestDto request =
+			new AccommodationSearchRequest.AccommodationSearchRequestDto();
+		ReflectionTestUtils.setField(request, "minPrice", minPrice);
+		ReflectionTestUtils.setField(request, "maxPrice", maxPrice);
+		return request;
+	}
+}
@@ -0,0 +1,332 @@
+package kr.kro.airbob.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.GeoTileGridBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.cursor.dto.CursorResponse;
+import kr.kro.airbob.cursor.util.CursorDecoder;
+import kr.kro.airbob.cursor.util.CursorEncoder;
+import kr.kro.airbob.domain.wishlist.WishlistMembershipStore;
+import kr.kro.airbob.geo.GeocodingService;
+import kr.kro.airbob.geo.IpCountryService;
+import kr.kro.airbob.geo.ViewportAdjuster;
+import kr.kro.airbob.geo.gazetteer.DestinationGazetteer;
+import kr.kro.airbob.search.cache.SearchResultCache;
+import kr.kro.airbob.search.document.AccommodationSearchHit;
+import kr.kro.airbob.search.dto.AccommodationSearchRequest;
+import kr.kro.airbob.search.dto.AccommodationSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class AccommodationSearchServiceTest {
+
+	private static final Duration KEEP_ALIVE = Duration.ofMinutes(1);
+	private static final String NEXT_CURSOR = "next-cursor";
+
+	@Mock
+	private GeocodingService geocodingService;
+
+	@Mock
+	private DestinationGazetteer destinationGazetteer;
+
+	@Mock
+	private IpCountryService ipCountryService;
+
+	@Mock
+	private ViewportAdjuster viewportAdjuster;
+
+	@Mock
+	private ElasticsearchOperations elasticsearchOperations;
+
+	@Mock
+	private WishlistMembershipStore wishlistMembershipStore;
+
+	@Mock
+	private SearchResultCache searchResultCache;
+
+	@Mock
+	private CursorEncoder cursorEncoder;
+
+	@Mock
+	private CursorDecoder cursorDecoder;
+
+	private ExecutorService executor;
+	private AccommodationSearchService searchService;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		AccommodationRanking accommodationRanking = new AccommodationRanking();
+		ReflectionTestUtils.setField(accommodationRanking, "enabled", false);
+
+		searchService = new AccommodationSearchService(geocodingService, destinationGazetteer, ipCountryService,
+			viewportAdjuster, elasticsearchOperations, wishlistMembershipStore,
+			new SearchStageRunner(executor, new SimpleMeterRegistry()), searchResultCache, cursorEncoder,
+			cursorDecoder, accommodationRanking);
+		ReflectionTestUtils.setField(searchService, "viewportTimeout", Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(searchService, "queryTimeout", Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(searchService, "wishlistTimeout", Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(searchService, "cursorKeepAlive", KEEP_ALIVE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.close();
+	}
+
+	@Test
+	@DisplayName("첫 페이지는 point-in-time을 열어 조회하고, 다음 페이지가 있으면 응답의 point-in-time id로 커서를 만들어야 한다.")
+	void firstPageOpensPointInTime() {
+		// given
+		given(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), eq(KEEP_ALIVE))).willReturn("pit-1");
+		SearchHits<AccommodationSearchHit> searchHits = searchHits(List.of(
+			hit(1L, List.of(3.0, 50000, 1)),
+			hit(2L, List.of(2.0, 50000, 2)),
+			hit(3L, List.of(1.0, 50000, 3))), "pit-2");
+		given(elasticsearchOperations.search(any(Query.class), eq(AccommodationSearchHit.class))).willReturn(searchHits);
+		given(cursorEncoder.encode(any())).willReturn(NEXT_CURSOR);
+
+		// when
+		AccommodationSearchResponse.AccommodationCursorSearchInfos result =
+			searchService.searchAccommodationsByCursor(searchRequest(), 1L, "127.0.0.1", mapBounds(), null, 2);
+
+		// then
+		assertThat(result.staySearchResultListing()).extracting(AccommodationSearchResponse.AccommodationSearchInfo::id)
+			.containsExactly(1L, 2L);
+		assertThat(result.pageInfo().hasNext()).isTrue();
+		assertThat(result.pageInfo().nextCursor()).isEqualTo(NEXT_CURSOR);
+
+		NativeQuery query = capturedQueries().getFirst();
+		assertThat(query.getPointInTime().id()).isEqualTo("pit-1");
+		assertThat(query.getPointInTime().keepAlive()).isEqualTo(KEEP_ALIVE);
+		assertThat(query.getSearchAfter()).isNull();
+
+		ArgumentCaptor<CursorResponse.SearchCursorData> cursor =
+			ArgumentCaptor.forClass(CursorResponse.SearchCursorData.class);
+		verify(cursorEncoder).encode(cursor.capture());
+		assertThat(cursor.getValue().getPointInTimeId()).isEqualTo("pit-2");
+		assertThat(cursor.getValue().getSortValues()).containsExactly(2.0, 50000, 2);
+		verify(elasticsearchOperations, never()).closePointInTime(any());
+	}
+
+	@Test
+	@DisplayName("찜 목록은 검색 결과를 기다리지 않고 함께 조회하고, 결과 숙소 중 찜한 숙소만 표시해야 한다.")
+	void loadWishlistWhileSearching() {
+		// given
+		CountDownLatch wishlistStarted = new CountDownLatch(1);
+		given(wishlistMembershipStore.findAll(1L)).willAnswer(invocation -> {
+			wishlistStarted.countDown();
+			return Set.of(2L, 99L);
+		});
+		given(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), eq(KEEP_ALIVE))).willReturn("pit-1");
+		SearchHits<AccommodationSearchHit> searchHits = searchHits(List.of(
+			hit(1L, List.of(2.0, 50000, 1)),
+			hit(2L, List.of(1.0, 50000, 2))), null);
+		// 찜 조회가 검색이 끝난 뒤에야 시작되면 여기서 기다리다 검색 단계가 시간 초과된다
+		given(elasticsearchOperations.search(any(Query.class), eq(AccommodationSearchHit.class))).willAnswer(invocation -> {
+			wishlistStarted.await(5, TimeUnit.SECONDS);
+			return searchHits;
+		});
+
+		// when
+		AccommodationSearchResponse.AccommodationCursorSearchInfos result =
+			searchService.searchAccommodationsByCursor(searchRequest(), 1L, "127.0.0.1", mapBounds(), null, 2);
+
+		// then
+		assertThat(result.staySearchResultListing())
+			.extracting(AccommodationSearchResponse.AccommodationSearchInfo::id,
+				AccommodationSearchResponse.AccommodationSearchInfo::isInWishlist)
+			.containsExactly(tuple(1L, false), tuple(2L, true));
+		verify(wishlistMembershipStore, never()).findWishlisted(any(), any());
+	}
+
+	@Test
+	@DisplayName("커서의 point-in-time과 정렬 값으로 이어서 조회하고, 마지막 페이지면 point-in-time을 닫아야 한다.")
+	void lastPageClosesPointInTime() {
+		// given
+		List<Object> sortValues = List.of(2.0, 50000, 2);
+		given(cursorDecoder.decode("cursor", CursorResponse.SearchCursorData.class))
+			.willReturn(new CursorResponse.SearchCursorData(2L, null, sortValues, "pit-1"));
+		SearchHits<AccommodationSearchHit> searchHits = searchHits(List.of(hit(3L, List.of(1.0, 50000, 3))), null);
+		given(elasticsearchOperations.search(any(Query.class), eq(AccommodationSearchHit.class))).willReturn(searchHits);
+
+		// when
+		AccommodationSearchResponse.AccommodationCursorSearchInfos result =
+			searchService.searchAccommodationsByCursor(searchRequest(), 1L, "127.0.0.1", mapBounds(), "cursor", 2);
+
+		// then
+		assertThat(result.pageInfo().hasNext()).isFalse();
+		assertThat(result.pageInfo().nextCursor()).isNull();
+
+		NativeQuery query = capturedQueries().getFirst();
+		assertThat(query.getPointInTime().id()).isEqualTo("pit-1");
+		assertThat(query.getSearchAfter()).isEqualTo(sortValues);
+		verify(elasticsearchOperations, never()).openPointInTime(any(IndexCoordinates.class), any());
+		verify(elasticsearchOperations).closePointInTime("pit-1");
+	}
+
+	@Test
+	@DisplayName("커서의 point-in-time이 만료되었으면 새로 열어 같은 위치부터 이어서 조회해야 한다.")
+	void reopenExpiredPointInTime() {
+		// given
+		List<Object> sortValues = List.of(2.0, 50000, 2);
+		given(cursorDecoder.decode("cursor", CursorResponse.SearchCursorData.class))
+			.willReturn(new CursorResponse.SearchCursorData(2L, null, sortValues, "expired-pit"));
+		given(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), eq(KEEP_ALIVE)))
+			.willReturn("new-pit");
+		SearchHits<AccommodationSearchHit> searchHits = searchHits(List.of(hit(3L, List.of(1.0, 50000, 3))), null);
+		given(elasticsearchOperations.search(any(Query.class), eq(AccommodationSearchHit.class)))
+			.willThrow(new DataAccessResourceFailureException(
+				"[search_context_missing_exception] No search context found for id [42]"))
+			.willReturn(searchHits);
+
+		// when
+		AccommodationSearchResponse.AccommodationCursorSearchInfos result =
+			searchService.searchAccommodationsByCursor(searchRequest(), 1L, "127.0.0.1", mapBounds(), "cursor", 2);
+
+		// then
+		assertThat(result.staySearchResultListing()).extracting(AccommodationSearchResponse.AccommodationSearchInfo::id)
+			.containsExactly(3L);
+		List<NativeQuery> queries = capturedQueries();
+		assertThat(queries).hasSize(2);
+		assertThat(queries.getLast().getPointInTime().id()).isEqualTo("new-pit");
+		assertThat(queries.getLast().getSearchAfter()).isEqualTo(sortValues);
+	}
+
+	@Test
+	@DisplayName("point-in-time 만료가 아닌 검색 실패는 그대로 전파해야 한다.")
+	void propagateOtherFailures() {
+		// given
+		given(cursorDecoder.decode("cursor", CursorResponse.SearchCursorData.class))
+			.willReturn(new CursorResponse.SearchCursorData(2L, null, List.of(2.0, 50000, 2), "pit-1"));
+		given(elasticsearchOperations.search(any(Query.class), eq(AccommodationSearchHit.class)))
+			.willThrow(new DataAccessResourceFailureException("connection refused"));
+
+		// when & then
+		assertThatThrownBy(() ->
+			searchService.searchAccommodationsByCursor(searchRequest(), 1L, "127.0.0.1", mapBounds(), "cursor", 2))
+			.isInstanceOf(DataAccessResourceFailureException.class);
+		verify(elasticsearchOperations, never()).openPointInTime(any(IndexCoordinates.class), any());
+	}
+
+	@Test
+	@DisplayName("클러스터 집계는 줌보다 촘촘한 격자로 묶고, 격자별 숙소 수/최저가/중심 좌표를 반환해야 한다.")
+	void clusterAccommodations() {
+		// given
+		GeoTileGridBucket bucket = GeoTileGridBucket.of(b -> b
+			.key("12/3492/1586")
+			.docCount(3)
+			.aggregations(Map.of(
+				"minPrice", Aggregate.of(a -> a.min(m -> m.value(45000.0))),
+				"center", Aggregate.of(a -> a.geoCentroid(c -> c
+					.count(3)
+					.location(l -> l.latlon(ll -> ll.lat(37.55).lon(127.01))))))));
+		SearchHits<AccommodationSearchHit> searchHits = mock(SearchHits.class);
+		given(searchHits.getTotalHits()).willReturn(3L);
+		given(searchHits.getAggregations()).willReturn(new ElasticsearchAggregations(Map.of(
+			"clusters", Aggregate.of(a -> a.geotileGrid(g -> g.buckets(buckets -> buckets.array(List.of(bucket))))))));
+		given(elasticsearchOperations.search(any(Query.class), eq(AccommodationSearchHit.class))).willReturn(searchHits);
+
+		// when
+		AccommodationSearchResponse.AccommodationClusterInfos result =
+			searchService.clusterAccommodations(searchRequest(), "127.0.0.1", mapBounds(), 10);
+
+		// then
+		assertThat(result.totalCount()).isEqualTo(3);
+		assertThat(result.clusters()).hasSize(1);
+		AccommodationSearchResponse.AccommodationClusterInfo cluster = result.clusters().getFirst();
+		assertThat(cluster.tile()).isEqualTo("12/3492/1586");
+		assertThat(cluster.count()).isEqualTo(3);
+		assertThat(cluster.coordinate().latitude()).isEqualTo(37.55);
+		assertThat(cluster.coordinate().longitude()).isEqualTo(127.01);
+		assertThat(cluster.minPricePerNight()).isEqualTo(AccommodationSearchResponse.PriceResponse.of(45000L));
+
+		NativeQuery query = capturedQueries().getFirst();
+		assertThat(query.getMaxResults()).isZero();
+		assertThat(query.getAggregations().get("clusters").geotileGrid().precision()).isEqualTo(12);
+	}
+
+	@Test
+	@DisplayName("집계 결과가 없으면 빈 클러스터 목록을 반환해야 한다.")
+	void clusterAccommodationsWithoutAggregations() {
+		// given
+		SearchHits<AccommodationSearchHit> searchHits = mock(SearchHits.class);
+		given(elasticsearchOperations.search(any(Query.class), eq(AccommodationSearchHit.class))).willReturn(searchHits);
+
+		// when
+		AccommodationSearchResponse.AccommodationClusterInfos result =
+			searchService.clusterAccommodations(searchRequest(), "127.0.0.1", mapBounds(), 10);
+
+		// then
+		assertThat(result.clusters()).isEmpty();
+		assertThat(result.totalCount()).isZero();
+	}
+
+	private List<NativeQuery> capturedQueries() {
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(elasticsearchOperations, atLeastOnce()).search(query.capture(), eq(AccommodationSearchHit.class));
+		return query.getAllValues().stream().map(NativeQuery.class::cast).toList();
+	}
+
+	private SearchHits<AccommodationSearchHit> searchHits(List<SearchHit<AccommodationSearchHit>> hits,
+		String pointInTimeId) {
+		SearchHits<AccommodationSearchHit> searchHits = mock(SearchHits.class);
+		given(searchHits.getSearchHits()).willReturn(hits);
+		given(searchHits.getPointInTimeId()).willReturn(pointInTimeId);
+		return searchHits;
+	}
+
+	private SearchHit<AccommodationSearchHit> hit(Long accommodationId, List<Object> sortValues) {
+		SearchHit<AccommodationSearchHit> hit = mock(SearchHit.class);
+		lenient().when(hit.getContent()).thenReturn(new AccommodationSearchHit(accommodationId, "숙소" + accommodationId, 50000,
+			null, "강남구", "테헤란로", List.of(), 4.5, 10, "host"));
+		lenient().when(hit.getSortValues()).thenReturn(sortValues);
+		return hit;
+	}
+
+	private AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest() {
+		AccommodationSearchRequest.AccommodationSearchRequestDto searchRequest =
+			new AccommodationSearchRequest.AccommodationSearchRequestDto();
+		ReflectionTestUtils.setField(searchRequest, "adultOccupancy", 2);
+		return searchRequest;
+	}
+
+	private AccommodationSearchRequest.MapBoundsDto mapBounds() {
+		AccommodationSearchRequest.MapBoundsDto mapBounds = new AccommodationSearchRequest.MapBoundsDto();
+		ReflectionTestUtils.setField(mapBounds, "topLeftLat", 37.6);
+		ReflectionTestUtils.setField(mapBounds, "topLeftLng", 126.9);
+		ReflectionTestUtils.setField(mapBounds, "bottomRightLat", 37.5);
+		ReflectionTestUtils.setField(mapBounds, "bottomRightLng", 127.1);
+		return mapBounds;
+	}
+}
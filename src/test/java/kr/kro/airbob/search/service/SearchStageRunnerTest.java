@@ -0,0 +1,120 @@
+package kr.kro.airbob.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kro.airbob.search.exception.SearchTimeoutException;
+
+class SearchStageRunnerTest {
+
+	private ExecutorService executor;
+	private SimpleMeterRegistry meterRegistry;
+	private SearchStageRunner stageRunner;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		meterRegistry = new SimpleMeterRegistry();
+		stageRunner = new SearchStageRunner(executor, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.close();
+	}
+
+	@Test
+	@DisplayName("부가 단계가 제한 시간을 넘기면 기본값으로 대체되고 타임아웃이 기록되어야 한다.")
+	void awaitOrDefault_timeout() {
+		// given
+		CompletableFuture<Set<Long>> future = stageRunner.start("wishlist", () -> {
+			sleep(Duration.ofSeconds(2));
+			return Set.of(1L);
+		});
+
+		// when
+		Set<Long> result = stageRunner.awaitOrDefault("wishlist", future, Duration.ofMillis(50), Set::of);
+
+		// then
+		assertThat(result).isEmpty();
+		assertThat(future).isCancelled();
+		assertThat(meterRegistry.counter("search.stage.timeouts", "stage", "wishlist").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("부가 단계가 실패하면 예외 대신 기본값을 반환해야 한다.")
+	void awaitOrDefault_failure() {
+		// given
+		CompletableFuture<Set<Long>> future = stageRunner.start("wishlist", () -> {
+			throw new IllegalStateException("db down");
+		});
+
+		// when
+		Set<Long> result = stageRunner.awaitOrDefault("wishlist", future, Duration.ofSeconds(1), Set::of);
+
+		// then
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@DisplayName("필수 단계가 제한 시간을 넘기면 SearchTimeoutException이 발생해야 한다.")
+	void await_timeout() {
+		// given
+		CompletableFuture<String> future = stageRunner.start("query", () -> {
+			sleep(Duration.ofSeconds(2));
+			return "hits";
+		});
+
+		// when & then
+		assertThatThrownBy(() -> stageRunner.await("query", future, Duration.ofMillis(50)))
+			.isInstanceOf(SearchTimeoutException.class);
+	}
+
+	@Test
+	@DisplayName("필수 단계의 실패는 원래 예외로 전파되어야 한다.")
+	void await_failure() {
+		// given
+		CompletableFuture<String> future = stageRunner.start("query", () -> {
+			throw new IllegalArgumentException("bad query");
+		});
+
+		// when & then
+		assertThatThrownBy(() -> stageRunner.await("query", future, Duration.ofSeconds(1)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("bad query");
+	}
+
+	@Test
+	@DisplayName("성공한 단계는 단계/결과 태그로 소요 시간이 기록되어야 한다.")
+	void start_recordsDuration() {
+		// given
+		CompletableFuture<String> future = stageRunner.start("viewport", () -> "seoul");
+
+		// when
+		String result = stageRunner.await("viewport", future, Duration.ofSeconds(1));
+
+		// then
+		assertThat(result).isEqualTo("seoul");
+		assertThat(meterRegistry.timer("search.stage.duration", "stage", "viewport", "outcome", "success").count())
+			.isEqualTo(1);
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}